@@ -0,0 +1,44 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading of the teams and lookups of saved users in {@link DataManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DataManagerBenchmark {
+    private DataManager dataManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.dataManager = new DataManager(new UserStore(Files.createTempDirectory("fpl-users").resolve(UserStore.LOG_FILE_NAME)));
+    }
+
+    @Benchmark
+    public DataManager loadTeams() {
+        return new DataManager();
+    }
+
+    @Benchmark
+    public int findUserMissing() {
+        return this.dataManager.findUser("No such team");
+    }
+}
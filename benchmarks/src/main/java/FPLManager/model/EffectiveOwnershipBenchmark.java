@@ -0,0 +1,66 @@
+package FPLManager.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures counting the effective ownership of a sample of already loaded picks, per sample size,
+ * on the common fork-join pool and on a single thread. The picks are generated from a fixed seed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EffectiveOwnershipBenchmark {
+    private static final long SEED = 2500;
+    private static final int PLAYERS = 700;
+
+    @Param({"1000", "10000", "100000"})
+    public int entries;
+
+    private List<int[]> picks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        this.picks = new ArrayList<>(this.entries);
+        for (int i = 0; i < this.entries; i++) {
+            int[] entry = new int[1 + 2 * SquadSolver.SQUAD_SIZE];
+            for (int p = 0; p < SquadSolver.SQUAD_SIZE; p++) {
+                entry[1 + 2 * p] = 1 + (int) Math.min(PLAYERS - 1, Math.abs(random.nextGaussian()) * PLAYERS / 4);
+                entry[2 + 2 * p] = p >= 11 ? 0 : p == 0 ? 2 : 1;
+            }
+            this.picks.add(entry);
+        }
+    }
+
+    @Benchmark
+    public EffectiveOwnership.Sample countParallel() {
+        return EffectiveOwnership.count(this.picks);
+    }
+
+    @Benchmark
+    public EffectiveOwnership.Sample countSequential() {
+        EffectiveOwnership.Sample sample = new EffectiveOwnership.Sample();
+        for (int[] entry : this.picks) {
+            sample.add(entry);
+        }
+        return sample;
+    }
+}
@@ -0,0 +1,133 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Measures the fixture lookups behind the "GW n" columns for the recorded squad of 15 players.
+ * The scan that {@link FixtureIndex} replaced is kept here as a reference, so the two stay comparable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FixtureBenchmark {
+    private static final int[] SQUAD = {20, 50, 23, 41, 44, 47, 86, 8, 11, 14, 26, 29, 5, 17, 35};
+
+    private final int[] squadTeams = new int[SQUAD.length];
+    private List<Map<String, Object>> allFixtures;
+    private ArrayList<ArrayList<String>> teams;
+    private FixtureIndex fixtureIndex;
+    private Map<Integer, List<Map<String, Object>>> remainingFixtures;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        this.allFixtures = transport.readerFor(new TypeReference<List<Map<String, Object>>>() {}).readValue(RecordedPayloads.read("fixtures/"));
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            Map<Integer, ElementData> elements = FPLAPI.readAllElements(parser, transport);
+            for (int i = 0; i < SQUAD.length; i++) {
+                this.squadTeams[i] = elements.get(SQUAD[i]).team();
+            }
+        }
+        this.teams = new DataManager().getTeams();
+        this.fixtureIndex = new FixtureIndex(this.allFixtures, RecordedPayloads.NEXT_GW, this.teams);
+        this.remainingFixtures = buildRemainingFixtures(this.allFixtures, RecordedPayloads.NEXT_GW);
+    }
+
+    @Benchmark
+    public FixtureIndex buildIndex() {
+        return new FixtureIndex(this.allFixtures, RecordedPayloads.NEXT_GW, this.teams);
+    }
+
+    @Benchmark
+    public int refreshUnchanged() {
+        return this.fixtureIndex.refresh(this.allFixtures, RecordedPayloads.NEXT_GW);
+    }
+
+    @Benchmark
+    public void squadLabelsIndexed(Blackhole blackhole) {
+        for (int team : this.squadTeams) {
+            for (int gw = RecordedPayloads.NEXT_GW; gw <= FixtureIndex.GAMEWEEKS; gw++) {
+                blackhole.consume(this.fixtureIndex.getLabel(team, gw));
+            }
+        }
+    }
+
+    @Benchmark
+    public void squadFixturesScanned(Blackhole blackhole) {
+        for (int team : this.squadTeams) {
+            blackhole.consume(scanFixtures(team));
+        }
+    }
+
+    /**
+     * The fixture list the application built before {@link FixtureIndex}, grouped by gameweek.
+     *
+     * @param allFixtures the parsed 'fixtures/' response
+     * @param nextGW the next gameweek
+     * @return a map from gameweek to the home and away team of each fixture
+     */
+    private static Map<Integer, List<Map<String, Object>>> buildRemainingFixtures(List<Map<String, Object>> allFixtures, int nextGW) {
+        Map<Integer, List<Map<String, Object>>> remainingFixtures = new HashMap<>();
+        for (Map<String, Object> fixture : allFixtures) {
+            int gameweek = (fixture.get("event") != null) ? (Integer) fixture.get("event") : -1;
+            if (gameweek >= nextGW) {
+                Map<String, Object> fixtureData = new HashMap<>();
+                fixtureData.put("HomeTeam", fixture.get("team_h"));
+                fixtureData.put("AwayTeam", fixture.get("team_a"));
+                remainingFixtures.computeIfAbsent(gameweek, k -> new ArrayList<>()).add(fixtureData);
+            }
+        }
+        return remainingFixtures;
+    }
+
+    /**
+     * The per-player scan the application ran before {@link FixtureIndex}.
+     *
+     * @param teamID the team of the player
+     * @return a map of fixture labels by gameweek
+     */
+    private Map<Integer, List<String>> scanFixtures(int teamID) {
+        Map<Integer, List<String>> fixtures = new TreeMap<>();
+        for (int gw = RecordedPayloads.NEXT_GW; gw < 39; gw++) {
+            List<String> fixture = new ArrayList<>();
+            List<Map<String, Object>> fixtureList = this.remainingFixtures.get(gw);
+            if (fixtureList != null) {
+                for (Map<String, Object> match : fixtureList) {
+                    if (match.get("HomeTeam").equals(teamID)) {
+                        fixture.add(this.teams.get((int) match.get("AwayTeam") - 1).get(1) + "(H)");
+                    } else if (match.get("AwayTeam").equals(teamID)) {
+                        fixture.add(this.teams.get((int) match.get("HomeTeam") - 1).get(1) + "(A)");
+                    }
+                }
+            }
+            if (!fixture.isEmpty()) {
+                fixtures.put(gw, fixture);
+            }
+        }
+        return fixtures;
+    }
+}
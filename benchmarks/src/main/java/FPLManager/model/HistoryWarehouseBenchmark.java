@@ -0,0 +1,99 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the queries of the {@link HistoryWarehouse} over five full seasons of 700 players,
+ * and opening the warehouse, which reads every partition. The histories are generated from a fixed seed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HistoryWarehouseBenchmark {
+    private static final long SEED = 4100;
+    private static final int PLAYERS = 700;
+    private static final int SEASONS = 5;
+    private static final int LATEST_SEASON = 2025;
+
+    private Path directory;
+    private HistoryWarehouse warehouse;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("fpl-history");
+        this.warehouse = new HistoryWarehouse(this.directory);
+        Random random = new Random(SEED);
+        for (int season = LATEST_SEASON - SEASONS + 1; season <= LATEST_SEASON; season++) {
+            List<List<GameweekHistory>> histories = new ArrayList<>();
+            for (int id = 1; id <= PLAYERS; id++) {
+                List<GameweekHistory> history = new ArrayList<>();
+                int price = 40 + random.nextInt(100);
+                int selected = random.nextInt(1_000_000);
+                for (int gw = 1; gw <= FixtureIndex.GAMEWEEKS; gw++) {
+                    price += random.nextInt(3) - 1;
+                    selected = Math.max(0, selected + random.nextInt(20_000) - 10_000);
+                    history.add(new GameweekHistory(id, gw, random.nextInt(15), price, selected, random.nextInt(50_000), random.nextInt(50_000)));
+                }
+                histories.add(history);
+            }
+            this.warehouse.ingestHistories(season, histories, FixtureIndex.GAMEWEEKS, 10_000_000);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public double[] formOverLastFiveGameweeks() {
+        return this.warehouse.getForm(LATEST_SEASON, FixtureIndex.GAMEWEEKS, 5);
+    }
+
+    @Benchmark
+    public double[] formOverWholeSeason() {
+        return this.warehouse.getForm(LATEST_SEASON, FixtureIndex.GAMEWEEKS, FixtureIndex.GAMEWEEKS);
+    }
+
+    @Benchmark
+    public int[] priceTrajectory() {
+        return this.warehouse.getPriceTrajectory(LATEST_SEASON, PLAYERS / 2);
+    }
+
+    @Benchmark
+    public float[] ownershipDelta() {
+        return this.warehouse.getOwnershipDelta(LATEST_SEASON, 1, FixtureIndex.GAMEWEEKS);
+    }
+
+    @Benchmark
+    public HistoryWarehouse open() throws IOException {
+        return new HistoryWarehouse(this.directory);
+    }
+}
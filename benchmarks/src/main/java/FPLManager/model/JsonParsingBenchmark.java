@@ -0,0 +1,70 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Measures parsing of the recorded 'bootstrap-static/' and 'fixtures/' payloads,
+ * the way {@link FPLAPI} and {@link SeasonDataCache} read them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonParsingBenchmark {
+    private static final Set<Integer> SQUAD = Set.of(20, 50, 23, 41, 44, 47, 86, 8, 11, 14, 26, 29, 5, 17, 35);
+
+    private FPLTransport transport;
+    private byte[] bootstrapStatic;
+    private byte[] fixtures;
+
+    @Setup
+    public void setUp() {
+        this.transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        this.bootstrapStatic = RecordedPayloads.read("bootstrap-static/");
+        this.fixtures = RecordedPayloads.read("fixtures/");
+    }
+
+    @Benchmark
+    public Map<String, Object> bootstrapStaticTree() throws IOException {
+        return this.transport.readerFor(new TypeReference<Map<String, Object>>() {}).readValue(this.bootstrapStatic);
+    }
+
+    @Benchmark
+    public Map<Integer, ElementData> bootstrapStaticAllElements() throws IOException {
+        try (JsonParser parser = this.transport.getObjectMapper().createParser(this.bootstrapStatic)) {
+            return FPLAPI.readAllElements(parser, this.transport);
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, ElementData> bootstrapStaticSquadElements() throws IOException {
+        try (JsonParser parser = this.transport.getObjectMapper().createParser(this.bootstrapStatic)) {
+            return FPLAPI.readElements(parser, this.transport, () -> SQUAD::contains);
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> fixtures() throws IOException {
+        return this.transport.readerFor(new TypeReference<List<Map<String, Object>>>() {}).readValue(this.fixtures);
+    }
+}
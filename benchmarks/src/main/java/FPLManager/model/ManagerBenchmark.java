@@ -0,0 +1,111 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the manager lookup path: whole lookups against the recorded payloads served over local HTTP
+ * or replayed from a snapshot archive, and the steps {@link Manager} runs on the loaded data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ManagerBenchmark {
+    private RecordedPayloads payloads;
+    private FPLTransport transport;
+    private SeasonDataCache cache;
+    private DataManager dataManager;
+    private Path archivePath;
+    private SnapshotArchive archive;
+    private Path binarySnapshotPath;
+    private FPLAPI managerData;
+    private Map<String, Object> chipsAvailable;
+    private List<Player> shuffledPlayers;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.payloads = new RecordedPayloads();
+        this.transport = new FPLTransport(this.payloads.serve());
+        this.cache = new SeasonDataCache(this.transport, Duration.ofDays(1));
+        this.cache.get();
+        this.dataManager = new DataManager();
+        this.archivePath = RecordedPayloads.writeArchive();
+        this.archive = new SnapshotArchive(this.archivePath);
+        this.managerData = new FPLAPI(RecordedPayloads.MANAGER_ID, this.cache);
+        this.binarySnapshotPath = Files.createTempFile("fpl-snapshot", BinarySnapshot.FILE_EXTENSION);
+        BinarySnapshot.write(this.binarySnapshotPath, this.managerData, this.cache.get(), this.dataManager.getTeams());
+
+        Manager manager = new Manager(RecordedPayloads.MANAGER_ID, this.managerData, this.dataManager);
+        this.chipsAvailable = manager.getChipsAvailable();
+        this.shuffledPlayers = new ArrayList<>(manager.getTeamPlayers());
+        Collections.shuffle(this.shuffledPlayers, new Random(42));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.payloads.close();
+        this.archive.close();
+        Files.deleteIfExists(this.archivePath);
+        Files.deleteIfExists(this.binarySnapshotPath);
+    }
+
+    @Benchmark
+    public Manager lookupUncached() {
+        return new Manager(RecordedPayloads.MANAGER_ID, new FPLAPI(RecordedPayloads.MANAGER_ID, this.transport), this.dataManager);
+    }
+
+    @Benchmark
+    public Manager lookupWithSeasonCache() {
+        return new Manager(RecordedPayloads.MANAGER_ID, new FPLAPI(RecordedPayloads.MANAGER_ID, this.cache), this.dataManager);
+    }
+
+    @Benchmark
+    public Manager lookupFromSnapshot() {
+        return new Manager(RecordedPayloads.MANAGER_ID, new SnapshotDataRetriever(this.archive, RecordedPayloads.MANAGER_ID), this.dataManager);
+    }
+
+    @Benchmark
+    public Manager lookupFromBinarySnapshot() throws IOException {
+        return new Manager(RecordedPayloads.MANAGER_ID, BinarySnapshot.read(this.binarySnapshotPath), this.dataManager);
+    }
+
+    @Benchmark
+    public Manager buildFromLoadedData() {
+        return new Manager(RecordedPayloads.MANAGER_ID, this.managerData, this.dataManager);
+    }
+
+    @Benchmark
+    public int calculateAvailableTransfers() {
+        return Manager.calculateAvailableTransfers(this.managerData.getTransferHistory(), this.chipsAvailable, this.managerData.getNextGW());
+    }
+
+    @Benchmark
+    public List<Player> sortByPosition() {
+        List<Player> players = new ArrayList<>(this.shuffledPlayers);
+        players.sort(new PlayerPositionComparator());
+        return players;
+    }
+}
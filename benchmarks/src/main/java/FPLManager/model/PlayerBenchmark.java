@@ -0,0 +1,69 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Measures construction of the {@link Player} subclasses, one position at a time,
+ * for every player of that position in the recorded 'bootstrap-static/' payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PlayerBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    public int elementType;
+
+    private List<ElementData> players;
+    private FixtureIndex fixtureIndex;
+    private DataManager dataManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        Map<Integer, ElementData> elements;
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            elements = FPLAPI.readAllElements(parser, transport);
+        }
+        this.players = new ArrayList<>();
+        for (ElementData element : elements.values()) {
+            if (element.elementType() == this.elementType) {
+                this.players.add(element);
+            }
+        }
+        List<Map<String, Object>> allFixtures = transport.readerFor(new TypeReference<List<Map<String, Object>>>() {})
+                .readValue(RecordedPayloads.read("fixtures/"));
+        this.dataManager = new DataManager();
+        this.fixtureIndex = new FixtureIndex(allFixtures, RecordedPayloads.NEXT_GW, this.dataManager.getTeams());
+    }
+
+    @Benchmark
+    public void construct(Blackhole blackhole) {
+        for (ElementData player : this.players) {
+            blackhole.consume(Player.create(player.id(), RecordedPayloads.NEXT_GW, player, this.fixtureIndex, this.dataManager));
+        }
+    }
+}
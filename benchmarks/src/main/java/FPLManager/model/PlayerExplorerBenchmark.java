@@ -0,0 +1,65 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Measures one interaction of the player explorer, filtering the whole pool and reading one sorted page,
+ * which has to stay well under a millisecond to feel instant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PlayerExplorerBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"PRICE", "XG_90", "TRANSFER_BALANCE"})
+    public PlayerExplorer.SortKey sortKey;
+
+    private PlayerTable table;
+    private PlayerExplorer explorer;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            this.table = new PlayerTable(FPLAPI.readAllElements(parser, transport).values());
+        }
+        this.explorer = new PlayerExplorer(this.table);
+    }
+
+    @Benchmark
+    public PlayerExplorer buildExplorer() {
+        return new PlayerExplorer(this.table);
+    }
+
+    @Benchmark
+    public List<PlayerTable.Row> firstPageOfAll() {
+        return this.explorer.page(this.explorer.all(), this.sortKey, true, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<PlayerTable.Row> filteredPage() {
+        BitSet mask = this.explorer.filter(3, PlayerExplorer.ANY, 45, 80);
+        return this.explorer.page(mask, this.sortKey, false, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,70 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Compares a whole-pool query, "all midfielders up to 7.0 by xG", over the map of typed player data and over {@link PlayerTable}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PlayerTableBenchmark {
+    private static final int MIDFIELDER = 3;
+    private static final int MAX_COST = 70;
+
+    private Map<Integer, ElementData> elements;
+    private PlayerTable table;
+    private float[] xG90;
+    private int[] ids;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            this.elements = FPLAPI.readAllElements(parser, transport);
+        }
+        this.table = new PlayerTable(this.elements.values());
+        this.xG90 = this.table.getXG90();
+        this.ids = new int[this.table.size()];
+    }
+
+    @Benchmark
+    public PlayerTable buildTable() {
+        return new PlayerTable(this.elements.values());
+    }
+
+    @Benchmark
+    public List<ElementData> selectAndSortMap() {
+        return this.elements.values().stream()
+                .filter(element -> element.elementType() == MIDFIELDER && element.nowCost() <= MAX_COST)
+                .sorted(Comparator.comparingDouble(ElementData::expectedGoalsPer90).reversed())
+                .toList();
+    }
+
+    @Benchmark
+    public int selectAndSortTable() {
+        int count = this.table.select(MIDFIELDER, MAX_COST, this.ids);
+        PlayerTable.sortDescending(this.ids, count, this.xG90);
+        return count;
+    }
+}
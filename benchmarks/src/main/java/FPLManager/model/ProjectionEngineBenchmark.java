@@ -0,0 +1,72 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures projecting the whole player pool over the rest of the season, from scratch on the fork/join pool
+ * and sequentially, and a repeated projection with unchanged inputs, which only checks the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProjectionEngineBenchmark {
+    private Map<Integer, ElementData> elements;
+    private FixtureDifficulty difficulty;
+    private ProjectionEngine cachedEngine;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        Map<Integer, TeamData> teams = new HashMap<>();
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            this.elements = FPLAPI.readAllElements(parser, transport, teams);
+        }
+        List<Map<String, Object>> allFixtures = new ObjectMapper().readValue(RecordedPayloads.read("fixtures/"), new TypeReference<List<Map<String, Object>>>() {});
+        this.difficulty = new FixtureDifficulty(FPLAPI.buildFixtureIndex(allFixtures, 10), teams);
+        this.cachedEngine = new ProjectionEngine();
+        this.cachedEngine.project(this.elements.values(), this.difficulty);
+    }
+
+    @Benchmark
+    public ProjectionEngine.Projections projectAll() {
+        return new ProjectionEngine().project(this.elements.values(), this.difficulty);
+    }
+
+    @Benchmark
+    public double projectAllSequential() {
+        double total = 0;
+        for (ElementData element : this.elements.values()) {
+            for (int gameweek = this.difficulty.getNextGW(); gameweek <= FixtureIndex.GAMEWEEKS; gameweek++) {
+                total += ProjectionEngine.projectGameweek(element, this.difficulty, gameweek);
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public ProjectionEngine.Projections projectUnchanged() {
+        return this.cachedEngine.project(this.elements.values(), this.difficulty);
+    }
+}
@@ -0,0 +1,116 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The recorded FPL API payloads the benchmarks run against, shared with the unit tests.
+ * An endpoint such as "entry/3907402/event/9/picks/" is read from "FPLManager/api/entry_3907402_event_9_picks.json".
+ * The payloads can also be served over a local HTTP server, or written to a {@link SnapshotArchive},
+ * so whole manager lookups can be measured without the network.
+ */
+public class RecordedPayloads implements AutoCloseable {
+    public static final int MANAGER_ID = 3907402;
+    public static final int NEXT_GW = 10;
+    public static final List<String> ENDPOINTS = List.of("events/", "bootstrap-static/", "fixtures/", "fixtures/?event=10",
+            "entry/3907402/", "entry/3907402/event/9/picks/", "entry/3907402/transfers/", "entry/3907402/history/");
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Reads the recorded payload for an endpoint.
+     *
+     * @param endpoint the API endpoint
+     * @return the payload
+     * @throws IllegalStateException if no payload is recorded for the endpoint
+     */
+    public static byte[] read(String endpoint) {
+        String resourceName = endpoint.replaceAll("[^A-Za-z0-9-]+", "_").replaceAll("^_|_$", "") + ".json";
+        try (InputStream inputStream = RecordedPayloads.class.getResourceAsStream("/FPLManager/api/" + resourceName)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("No recorded payload for endpoint: " + endpoint);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Recorded payload could not be read: " + endpoint, e);
+        }
+    }
+
+    /**
+     * Writes the recorded payloads to a temporary snapshot archive, as the snapshot of the next gameweek.
+     *
+     * @return the path of the archive, to be deleted by the caller
+     * @throws IOException if the archive cannot be written
+     */
+    public static Path writeArchive() throws IOException {
+        Map<String, byte[]> snapshot = new HashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            snapshot.put(endpoint, read(endpoint));
+        }
+        Path path = Files.createTempFile("fpl-snapshot", ".zip");
+        SnapshotArchive.write(path, Map.of(NEXT_GW, snapshot));
+        return path;
+    }
+
+    /**
+     * Starts serving the recorded payloads on a local port.
+     *
+     * @return the base URL of the local API
+     * @throws IOException if the server cannot be started
+     */
+    public String serve() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.createContext("/api/", this::handle);
+        this.server.setExecutor(this.executor);
+        this.server.start();
+        return "http://127.0.0.1:" + this.server.getAddress().getPort() + "/api/";
+    }
+
+    /**
+     * Answers a request with the recorded payload of its endpoint.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String endpoint = exchange.getRequestURI().getRawPath().substring("/api/".length());
+        if (exchange.getRequestURI().getRawQuery() != null) {
+            endpoint += "?" + exchange.getRequestURI().getRawQuery();
+        }
+        byte[] body;
+        try {
+            body = read(endpoint);
+        } catch (IllegalStateException e) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures building a wildcard squad against the size of the pool and the length of the horizon.
+ * The recorded payload only has a few dozen players, so larger pools are made of copies of them
+ * with a seeded spread of prices, expected stats and clubs, which gives the same pool on every run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SquadSolverBenchmark {
+    private static final long SEED = 4100;
+
+    @Param({"100", "300", "700"})
+    public int poolSize;
+
+    @Param({"1", "5", "10"})
+    public int horizon;
+
+    private SquadSolver solver;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        Map<Integer, TeamData> teams = new HashMap<>();
+        List<ElementData> recorded;
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            recorded = new ArrayList<>(FPLAPI.readAllElements(parser, transport, teams).values());
+        }
+        List<Map<String, Object>> allFixtures = new ObjectMapper().readValue(RecordedPayloads.read("fixtures/"), new TypeReference<List<Map<String, Object>>>() {});
+        FixtureDifficulty difficulty = new FixtureDifficulty(FPLAPI.buildFixtureIndex(allFixtures, 10), teams);
+
+        Random random = new Random(SEED);
+        Map<Integer, ElementData> pool = new HashMap<>();
+        for (int id = 1; id <= this.poolSize; id++) {
+            ElementData e = recorded.get((id - 1) % recorded.size());
+            double scale = 0.5 + random.nextDouble();
+            pool.put(id, new ElementData(id, e.firstName(), e.secondName(), e.webName(), e.elementType(), (id - 1) % teams.size() + 1,
+                    Math.max(40, (int) (e.nowCost() * scale)), e.costChangeEvent(), e.eventPoints(), e.chanceOfPlayingNextRound(),
+                    e.pointsPerGame(), e.selectedByPercent(), e.transfersInEvent(), e.transfersOutEvent(),
+                    e.expectedGoalsPer90() * scale, e.expectedAssistsPer90() * scale, e.cleanSheetsPer90() * scale, e.minutes()));
+        }
+        this.solver = new SquadSolver(pool, new ProjectionEngine().project(pool.values(), difficulty), this.horizon);
+    }
+
+    @Benchmark
+    public SquadSolver.Squad solve() {
+        return this.solver.solve(SquadSolver.DEFAULT_BUDGET);
+    }
+}
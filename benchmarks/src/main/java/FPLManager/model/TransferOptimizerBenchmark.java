@@ -0,0 +1,71 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures suggesting up to one, two or three transfers for the recorded squad over a five gameweek horizon,
+ * which has to finish well under a second on the full pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransferOptimizerBenchmark {
+    private static final int HORIZON = 5;
+
+    @Param({"1", "2", "3"})
+    public int maxTransfers;
+
+    private TransferOptimizer optimizer;
+    private List<Integer> squad;
+    private int bank;
+
+    @Setup
+    public void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        Map<Integer, TeamData> teams = new HashMap<>();
+        Map<Integer, ElementData> elements;
+        try (JsonParser parser = transport.getObjectMapper().createParser(RecordedPayloads.read("bootstrap-static/"))) {
+            elements = FPLAPI.readAllElements(parser, transport, teams);
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        List<Map<String, Object>> allFixtures = mapper.readValue(RecordedPayloads.read("fixtures/"), new TypeReference<List<Map<String, Object>>>() {});
+        FixtureDifficulty difficulty = new FixtureDifficulty(FPLAPI.buildFixtureIndex(allFixtures, 10), teams);
+        this.optimizer = new TransferOptimizer(elements, new ProjectionEngine().project(elements.values(), difficulty), HORIZON);
+
+        Map<String, Object> picks = mapper.readValue(RecordedPayloads.read("entry/3907402/event/9/picks/"), new TypeReference<Map<String, Object>>() {});
+        this.squad = new ArrayList<>();
+        for (Object pick : (List<?>) picks.get("picks")) {
+            this.squad.add((Integer) ((Map<?, ?>) pick).get("element"));
+        }
+        this.bank = (Integer) ((Map<?, ?>) picks.get("entry_history")).get("bank");
+    }
+
+    @Benchmark
+    public List<TransferOptimizer.TransferPlan> optimize() {
+        return this.optimizer.optimize(this.squad, this.bank, 1, this.maxTransfers);
+    }
+}
@@ -0,0 +1,66 @@
+package FPLManager.controller;
+
+import javafx.scene.control.TreeTableCell;
+import javafx.scene.control.TreeTableRow;
+
+import java.util.function.ToIntFunction;
+
+import FPLManager.model.FixtureDifficulty;
+import FPLManager.model.Player;
+
+/**
+ * A cell of the stats table view coloured by fixture difficulty, using the FPL colours from easy (green) to hard (red).
+ *
+ * @param <T> the type of the cell value.
+ */
+class DifficultyCell<T> extends TreeTableCell<Player, T> {
+    private static final String[] STYLES = {
+        "",
+        "-fx-background-color: #257d5a; -fx-text-fill: white;",
+        "-fx-background-color: #00ff86; -fx-text-fill: black;",
+        "-fx-background-color: #ebebe4; -fx-text-fill: black;",
+        "-fx-background-color: #ff005a; -fx-text-fill: white;",
+        "-fx-background-color: #861d46; -fx-text-fill: white;"
+    };
+
+    private final ToIntFunction<Player> rating;
+
+    /**
+     * Constructs a new difficulty cell.
+     *
+     * @param rating the rating of a player's row, from 1 to 5, or 0 to leave the cell uncoloured.
+     */
+    DifficultyCell(ToIntFunction<Player> rating) {
+        this.rating = rating;
+    }
+
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setText(null);
+            setStyle("");
+            return;
+        }
+        setText(item.toString());
+        TreeTableRow<Player> row = getTableRow();
+        Player player = row != null ? row.getItem() : null;
+        setStyle(player != null ? STYLES[Math.max(0, Math.min(STYLES.length - 1, this.rating.applyAsInt(player)))] : "");
+    }
+
+    /**
+     * Returns the rating of a difficulty for colouring, treating a missing difficulty as uncoloured.
+     *
+     * @param difficulty the fixture difficulty, or null if it is not known yet.
+     * @param player the player of the row.
+     * @param fromGW the first game week.
+     * @param gameweeks the number of game weeks.
+     * @return the rating from 1 to 5, or 0.
+     */
+    static int rating(FixtureDifficulty difficulty, Player player, int fromGW, int gameweeks) {
+        if (difficulty == null) {
+            return 0;
+        }
+        return FixtureDifficulty.toRating(difficulty.getDifficulty(player.getTeamID(), player.getElementType(), fromGW, gameweeks));
+    }
+}
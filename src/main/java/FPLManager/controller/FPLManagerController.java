@@ -1,50 +1,196 @@
 package FPLManager.controller;
 
-import javafx.beans.property.SimpleStringProperty;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.TreeItemPropertyValueFactory;
+import javafx.stage.Stage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import FPLManager.model.BinarySnapshot;
 import FPLManager.model.DataManager;
+import FPLManager.model.FPLAPI;
+import FPLManager.model.FixtureDifficulty;
+import FPLManager.model.LivePoller;
 import FPLManager.model.Manager;
 import FPLManager.model.Player;
+import FPLManager.model.PlayerChangeEvent;
+import FPLManager.model.SeasonDataCache;
 import FPLManager.model.DummyPlayer;
 
 /**
  * Controller class for managing the Fantasy Premier League (FPL) application.
  */
 public class FPLManagerController {
+    private static final double ROW_HEIGHT = 24.0;
 
     @FXML private TextField savedTeamNameField, teamIdField, saveTeamNameField, saveTeamIdField;
-    @FXML private Button getSavedStatsButton, getStatsButton, saveUserButton;
+    @FXML private Button getSavedStatsButton, getStatsButton, saveUserButton, explorePlayersButton;
+    @FXML private Button earlierGameweeksButton, laterGameweeksButton;
     @FXML private TreeTableView<Player> statsTableView;
     @FXML private TreeTableColumn<Player, String> playerColumn, teamColumn, pointAverageColumn, selectedPercentageColumn;
     @FXML private TreeTableColumn<Player, Integer> fitPercentageColumn, pointsLastRoundColumn, transfersColumn;
     @FXML private TreeTableColumn<Player, Double> priceColumn, costChangeColumn, xgPer90Column, xaPer90Column, csPer90Column;
+    @FXML private TreeTableColumn<Player, Number> fdrNext3Column, fdrNext5Column;
     @FXML private Label deadlineLabel, wildcardLabel, benchboostLabel, triplecaptainLabel, freehitLabel, assistantmanagerLabel, availableTransfersLabel;
+    @FXML private Label loadStatusLabel;
+    @FXML private ProgressBar loadProgressBar;
 
-    private Manager manager;
+    private final ExecutorService loadExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("fpl-manager-loader").factory());
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("fpl-snapshot-writer").factory());
+    private volatile Manager manager;
     private DataManager dataManager;
+    private LivePoller livePoller;
+    private ManagerLoadTask loadTask;
+    private FixtureColumns fixtureColumns;
+    private FixtureDifficulty fixtureDifficulty;
 
     /**
-     * Initializes the controller class.
+     * Loads a manager off the JavaFX thread, reporting the progress per endpoint.
+     * A team loaded before is shown from its snapshot right away, and every other team as soon as its players are known,
+     * before the manager's remaining endpoints have loaded. Refreshing the team already shown revalidates the season data,
+     * since the user asked for current stats; looking up another team shares the cached season data, which the cache's
+     * expiry and the live poller keep current.
+     * A complete load is saved as the team's new snapshot in the background; a load in which an endpoint failed keeps the old snapshot.
+     */
+    private class ManagerLoadTask extends Task<Manager> implements FPLAPI.Listener {
+        private final int teamId;
+        private final Manager previous;
+        private boolean playersShown;
+
+        /**
+         * Constructs a new load task.
+         *
+         * @param teamId the ID of the team.
+         * @param previous the shown snapshot of the same team to refresh, or null to load the team from scratch.
+         */
+        ManagerLoadTask(int teamId, Manager previous) {
+            this.teamId = teamId;
+            this.previous = previous;
+        }
+
+        @Override
+        protected Manager call() {
+            updateMessage("Loading team " + teamId + "...");
+            if (previous == null) {
+                showSnapshot();
+            }
+            if (previous != null) {
+                SeasonDataCache.getShared().invalidate();
+            }
+            FPLAPI managerData = new FPLAPI(teamId, SeasonDataCache.getShared(), this);
+            Manager loaded = previous != null ? previous.refresh(managerData) : new Manager(teamId, managerData, dataManager);
+            if (managerData.isComplete()) {
+                List<? extends List<String>> clubs = dataManager.getTeams();
+                snapshotExecutor.execute(() -> BinarySnapshot.save(managerData, managerData.getSeasonData(), clubs));
+            }
+            return loaded;
+        }
+
+        /**
+         * Shows the team as it was saved after its last load, if there is a snapshot, while the live data is loading.
+         */
+        private void showSnapshot() {
+            BinarySnapshot snapshot = BinarySnapshot.load(teamId);
+            if (snapshot == null) {
+                return;
+            }
+            Manager saved = new Manager(teamId, snapshot, dataManager);
+            Platform.runLater(() -> {
+                if (loadTask == this && !isCancelled() && !playersShown) {
+                    setFixtureDifficulty(saved.getFixtureDifficulty());
+                    displayManagerData(saved);
+                    displayGWinfo(saved);
+                    displayChips(saved);
+                    displayTransfers(saved);
+                    playersShown = true;
+                }
+            });
+        }
+
+        @Override
+        public void loaded(String endpoint, int loaded, int total) {
+            updateProgress(loaded, total);
+            updateMessage("Loaded " + endpoint);
+        }
+
+        @Override
+        public void playersLoaded(FPLAPI data) {
+            if (previous != null) {
+                return;
+            }
+            ArrayList<Player> players = Manager.createTeamPlayers(data, dataManager);
+            FixtureDifficulty difficulty = data.getFixtureDifficulty();
+            Platform.runLater(() -> {
+                if (loadTask == this && !isCancelled()) {
+                    setFixtureDifficulty(difficulty);
+                    displayPlayers(players);
+                    playersShown = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Initializes the controller class and starts watching the players for live changes.
      */
     @FXML
     public void initialize() {
         dataManager = new DataManager();
         setupTableViewColumns();
+        fixtureColumns = new FixtureColumns(statsTableView, () -> fixtureDifficulty);
+        livePoller = new LivePoller(SeasonDataCache.getShared());
+        livePoller.subscribe(this::handlePlayerChanges);
+        livePoller.start();
+    }
+
+    /**
+     * Handles the changes found by the live poller. Runs on the poller's thread,
+     * so the shown manager is refreshed there and only the table update is handed to the JavaFX thread.
+     * The poller has already put the new players into the shared cache, so the refresh does not revalidate it.
+     *
+     * @param events the changes found by the poll.
+     */
+    private void handlePlayerChanges(List<PlayerChangeEvent> events) {
+        Manager shown = manager;
+        if (shown == null || events.stream().noneMatch(event -> shown.getTeamPlayersID().contains(event.getPlayerID()))) {
+            return;
+        }
+        Manager refreshed;
+        try {
+            refreshed = shown.refresh(new FPLAPI(shown.getID(), SeasonDataCache.getShared()));
+        } catch (RuntimeException e) {
+            System.err.println("Error: live refresh of manager " + shown.getID() + " failed - " + e.getMessage());
+            return;
+        }
+        Platform.runLater(() -> {
+            if (manager == shown) {
+                manager = refreshed;
+                setFixtureDifficulty(refreshed.getFixtureDifficulty());
+                updateManagerData(shown, refreshed);
+                displayTransfers(refreshed);
+            }
+        });
     }
 
     /**
      * Sets up the columns for the stats table view.
      */
     private void setupTableViewColumns() {
+        statsTableView.setFixedCellSize(ROW_HEIGHT);
         playerColumn.setCellValueFactory(new TreeItemPropertyValueFactory<>("name"));
         teamColumn.setCellValueFactory(new TreeItemPropertyValueFactory<>("team"));
         fitPercentageColumn.setCellValueFactory(new TreeItemPropertyValueFactory<>("chanceOfPlaying"));
@@ -57,15 +203,59 @@ public class FPLManagerController {
         xgPer90Column.setCellValueFactory(new TreeItemPropertyValueFactory<>("xG"));
         xaPer90Column.setCellValueFactory(new TreeItemPropertyValueFactory<>("xA"));
         csPer90Column.setCellValueFactory(new TreeItemPropertyValueFactory<>("cleanSheetsPerGame"));
+        setupDifficultyColumn(fdrNext3Column, 3);
+        setupDifficultyColumn(fdrNext5Column, 5);
+    }
+
+    /**
+     * Sets up a column with the average fixture difficulty of the next game weeks,
+     * for the player's position. Players without fixtures in those game weeks have no value, so they sort last.
+     *
+     * @param column the column.
+     * @param gameweeks the number of game weeks, starting with the next one.
+     */
+    private void setupDifficultyColumn(TreeTableColumn<Player, Number> column, int gameweeks) {
+        column.setCellValueFactory(cellData -> {
+            Player player = cellData.getValue().getValue();
+            double difficulty = fixtureDifficulty != null
+                    ? fixtureDifficulty.getUpcomingDifficulty(player.getTeamID(), player.getElementType(), gameweeks)
+                    : Double.NaN;
+            return new ReadOnlyObjectWrapper<>(Double.isNaN(difficulty) ? null : Math.round(difficulty * 100) / 100.0);
+        });
+        column.setCellFactory(col -> new DifficultyCell<>(player ->
+                fixtureDifficulty != null ? DifficultyCell.rating(fixtureDifficulty, player, fixtureDifficulty.getNextGW(), gameweeks) : 0));
+    }
+
+    /**
+     * Sets the fixture difficulty used to colour the table, redrawing the cells if it changed.
+     *
+     * @param difficulty the fixture difficulty, or null if it is not known.
+     */
+    private void setFixtureDifficulty(FixtureDifficulty difficulty) {
+        if (difficulty != fixtureDifficulty) {
+            fixtureDifficulty = difficulty;
+            statsTableView.refresh();
+        }
     }
 
     /**
      * Handles the button click event for fetching saved team stats.
+     * If no team has the exact name, a single saved team starting with the name, ignoring case, is used instead.
      */
     @FXML
     public void handleButtonClickSaved() {
         String teamName = savedTeamNameField.getText();
         int teamId = dataManager.findUser(teamName);
+        if (teamId == -1) {
+            List<String> matches = dataManager.searchUsers(teamName, 5);
+            if (matches.size() == 1) {
+                savedTeamNameField.setText(matches.get(0));
+                teamId = dataManager.findUser(matches.get(0));
+            } else if (matches.size() > 1) {
+                showAlert("Several teams found", "Did you mean: " + String.join(", ", matches) + "?");
+                return;
+            }
+        }
         if (teamId != -1) {
             fetchAndDisplayManagerData(teamId);
         } else {
@@ -101,20 +291,105 @@ public class FPLManagerController {
     }
 
     /**
-     * Fetches and displays manager data for the given team ID.
+     * Handles the button click event for showing the fixtures of earlier game weeks.
+     */
+    @FXML
+    public void handleEarlierGameweeks() {
+        fixtureColumns.showPrevious();
+        updateGameweekButtons();
+    }
+
+    /**
+     * Handles the button click event for showing the fixtures of later game weeks.
+     */
+    @FXML
+    public void handleLaterGameweeks() {
+        fixtureColumns.showNext();
+        updateGameweekButtons();
+    }
+
+    /**
+     * Enables the game week paging buttons if there are fixture columns to page to.
+     */
+    private void updateGameweekButtons() {
+        earlierGameweeksButton.setDisable(!fixtureColumns.hasPrevious());
+        laterGameweeksButton.setDisable(!fixtureColumns.hasNext());
+    }
+
+    /**
+     * Handles the button click event for opening the player explorer in a new window.
+     */
+    @FXML
+    public void handleOpenExplorer() {
+        try {
+            Stage stage = new Stage();
+            stage.setTitle("Player Explorer");
+            stage.setScene(new Scene(FXMLLoader.load(this.getClass().getResource("/FPLManager/view/Explorer.fxml"))));
+            stage.show();
+        } catch (IOException e) {
+            showAlert("Error", "Failed to open the player explorer: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fetches and displays manager data for the given team ID in the background.
+     * A load that is still running is cancelled, so the latest request always wins.
+     * If the team is already shown, it is refreshed, and only the players whose data changed are updated.
      *
      * @param teamId the ID of the team.
      */
     private void fetchAndDisplayManagerData(int teamId) {
-        try {
-            manager = new Manager(teamId);
-            displayManagerData(manager);
-            displayGWinfo(manager);
-            displayChips(manager);
-            displayTransfers(manager);
-        } catch (Exception e) {
-            showAlert("Error", "Failed to retrieve manager data: " + e.getMessage());
+        if (loadTask != null) {
+            loadTask.cancel(true);
+        }
+        Manager previous = manager != null && manager.getID() == teamId && statsTableView.getRoot() != null ? manager : null;
+        ManagerLoadTask task = new ManagerLoadTask(teamId, previous);
+        task.setOnSucceeded(event -> {
+            Manager loaded = task.getValue();
+            manager = loaded;
+            setFixtureDifficulty(loaded.getFixtureDifficulty());
+            if (previous != null) {
+                updateManagerData(previous, loaded);
+            } else if (task.playersShown) {
+                updatePlayers(loaded.getTeamPlayers());
+            } else {
+                displayManagerData(loaded);
+            }
+            displayGWinfo(loaded);
+            displayChips(loaded);
+            displayTransfers(loaded);
+            finishLoad(task, "Loaded " + loaded.getName());
+        });
+        task.setOnFailed(event -> {
+            if (finishLoad(task, "")) {
+                showAlert("Error", "Failed to retrieve manager data: " + task.getException().getMessage());
+            }
+        });
+        task.setOnCancelled(event -> finishLoad(task, ""));
+
+        loadTask = task;
+        loadProgressBar.progressProperty().bind(task.progressProperty());
+        loadStatusLabel.textProperty().bind(task.messageProperty());
+        loadExecutor.submit(task);
+    }
+
+    /**
+     * Resets the progress display when a load has finished, unless a newer load has taken its place.
+     *
+     * @param task the finished load.
+     * @param status the status to show.
+     * @return true if the task was the current load.
+     */
+    private boolean finishLoad(ManagerLoadTask task, String status) {
+        if (loadTask != task) {
+            return false;
         }
+        loadTask = null;
+        loadProgressBar.progressProperty().unbind();
+        loadProgressBar.setProgress(0);
+        loadStatusLabel.textProperty().unbind();
+        loadStatusLabel.setText(status);
+        return true;
     }
 
     /**
@@ -175,7 +450,15 @@ public class FPLManagerController {
             statsTableView.setRoot(null);
             return;
         }
-        ArrayList<Player> players = manager.getTeamPlayers();
+        displayPlayers(manager.getTeamPlayers());
+    }
+
+    /**
+     * Displays players in the stats table view, replacing the rows shown.
+     *
+     * @param players the list of players.
+     */
+    private void displayPlayers(ArrayList<Player> players) {
         ObservableList<TreeItem<Player>> treeItems = FXCollections.observableArrayList();
 
         for (Player player : players) {
@@ -188,29 +471,54 @@ public class FPLManagerController {
         statsTableView.setRoot(root);
         statsTableView.setShowRoot(false);
 
-        addFixtureColumns(players);
+        fixtureColumns.show(players);
+        updateGameweekButtons();
     }
 
     /**
-     * Adds fixture columns to the stats table view.
+     * Updates the stats table view in place after a refresh.
+     * Rows of unchanged players are kept, changed players are swapped into their existing rows,
+     * and the whole table is only rebuilt when the next game week has moved.
      *
-     * @param players the list of players.
+     * @param previous the manager shown before the refresh.
+     * @param manager the refreshed manager.
      */
-    private void addFixtureColumns(ArrayList<Player> players) {
-        statsTableView.getColumns().removeIf(column -> column.getText().startsWith("GW"));
-        if (players != null && !players.isEmpty()) {
-            if (players.get(0).getFixtures() != null) {
-                Map<Integer, List<String>> firstPlayerFixtures = players.get(0).getFixtures();
-                for (int gameweek : firstPlayerFixtures.keySet()) {
-                    TreeTableColumn<Player, String> gameweekColumn = new TreeTableColumn<>("GW " + gameweek);
-                    gameweekColumn.setCellValueFactory(cellData -> {
-                        String fixture = cellData.getValue().getValue().getFixtureForGameweek(gameweek);
-                        return new SimpleStringProperty(fixture.isEmpty() ? "" : fixture);
-                    });
-                    statsTableView.getColumns().add(gameweekColumn);
-                }
+    private void updateManagerData(Manager previous, Manager manager) {
+        if (previous.getNextGW() != manager.getNextGW()) {
+            displayManagerData(manager);
+            return;
+        }
+        updatePlayers(manager.getTeamPlayers());
+    }
+
+    /**
+     * Swaps players into the rows of the stats table view, matching them by ID.
+     * Rows of players that are already shown are kept, and the row list is only replaced if the squad changed.
+     *
+     * @param players the list of players, for the game week shown.
+     */
+    private void updatePlayers(ArrayList<Player> players) {
+        TreeItem<Player> root = statsTableView.getRoot();
+        Map<Integer, TreeItem<Player>> itemsByID = new HashMap<>();
+        for (TreeItem<Player> item : root.getChildren()) {
+            itemsByID.put(item.getValue().getID(), item);
+        }
+
+        List<TreeItem<Player>> items = new ArrayList<>();
+        for (Player player : players) {
+            TreeItem<Player> item = itemsByID.get(player.getID());
+            if (item == null) {
+                item = new TreeItem<>(player);
+            } else if (item.getValue() != player) {
+                item.setValue(player);
             }
+            items.add(item);
+        }
+        if (!items.equals(root.getChildren())) {
+            root.getChildren().setAll(items);
         }
+        fixtureColumns.show(players);
+        updateGameweekButtons();
     }
 
     /**
@@ -0,0 +1,137 @@
+package FPLManager.controller;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableView;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import FPLManager.model.FixtureDifficulty;
+import FPLManager.model.Player;
+
+/**
+ * The GW fixture columns of the stats table view.
+ * The game weeks that a shown player still plays in are shown a page of {@link #PAGE_SIZE} at a time,
+ * so the table only ever holds and lays out that many fixture columns, however many game weeks are left.
+ * A column is created the first time its game week is shown and reused on every later load.
+ * Cell values are shared per fixture label, and the labels themselves are cached per team and game week
+ * by the fixture index, so rendering a cell allocates nothing.
+ * Cells are coloured by the difficulty of the player's fixtures in their game week.
+ */
+class FixtureColumns {
+    static final int PAGE_SIZE = 6;
+
+    private final TreeTableView<Player> tableView;
+    private final Supplier<FixtureDifficulty> difficulty;
+    private final Map<Integer, TreeTableColumn<Player, String>> columns = new HashMap<>();
+    private final Map<String, ReadOnlyStringProperty> values = new HashMap<>();
+    private final List<TreeTableColumn<Player, String>> shown = new ArrayList<>();
+    private final List<Integer> gameweeks = new ArrayList<>();
+    private int first;
+
+    /**
+     * Constructs the fixture columns of a table view.
+     *
+     * @param tableView the stats table view.
+     * @param difficulty the fixture difficulty of the shown players, which may be null until it has loaded.
+     */
+    FixtureColumns(TreeTableView<Player> tableView, Supplier<FixtureDifficulty> difficulty) {
+        this.tableView = tableView;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Collects every game week in which any of the players has a fixture, and shows the current page of them.
+     * The first page is shown again if the earliest game week has changed, as it does when a new game week starts.
+     *
+     * @param players the players shown in the table.
+     */
+    void show(List<Player> players) {
+        BitSet found = new BitSet();
+        for (Player player : players) {
+            for (int gameweek : player.getFixtures().keySet()) {
+                found.set(gameweek);
+            }
+        }
+        int earliest = this.gameweeks.isEmpty() ? -1 : this.gameweeks.get(0);
+        this.gameweeks.clear();
+        for (int gameweek = found.nextSetBit(0); gameweek >= 0; gameweek = found.nextSetBit(gameweek + 1)) {
+            this.gameweeks.add(gameweek);
+        }
+        if (this.gameweeks.isEmpty() || this.gameweeks.get(0) != earliest || this.first >= this.gameweeks.size()) {
+            this.first = 0;
+        }
+        attach();
+    }
+
+    /**
+     * Shows the next page of game weeks, if there is one.
+     */
+    void showNext() {
+        if (hasNext()) {
+            this.first += PAGE_SIZE;
+            attach();
+        }
+    }
+
+    /**
+     * Shows the previous page of game weeks, if there is one.
+     */
+    void showPrevious() {
+        if (hasPrevious()) {
+            this.first = Math.max(this.first - PAGE_SIZE, 0);
+            attach();
+        }
+    }
+
+    /**
+     * Attaches the columns of the current page to the table, in game week order.
+     * The table's columns are left untouched if the same game weeks are already shown.
+     */
+    private void attach() {
+        List<TreeTableColumn<Player, String>> wanted = new ArrayList<>();
+        for (int gameweek : this.gameweeks.subList(this.first, Math.min(this.first + PAGE_SIZE, this.gameweeks.size()))) {
+            wanted.add(this.columns.computeIfAbsent(gameweek, this::createColumn));
+        }
+        if (wanted.equals(this.shown)) {
+            return;
+        }
+        this.tableView.getColumns().removeAll(this.shown);
+        this.tableView.getColumns().addAll(wanted);
+        this.shown.clear();
+        this.shown.addAll(wanted);
+    }
+
+    /**
+     * Creates the column of a game week.
+     *
+     * @param gameweek the game week.
+     * @return the column.
+     */
+    private TreeTableColumn<Player, String> createColumn(int gameweek) {
+        TreeTableColumn<Player, String> column = new TreeTableColumn<>("GW " + gameweek);
+        column.setCellValueFactory(cellData -> value(cellData.getValue().getValue().getFixtureForGameweek(gameweek)));
+        column.setCellFactory(col -> new DifficultyCell<>(player -> DifficultyCell.rating(this.difficulty.get(), player, gameweek, 1)));
+        return column;
+    }
+
+    /**
+     * Returns the shared, read-only cell value of a fixture label.
+     *
+     * @param label the fixture label, e.g. "ARS(H)".
+     * @return the cell value.
+     */
+    private ReadOnlyStringProperty value(String label) {
+        return this.values.computeIfAbsent(label, text -> new ReadOnlyStringWrapper(text).getReadOnlyProperty());
+    }
+
+    // Getters
+    boolean hasNext() { return this.first + PAGE_SIZE < this.gameweeks.size(); }
+    boolean hasPrevious() { return this.first > 0; }
+}
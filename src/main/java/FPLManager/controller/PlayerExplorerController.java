@@ -0,0 +1,195 @@
+package FPLManager.controller;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import FPLManager.model.DataManager;
+import FPLManager.model.PlayerExplorer;
+import FPLManager.model.PlayerTable;
+import FPLManager.model.SeasonDataCache;
+
+/**
+ * Controller class for the player explorer, listing the whole player pool with filters and sorting.
+ * Results are shown one page at a time, so the table only ever holds a page of rows.
+ */
+public class PlayerExplorerController {
+    private static final int PAGE_SIZE = 50;
+    private static final List<String> POSITIONS = List.of("All", "Goalkeeper", "Defender", "Midfielder", "Forward");
+
+    @FXML private ComboBox<String> positionBox, teamBox;
+    @FXML private ComboBox<PlayerExplorer.SortKey> sortBox;
+    @FXML private CheckBox ascendingBox;
+    @FXML private TextField minPriceField, maxPriceField;
+    @FXML private Button previousPageButton, nextPageButton;
+    @FXML private Label pageLabel;
+    @FXML private TreeTableView<PlayerTable.Row> explorerTableView;
+    @FXML private TreeTableColumn<PlayerTable.Row, String> nameColumn, teamColumn, positionColumn;
+    @FXML private TreeTableColumn<PlayerTable.Row, Number> priceColumn, xgPer90Column, xaPer90Column, csPer90Column, pointAverageColumn, selectedPercentageColumn, transfersColumn;
+
+    private DataManager dataManager;
+    private PlayerExplorer explorer;
+    private BitSet mask;
+    private int page;
+
+    /**
+     * Initializes the controller class and loads the player pool in the background.
+     */
+    @FXML
+    public void initialize() {
+        dataManager = new DataManager();
+        setupFilters();
+        setupTableViewColumns();
+        explorerTableView.setRoot(new TreeItem<>());
+        explorerTableView.setShowRoot(false);
+        pageLabel.setText("Loading players...");
+
+        SeasonDataCache.getShared().getAsync()
+                .thenApplyAsync(SeasonDataCache.SeasonData::getPlayerExplorer)
+                .whenComplete((loaded, e) -> Platform.runLater(() -> {
+                    if (e != null) {
+                        pageLabel.setText("");
+                        showAlert("Error", "Failed to retrieve player data: " + e.getMessage());
+                        return;
+                    }
+                    explorer = loaded;
+                    handleFilterChange();
+                }));
+    }
+
+    /**
+     * Fills the filter and sort choices.
+     */
+    private void setupFilters() {
+        positionBox.getItems().setAll(POSITIONS);
+        positionBox.getSelectionModel().selectFirst();
+        teamBox.getItems().add("All");
+        for (List<String> team : dataManager.getTeams()) {
+            teamBox.getItems().add(team.get(0));
+        }
+        teamBox.getSelectionModel().selectFirst();
+        sortBox.getItems().setAll(PlayerExplorer.SortKey.values());
+        sortBox.setValue(PlayerExplorer.SortKey.POINTS_PER_GAME);
+    }
+
+    /**
+     * Sets up the columns for the explorer table view.
+     */
+    private void setupTableViewColumns() {
+        nameColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getWebName()));
+        teamColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(teamName(cellData.getValue().getValue().getTeamID())));
+        positionColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(positionName(cellData.getValue().getValue().getElementType())));
+        priceColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getNowCost() / 10.0));
+        xgPer90Column.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getXG90()));
+        xaPer90Column.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getXA90()));
+        csPer90Column.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getCS90()));
+        pointAverageColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getPointsPerGame()));
+        selectedPercentageColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getSelectedBy()));
+        transfersColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getValue().getTransferBalance()));
+    }
+
+    /**
+     * Handles a change of any filter or of the sort order, going back to the first page.
+     */
+    @FXML
+    public void handleFilterChange() {
+        if (explorer == null) {
+            return;
+        }
+        int minCost;
+        int maxCost;
+        try {
+            minCost = parseCost(minPriceField.getText(), 0);
+            maxCost = parseCost(maxPriceField.getText(), Integer.MAX_VALUE);
+        } catch (NumberFormatException e) {
+            showAlert("Invalid Input", "Please enter prices in millions, e.g. 7.5.");
+            return;
+        }
+        int teamId = Math.max(teamBox.getSelectionModel().getSelectedIndex(), PlayerExplorer.ANY);
+        int position = Math.max(positionBox.getSelectionModel().getSelectedIndex(), PlayerExplorer.ANY);
+        mask = explorer.filter(position, teamId, minCost, maxCost);
+        page = 0;
+        showPage();
+    }
+
+    /**
+     * Handles the button click event for showing the previous page.
+     */
+    @FXML
+    public void handlePreviousPage() {
+        if (page > 0) {
+            page--;
+            showPage();
+        }
+    }
+
+    /**
+     * Handles the button click event for showing the next page.
+     */
+    @FXML
+    public void handleNextPage() {
+        if (mask != null && (page + 1) * PAGE_SIZE < mask.cardinality()) {
+            page++;
+            showPage();
+        }
+    }
+
+    /**
+     * Shows the current page of the filtered players in the explorer table view.
+     */
+    private void showPage() {
+        PlayerExplorer.SortKey sortKey = sortBox.getValue() != null ? sortBox.getValue() : PlayerExplorer.SortKey.POINTS_PER_GAME;
+        List<TreeItem<PlayerTable.Row>> items = new ArrayList<>();
+        for (PlayerTable.Row row : explorer.page(mask, sortKey, !ascendingBox.isSelected(), page * PAGE_SIZE, PAGE_SIZE)) {
+            items.add(new TreeItem<>(row));
+        }
+        explorerTableView.getRoot().getChildren().setAll(items);
+
+        int pages = Math.max((mask.cardinality() + PAGE_SIZE - 1) / PAGE_SIZE, 1);
+        pageLabel.setText("Page " + (page + 1) + " of " + pages + " (" + mask.cardinality() + " players)");
+        previousPageButton.setDisable(page == 0);
+        nextPageButton.setDisable(page + 1 >= pages);
+    }
+
+    /**
+     * Parses a price in millions into tenths of a million.
+     *
+     * @param text the price entered, e.g. "7.5".
+     * @param empty the value used if no price is entered.
+     * @return the price in tenths of a million.
+     * @throws NumberFormatException if the price is not a number.
+     */
+    private static int parseCost(String text, int empty) {
+        if (text == null || text.isBlank()) {
+            return empty;
+        }
+        return (int) Math.round(Double.parseDouble(text.trim()) * 10);
+    }
+
+    private String teamName(int teamId) {
+        List<? extends List<String>> teams = dataManager.getTeams();
+        return teamId >= 1 && teamId <= teams.size() ? teams.get(teamId - 1).get(0) : "";
+    }
+
+    private static String positionName(int elementType) {
+        return elementType >= 1 && elementType < POSITIONS.size() ? POSITIONS.get(elementType) : "";
+    }
+
+    /**
+     * Shows an alert with the given title and content.
+     *
+     * @param title the title of the alert.
+     * @param content the content of the alert.
+     */
+    private void showAlert(String title, String content) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle(title);
+        alert.setContentText(content);
+        alert.showAndWait();
+    }
+}
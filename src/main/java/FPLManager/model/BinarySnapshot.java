@@ -0,0 +1,520 @@
+package FPLManager.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A manager and the season-wide data they were loaded with, stored in a compact, versioned binary file
+ * so the application can show the manager on startup without waiting for the API and the JSON parsing.
+ * <p>
+ * The file holds a fixed header followed by sections of fixed-size records: the player pool, sorted by ID,
+ * the teams with their strengths, the teams from 'teams.csv', the fixtures, and the manager's picks, transfers
+ * and chips. Strings are kept once each in a string table at the end and referenced by offset.
+ * A snapshot is read into one heap buffer, and the records are read in place: the lookups by row allocate nothing,
+ * and only the data handed out as typed objects is decoded. The file is not kept open or mapped,
+ * so a newer snapshot can replace it while an older one is shown.
+ * A snapshot is immutable and thread safe.
+ */
+public class BinarySnapshot implements IDataRetriever {
+    public static final int MAGIC = 0x46504C42;
+    public static final int VERSION = 3;
+    public static final String DIRECTORY_NAME = "snapshots";
+    public static final String FILE_EXTENSION = ".fplb";
+
+    private static final int NONE = -1;
+
+    // Header fields
+    private static final int MANAGER_ID = 8;
+    private static final int NEXT_GW = 12;
+    private static final int BANK = 16;
+    private static final int TEAM_NAME = 20;
+    private static final int KICKOFF_TIME = 24;
+    private static final int SECTIONS = 28;
+    private static final int HEADER_SIZE = SECTIONS + 8 * 8;
+
+    // Sections, each stored in the header as record count and offset
+    private static final int ELEMENTS = 0;
+    private static final int TEAMS = 1;
+    private static final int CLUBS = 2;
+    private static final int FIXTURES = 3;
+    private static final int PICKS = 4;
+    private static final int TRANSFERS = 5;
+    private static final int CHIPS = 6;
+    private static final int STRINGS = 7;
+
+    // Element record
+    private static final int ELEMENT_SIZE = 84;
+    private static final int ID = 0;
+    private static final int FIRST_NAME = 4;
+    private static final int SECOND_NAME = 8;
+    private static final int WEB_NAME = 12;
+    private static final int ELEMENT_TYPE = 16;
+    private static final int TEAM = 20;
+    private static final int NOW_COST = 24;
+    private static final int COST_CHANGE_EVENT = 28;
+    private static final int EVENT_POINTS = 32;
+    private static final int CHANCE_OF_PLAYING = 36;
+    private static final int POINTS_PER_GAME = 40;
+    private static final int SELECTED_BY_PERCENT = 44;
+    private static final int TRANSFERS_IN = 48;
+    private static final int TRANSFERS_OUT = 52;
+    private static final int XG_90 = 56;
+    private static final int XA_90 = 64;
+    private static final int CS_90 = 72;
+    private static final int MINUTES = 80;
+
+    // Other records
+    private static final int TEAM_SIZE = 28;
+    private static final int CLUB_SIZE = 8;
+    private static final int FIXTURE_SIZE = FixtureIndex.FIXTURE_FIELDS * 4;
+    private static final int PICK_SIZE = 8;
+    private static final int TRANSFER_SIZE = 4;
+    private static final int CHIP_SIZE = 8;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int elementCount;
+    private final int elementOffset;
+    private FixtureIndex remainingFixtures;
+    private FixtureDifficulty fixtureDifficulty;
+
+    private BinarySnapshot(Path file, ByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        this.elementCount = count(ELEMENTS);
+        this.elementOffset = offset(ELEMENTS);
+    }
+
+    /**
+     * Returns the file of a manager's snapshot in the application's data directory.
+     *
+     * @param managerID the ID of the manager
+     * @return the snapshot file
+     */
+    public static Path getPath(int managerID) {
+        return DataManager.getDataDirectory().resolve(DIRECTORY_NAME).resolve(managerID + FILE_EXTENSION);
+    }
+
+    /**
+     * Reads a snapshot file and checks its header.
+     *
+     * @param file the snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read
+     * @throws IllegalStateException if the file is not a snapshot of this version
+     */
+    public static BinarySnapshot read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a snapshot file: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Unsupported snapshot version " + buffer.getInt(4) + " in " + file + ", expected " + VERSION);
+        }
+        BinarySnapshot snapshot = new BinarySnapshot(file, buffer);
+        if (snapshot.offset(STRINGS) > buffer.limit()) {
+            throw new IllegalStateException("Truncated snapshot file: " + file);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reads the snapshot of a manager from the data directory, if there is a readable one.
+     *
+     * @param managerID the ID of the manager
+     * @return the snapshot, or null if there is none or it cannot be read
+     */
+    public static BinarySnapshot load(int managerID) {
+        Path file = getPath(managerID);
+        if (Files.notExists(file)) {
+            return null;
+        }
+        try {
+            return read(file);
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Error: snapshot of manager " + managerID + " could not be read - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot of a loaded manager to the data directory, replacing the earlier one.
+     * A snapshot that cannot be written is skipped, as the data is loaded from the API again on the next start,
+     * so this method never throws and can be run on a background thread.
+     *
+     * @param manager the loaded data of the manager
+     * @param season the season-wide data the manager was loaded with
+     * @param clubs the teams as [name, short name], in team ID order
+     */
+    public static void save(IDataRetriever manager, SeasonDataCache.SeasonData season, List<? extends List<String>> clubs) {
+        try {
+            write(getPath(manager.getManagerID()), manager, season, clubs);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error: snapshot of manager " + manager.getManagerID() + " could not be written - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the snapshot of a loaded manager. The file is written next to the target and moved into place,
+     * so a snapshot being read is never seen half written.
+     *
+     * @param file the snapshot file
+     * @param manager the loaded data of the manager
+     * @param season the season-wide data the manager was loaded with
+     * @param clubs the teams as [name, short name], in team ID order
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, IDataRetriever manager, SeasonDataCache.SeasonData season, List<? extends List<String>> clubs) throws IOException {
+        List<ElementData> elements = new ArrayList<>(season.getElements().values());
+        elements.sort((a, b) -> Integer.compare(a.id(), b.id()));
+        List<TeamData> teams = new ArrayList<>(season.getTeams().values());
+        int[] fixtures = manager.getRemainingFixtures() != null ? manager.getRemainingFixtures().toArray() : new int[0];
+        List<Integer> picks = manager.getTeamPlayers();
+        List<Integer> multipliers = manager.getMultipliers();
+        List<Integer> transfers = manager.getTransferHistory() != null ? manager.getTransferHistory() : List.of();
+        Map<String, Object> chips = manager.getChips() != null ? manager.getChips() : Map.of();
+
+        int[] counts = {elements.size(), teams.size(), clubs.size(), fixtures.length / FixtureIndex.FIXTURE_FIELDS,
+                picks.size(), transfers.size(), chips.size()};
+        int[] sizes = {ELEMENT_SIZE, TEAM_SIZE, CLUB_SIZE, FIXTURE_SIZE, PICK_SIZE, TRANSFER_SIZE, CHIP_SIZE};
+        int[] offsets = new int[STRINGS + 1];
+        offsets[0] = HEADER_SIZE;
+        for (int section = 0; section < STRINGS; section++) {
+            offsets[section + 1] = offsets[section] + counts[section] * sizes[section];
+        }
+
+        StringTable strings = new StringTable(offsets[STRINGS]);
+        ByteBuffer out = ByteBuffer.allocate(offsets[STRINGS]);
+        out.putInt(MAGIC).putInt(VERSION).putInt(manager.getManagerID()).putInt(manager.getNextGW()).putInt(manager.getBank());
+        out.putInt(strings.add(manager.getTeamName()));
+        out.putInt(strings.add(findKickoffTime(manager.getNextGWInfo())));
+        for (int section = 0; section < STRINGS; section++) {
+            out.putInt(counts[section]).putInt(offsets[section]);
+        }
+        out.putInt(0).putInt(offsets[STRINGS]);
+
+        for (ElementData element : elements) {
+            out.putInt(element.id()).putInt(strings.add(element.firstName())).putInt(strings.add(element.secondName()))
+                    .putInt(strings.add(element.webName())).putInt(element.elementType()).putInt(element.team())
+                    .putInt(element.nowCost()).putInt(element.costChangeEvent()).putInt(element.eventPoints())
+                    .putInt(element.chanceOfPlayingNextRound() != null ? element.chanceOfPlayingNextRound() : NONE)
+                    .putInt(strings.add(element.pointsPerGame())).putInt(strings.add(element.selectedByPercent()))
+                    .putInt(element.transfersInEvent()).putInt(element.transfersOutEvent())
+                    .putDouble(element.expectedGoalsPer90()).putDouble(element.expectedAssistsPer90()).putDouble(element.cleanSheetsPer90())
+                    .putInt(element.minutes());
+        }
+        for (TeamData team : teams) {
+            out.putInt(team.id()).putInt(strings.add(team.name())).putInt(strings.add(team.shortName()))
+                    .putInt(team.strengthAttackHome()).putInt(team.strengthAttackAway())
+                    .putInt(team.strengthDefenceHome()).putInt(team.strengthDefenceAway());
+        }
+        for (List<String> club : clubs) {
+            out.putInt(strings.add(club.get(0))).putInt(strings.add(club.get(1)));
+        }
+        for (int value : fixtures) {
+            out.putInt(value);
+        }
+        for (int i = 0; i < picks.size(); i++) {
+            out.putInt(picks.get(i)).putInt(multipliers != null && i < multipliers.size() ? multipliers.get(i) : 1);
+        }
+        for (Integer transfer : transfers) {
+            out.putInt(transfer != null ? transfer : NONE);
+        }
+        for (Map.Entry<String, Object> chip : chips.entrySet()) {
+            out.putInt(strings.add(chip.getKey())).putInt(chip.getValue() instanceof Integer gw ? gw : NONE);
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, out.flip());
+            writeFully(channel, ByteBuffer.wrap(strings.toByteArray()));
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Finds the first kick-off of the next gameweek, the only field of its fixtures a manager needs.
+     *
+     * @param nextGWInfo the fixtures of the next gameweek
+     * @return the kick-off time, or null if it is missing
+     */
+    private static String findKickoffTime(List<Map<String, Object>> nextGWInfo) {
+        if (nextGWInfo == null || nextGWInfo.isEmpty()) {
+            return null;
+        }
+        return nextGWInfo.get(0).get("kickoff_time") instanceof String kickoffTime ? kickoffTime : null;
+    }
+
+    /**
+     * The string table being written, storing every distinct string once as its UTF-8 length and bytes.
+     */
+    private static class StringTable {
+        private final int start;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        private StringTable(int start) {
+            this.start = start;
+        }
+
+        /**
+         * Adds a string to the table, unless it is there already.
+         *
+         * @param value the string, or null
+         * @return the offset of the string in the file, or -1 for null
+         */
+        private int add(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            Integer offset = this.offsets.get(value);
+            if (offset == null) {
+                offset = this.start + this.bytes.size();
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                this.bytes.writeBytes(ByteBuffer.allocate(4).putInt(encoded.length).array());
+                this.bytes.writeBytes(encoded);
+                this.offsets.put(value, offset);
+            }
+            return offset;
+        }
+
+        private byte[] toByteArray() { return this.bytes.toByteArray(); }
+    }
+
+    private int count(int section) { return this.buffer.getInt(SECTIONS + section * 8); }
+    private int offset(int section) { return this.buffer.getInt(SECTIONS + section * 8 + 4); }
+
+    /**
+     * Decodes a string from the string table.
+     *
+     * @param reference the offset of the string, or -1 for null
+     * @return the string, or null
+     */
+    private String string(int reference) {
+        if (reference == NONE) {
+            return null;
+        }
+        byte[] bytes = new byte[this.buffer.getInt(reference)];
+        this.buffer.get(reference + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the row of a player in the player pool by binary search over the sorted IDs.
+     *
+     * @param id the element ID
+     * @return the row, or -1 if the player is not in the pool
+     */
+    public int findElement(int id) {
+        int low = 0;
+        int high = this.elementCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midID = getElementID(mid);
+            if (midID < id) {
+                low = mid + 1;
+            } else if (midID > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Decodes the row of a player into typed player data.
+     *
+     * @param row the row
+     * @return the player data
+     */
+    public ElementData getElement(int row) {
+        int record = record(row);
+        int chance = this.buffer.getInt(record + CHANCE_OF_PLAYING);
+        return new ElementData(this.buffer.getInt(record + ID), string(this.buffer.getInt(record + FIRST_NAME)),
+                string(this.buffer.getInt(record + SECOND_NAME)), string(this.buffer.getInt(record + WEB_NAME)),
+                this.buffer.getInt(record + ELEMENT_TYPE), this.buffer.getInt(record + TEAM), this.buffer.getInt(record + NOW_COST),
+                this.buffer.getInt(record + COST_CHANGE_EVENT), this.buffer.getInt(record + EVENT_POINTS),
+                chance == NONE ? null : Integer.valueOf(chance),
+                string(this.buffer.getInt(record + POINTS_PER_GAME)), string(this.buffer.getInt(record + SELECTED_BY_PERCENT)),
+                this.buffer.getInt(record + TRANSFERS_IN), this.buffer.getInt(record + TRANSFERS_OUT),
+                this.buffer.getDouble(record + XG_90), this.buffer.getDouble(record + XA_90), this.buffer.getDouble(record + CS_90),
+                this.buffer.getInt(record + MINUTES));
+    }
+
+    /**
+     * Decodes the whole player pool, e.g. for the transfer optimizer or squad solver.
+     *
+     * @return the typed data of every player, keyed by player ID
+     */
+    public Map<Integer, ElementData> getPlayerPool() {
+        Map<Integer, ElementData> pool = new HashMap<>();
+        for (int row = 0; row < this.elementCount; row++) {
+            ElementData element = getElement(row);
+            pool.put(element.id(), element);
+        }
+        return pool;
+    }
+
+    /**
+     * Decodes the teams with their strengths.
+     *
+     * @return the typed data of every team, keyed by team ID
+     */
+    public Map<Integer, TeamData> getTeams() {
+        Map<Integer, TeamData> teams = new HashMap<>();
+        for (int i = 0, record = offset(TEAMS); i < count(TEAMS); i++, record += TEAM_SIZE) {
+            teams.put(this.buffer.getInt(record), new TeamData(this.buffer.getInt(record), string(this.buffer.getInt(record + 4)),
+                    string(this.buffer.getInt(record + 8)), this.buffer.getInt(record + 12), this.buffer.getInt(record + 16),
+                    this.buffer.getInt(record + 20), this.buffer.getInt(record + 24)));
+        }
+        return teams;
+    }
+
+    /**
+     * Decodes the teams from 'teams.csv' the snapshot was written with.
+     *
+     * @return the teams as [name, short name], in team ID order
+     */
+    public List<List<String>> getClubs() {
+        List<List<String>> clubs = new ArrayList<>();
+        for (int i = 0, record = offset(CLUBS); i < count(CLUBS); i++, record += CLUB_SIZE) {
+            clubs.add(List.of(string(this.buffer.getInt(record)), string(this.buffer.getInt(record + 4))));
+        }
+        return clubs;
+    }
+
+    private int record(int row) {
+        if (row < 0 || row >= this.elementCount) {
+            throw new IndexOutOfBoundsException("No player in row " + row + " of " + this.elementCount);
+        }
+        return this.elementOffset + row * ELEMENT_SIZE;
+    }
+
+    /**
+     * Returns the same snapshot. A snapshot never changes, the live data is loaded through {@link FPLAPI}.
+     *
+     * @return this snapshot
+     */
+    @Override
+    public BinarySnapshot reload() {
+        return this;
+    }
+
+    @Override
+    public String getTeamName() {
+        return string(this.buffer.getInt(TEAM_NAME));
+    }
+
+    @Override
+    public ArrayList<Integer> getTeamPlayers() {
+        ArrayList<Integer> picks = new ArrayList<>();
+        for (int i = 0, record = offset(PICKS); i < count(PICKS); i++, record += PICK_SIZE) {
+            picks.add(this.buffer.getInt(record));
+        }
+        return picks;
+    }
+
+    @Override
+    public ArrayList<Integer> getMultipliers() {
+        ArrayList<Integer> multipliers = new ArrayList<>();
+        for (int i = 0, record = offset(PICKS); i < count(PICKS); i++, record += PICK_SIZE) {
+            multipliers.add(this.buffer.getInt(record + 4));
+        }
+        return multipliers;
+    }
+
+    @Override
+    public Map<Integer, ElementData> getPlayerData() {
+        Map<Integer, ElementData> playerData = new HashMap<>();
+        for (int playerID : getTeamPlayers()) {
+            int row = findElement(playerID);
+            if (row != NONE) {
+                playerData.put(playerID, getElement(row));
+            }
+        }
+        return playerData;
+    }
+
+    @Override
+    public List<Map<String, Object>> getNextGWInfo() {
+        String kickoffTime = string(this.buffer.getInt(KICKOFF_TIME));
+        return kickoffTime != null ? List.of(Map.of("kickoff_time", kickoffTime)) : null;
+    }
+
+    @Override
+    public ArrayList<Integer> getTransferHistory() {
+        ArrayList<Integer> transfers = new ArrayList<>();
+        for (int i = 0, record = offset(TRANSFERS); i < count(TRANSFERS); i++, record += TRANSFER_SIZE) {
+            int event = this.buffer.getInt(record);
+            transfers.add(event == NONE ? null : event);
+        }
+        return transfers;
+    }
+
+    @Override
+    public Map<String, Object> getChips() {
+        Map<String, Object> chips = new HashMap<>();
+        for (int i = 0, record = offset(CHIPS); i < count(CHIPS); i++, record += CHIP_SIZE) {
+            chips.put(string(this.buffer.getInt(record)), this.buffer.getInt(record + 4));
+        }
+        return chips;
+    }
+
+    @Override
+    public synchronized FixtureIndex getRemainingFixtures() {
+        if (this.remainingFixtures == null && count(FIXTURES) > 0) {
+            int[] fixtures = new int[count(FIXTURES) * FixtureIndex.FIXTURE_FIELDS];
+            this.buffer.asIntBuffer().get(offset(FIXTURES) / 4, fixtures);
+            this.remainingFixtures = new FixtureIndex(fixtures, getNextGW(), getClubs());
+        }
+        return this.remainingFixtures;
+    }
+
+    @Override
+    public synchronized FixtureDifficulty getFixtureDifficulty() {
+        if (this.fixtureDifficulty == null && getRemainingFixtures() != null && count(TEAMS) > 0) {
+            this.fixtureDifficulty = new FixtureDifficulty(getRemainingFixtures(), getTeams());
+        }
+        return this.fixtureDifficulty;
+    }
+
+    // Getters
+    public Path getFile() { return this.file; }
+    public int getElementCount() { return this.elementCount; }
+    public int getElementID(int row) { return this.buffer.getInt(record(row) + ID); }
+    public int getElementType(int row) { return this.buffer.getInt(record(row) + ELEMENT_TYPE); }
+    public int getTeam(int row) { return this.buffer.getInt(record(row) + TEAM); }
+    public int getNowCost(int row) { return this.buffer.getInt(record(row) + NOW_COST); }
+    public int getEventPoints(int row) { return this.buffer.getInt(record(row) + EVENT_POINTS); }
+    public double getExpectedGoalsPer90(int row) { return this.buffer.getDouble(record(row) + XG_90); }
+    public double getExpectedAssistsPer90(int row) { return this.buffer.getDouble(record(row) + XA_90); }
+    public double getCleanSheetsPer90(int row) { return this.buffer.getDouble(record(row) + CS_90); }
+    @Override
+    public int getManagerID() { return this.buffer.getInt(MANAGER_ID); }
+    @Override
+    public int getNextGW() { return this.buffer.getInt(NEXT_GW); }
+    @Override
+    public int getBank() { return this.buffer.getInt(BANK); }
+}
@@ -1,14 +1,13 @@
 package FPLManager.model;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -16,12 +15,39 @@ import java.util.Scanner;
  */
 public class DataManager {
     private final ArrayList<ArrayList<String>> teams;
+    private UserStore users;
+
+    /**
+     * Returns the writable directory where the application keeps its local data.
+     * It can be overridden with the 'fplmanager.dataDir' system property.
+     *
+     * @return the data directory
+     */
+    public static Path getDataDirectory() {
+        String dataDir = System.getProperty("fplmanager.dataDir");
+        if (dataDir != null) {
+            return Paths.get(dataDir);
+        }
+        return Paths.get(System.getProperty("user.home"), ".fplmanager");
+    }
 
     /**
      * Constructs a new DataManager object and initializes the teams.
+     * Users are kept in the shared user store in the data directory, which is only opened when a user is first saved or looked up,
+     * so a DataManager used for the teams alone never touches the data directory.
      */
     public DataManager() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new DataManager object that keeps users in the given store.
+     *
+     * @param users the user store, or null for the shared store
+     */
+    public DataManager(UserStore users) {
         this.teams = loadTeams();
+        this.users = users;
     }
 
     /**
@@ -61,60 +87,55 @@ public class DataManager {
     }
 
     /**
-     * Adds a user to the 'users.txt' file.
+     * Saves a user in the user store.
      *
      * @param teamName the name of the team
      * @param teamID the ID of the team
      */
     public void addUser(String teamName, int teamID) {
-        Path currentPath = Paths.get(".");
-        Path filePath = currentPath.resolve("src/main/resources/FPLManager/data").resolve("users.txt").normalize();
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath.toString(), true))) {
-
-            writer.println(teamName + "," + teamID);
-
+        try {
+            getUsers().add(teamName, teamID);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: user could not be saved - " + e.getMessage());
         } catch (IOException e) {
-            System.err.println("Error: file 'user.txt' could not be opened. Does it exist?");
+            System.err.println("Error: user log '" + getUsers().getLogFile() + "' could not be written - " + e.getMessage());
         }
     }
 
     /**
-     * Finds a user by team name in the 'users.txt' file.
+     * Finds a user by team name in the user store.
      *
      * @param teamName the name of the team
-     * @return the ID of the team, or 0 if not found
+     * @return the ID of the team, or -1 if not found
      */
     public int findUser(String teamName) {
-        try (InputStream inputStream = getClass().getResourceAsStream("/FPLManager/data/users.txt");
-             Scanner scanner = new Scanner(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+        return getUsers().find(teamName);
+    }
 
-            if (inputStream == null) {
-                throw new IllegalStateException("Error: 'users.txt' resource not found");
-            }
+    /**
+     * Finds the saved team names starting with a prefix, ignoring case.
+     *
+     * @param prefix the start of the team name
+     * @param limit the maximum number of names returned
+     * @return the matching team names
+     */
+    public List<String> searchUsers(String prefix, int limit) {
+        return getUsers().search(prefix, limit);
+    }
 
-            boolean firstLine = true;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                if (firstLine) {
-                    firstLine = false;
-                    continue;
-                }
-                String[] parts = line.split(",");
-                if (parts.length == 2) {
-                    String teamNameFile = parts[0].trim();
-                    int teamIDFile = Integer.parseInt(parts[1].trim());
-                    if (teamNameFile.equals(teamName)) {
-                        return teamIDFile;
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error: file 'users.txt' could not be opened. Does it exist?");
+    /**
+     * Returns the user store, opening the shared store on first use if none was given.
+     *
+     * @return the user store
+     */
+    public synchronized UserStore getUsers() {
+        if (this.users == null) {
+            this.users = UserStore.getShared();
         }
-        return -1;
+        return this.users;
     }
 
-    // Getter
+    // Getters
     public ArrayList<ArrayList<String>> getTeams() { return this.teams; }
 
 }
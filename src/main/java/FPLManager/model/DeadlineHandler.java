@@ -1,5 +1,6 @@
 package FPLManager.model;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -12,6 +13,7 @@ import java.util.Map;
  * The DeadlineHandler class calculates and handles the deadline for a game week in the Fantasy Premier League (FPL) game.
  */
 public class DeadlineHandler {
+    private final Instant deadline;
     private final String gwDeadline;
 
     /**
@@ -20,15 +22,17 @@ public class DeadlineHandler {
      * @param gwInfo a list containing the game week information
      */
     public DeadlineHandler(List<Map<String, Object>> gwInfo) {
-        this.gwDeadline = setGWDeadline(gwInfo);
+        this.deadline = findDeadline(gwInfo);
+        this.gwDeadline = setGWDeadline(this.deadline);
     }
 
     /**
-     * Sets the game week deadline using the provided game week information.
+     * Finds the game week deadline, 90 minutes before the first kick-off, using the provided game week information.
      *
      * @param gwInfo a list containing the game week information
+     * @return the deadline, or null if it cannot be found
      */
-    private String setGWDeadline(List<Map<String, Object>> gwInfo) {
+    private Instant findDeadline(List<Map<String, Object>> gwInfo) {
         if (gwInfo == null || gwInfo.isEmpty()) {
             System.err.println("Error: gwInfo list is null or empty.");
             return null;
@@ -41,17 +45,28 @@ public class DeadlineHandler {
             return null;
         }
         OffsetDateTime offsetDateTime = OffsetDateTime.parse(firstKickOff);
-        ZonedDateTime zonedDateTimeOslo = offsetDateTime.atZoneSameInstant(ZoneId.of("Europe/Oslo"));
+        return offsetDateTime.toInstant().minusSeconds(90 * 60);
+    }
+
+    /**
+     * Sets the game week deadline as local time in Oslo.
+     *
+     * @param deadline the deadline
+     */
+    private String setGWDeadline(Instant deadline) {
+        if (deadline == null) {
+            return null;
+        }
+        ZonedDateTime zonedDateTimeOslo = deadline.atZone(ZoneId.of("Europe/Oslo"));
         LocalDateTime localDateTime = zonedDateTimeOslo.toLocalDateTime();
     
-        LocalDateTime deadline = localDateTime.minusMinutes(90);
-    
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm dd.MM");
-        String formattedDeadline = deadline.format(formatter);
+        String formattedDeadline = localDateTime.format(formatter);
         return formattedDeadline;
     }
 
     // Getter
     public String getGWDeadLine() { return this.gwDeadline; }
+    public Instant getDeadline() { return this.deadline; }
 
 }
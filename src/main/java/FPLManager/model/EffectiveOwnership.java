@@ -0,0 +1,325 @@
+package FPLManager.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures effective ownership and the template squad over a sample of managers, such as the top 10,000 of the
+ * overall league, a mini-league or a band of ranks.
+ * <p>
+ * The picks of the sampled entries are requested on a fixed number of virtual threads. Every worker streams the
+ * picks it loads into its own {@link Sample}, a set of int counters indexed by element ID, and the samples are
+ * merged once all workers are done, so no counter is shared between threads and no {@link Manager} is built.
+ * <p>
+ * Sampling blocks until every entry is loaded, so it should be run off the JavaFX Application Thread.
+ * Interrupting the sampling thread interrupts the workers, which stop before their next request.
+ */
+public class EffectiveOwnership {
+    public static final int OVERALL_LEAGUE_ID = 314;
+
+    private final SeasonDataCache cache;
+    private final FPLTransport transport;
+    private final LeagueLoader leagueLoader;
+    private final int permits;
+
+    /**
+     * The counts of a sample of entries' picks, indexed by element ID.
+     */
+    public static class Sample {
+        private int entries;
+        private int failed;
+        private Duration elapsed = Duration.ZERO;
+        private int[] owned = new int[1];
+        private int[] started = new int[1];
+        private int[] captained = new int[1];
+        private int[] tripleCaptained = new int[1];
+        private int[] effective = new int[1];
+
+        /**
+         * Adds an entry's picks to the counts.
+         *
+         * @param picks the picks as read by {@link LeagueLoader#readPicks(com.fasterxml.jackson.core.JsonParser)}
+         */
+        public void add(int[] picks) {
+            for (int i = 1; i + 1 < picks.length; i += 2) {
+                int element = picks[i];
+                int multiplier = picks[i + 1];
+                if (element <= 0) {
+                    continue;
+                }
+                if (element >= this.owned.length) {
+                    grow(element + 1);
+                }
+                this.owned[element]++;
+                if (multiplier > 0) {
+                    this.started[element]++;
+                    this.effective[element] += multiplier;
+                }
+                if (multiplier == 2) {
+                    this.captained[element]++;
+                } else if (multiplier == 3) {
+                    this.tripleCaptained[element]++;
+                }
+            }
+            this.entries++;
+        }
+
+        /**
+         * Adds the counts of another sample to this one.
+         *
+         * @param other the sample to merge
+         */
+        public void merge(Sample other) {
+            if (other.owned.length > this.owned.length) {
+                grow(other.owned.length);
+            }
+            for (int id = 0; id < other.owned.length; id++) {
+                this.owned[id] += other.owned[id];
+                this.started[id] += other.started[id];
+                this.captained[id] += other.captained[id];
+                this.tripleCaptained[id] += other.tripleCaptained[id];
+                this.effective[id] += other.effective[id];
+            }
+            this.entries += other.entries;
+            this.failed += other.failed;
+        }
+
+        private void grow(int length) {
+            int capacity = Math.max(length, this.owned.length * 2);
+            this.owned = Arrays.copyOf(this.owned, capacity);
+            this.started = Arrays.copyOf(this.started, capacity);
+            this.captained = Arrays.copyOf(this.captained, capacity);
+            this.tripleCaptained = Arrays.copyOf(this.tripleCaptained, capacity);
+            this.effective = Arrays.copyOf(this.effective, capacity);
+        }
+
+        /**
+         * Returns the effective ownership of a player: the share of entries that started them,
+         * counting a captain twice and a triple captain three times.
+         *
+         * @param elementID the ID of the player
+         * @return the effective ownership in percent, over 100 for a player most entries captained
+         */
+        public double getEffectiveOwnership(int elementID) {
+            return percent(this.effective, elementID);
+        }
+
+        /**
+         * Returns the share of entries that have a player in their squad, benched or not.
+         *
+         * @param elementID the ID of the player
+         * @return the ownership in percent
+         */
+        public double getOwnership(int elementID) {
+            return percent(this.owned, elementID);
+        }
+
+        /**
+         * Returns the share of entries that captained a player, including triple captains.
+         *
+         * @param elementID the ID of the player
+         * @return the captaincy in percent
+         */
+        public double getCaptaincy(int elementID) {
+            if (elementID < 0 || elementID >= this.captained.length || this.entries == 0) {
+                return 0;
+            }
+            return (this.captained[elementID] + this.tripleCaptained[elementID]) * 100.0 / this.entries;
+        }
+
+        private double percent(int[] counts, int elementID) {
+            if (elementID < 0 || elementID >= counts.length || this.entries == 0) {
+                return 0;
+            }
+            return counts[elementID] * 100.0 / this.entries;
+        }
+
+        /**
+         * Builds the template squad: the most owned players of every position, in the squad's position quotas.
+         *
+         * @param pool the players that can be picked, keyed by element ID
+         * @return the template squad, ordered by position and then by ownership
+         */
+        public List<ElementData> getTemplate(Map<Integer, ElementData> pool) {
+            int[] quotas = {0, SquadSolver.GOALKEEPERS, SquadSolver.DEFENDERS, SquadSolver.MIDFIELDERS, SquadSolver.FORWARDS};
+            List<ElementData> owned = new ArrayList<>();
+            for (ElementData element : pool.values()) {
+                if (element.id() < this.owned.length && this.owned[element.id()] > 0
+                        && element.elementType() >= 1 && element.elementType() < quotas.length) {
+                    owned.add(element);
+                }
+            }
+            owned.sort(Comparator.comparingInt(ElementData::elementType)
+                    .thenComparing(Comparator.comparingInt((ElementData element) -> this.owned[element.id()]).reversed())
+                    .thenComparingInt(ElementData::id));
+            List<ElementData> template = new ArrayList<>();
+            for (ElementData element : owned) {
+                if (quotas[element.elementType()] > 0) {
+                    quotas[element.elementType()]--;
+                    template.add(element);
+                }
+            }
+            return template;
+        }
+
+        /**
+         * Finds the players of a team that few entries of the sample started.
+         *
+         * @param elementIDs the element IDs of the team
+         * @param maxEffectiveOwnership the highest effective ownership in percent counted as a differential
+         * @return the element IDs of the differentials, least owned first
+         */
+        public List<Integer> getDifferentials(Collection<Integer> elementIDs, double maxEffectiveOwnership) {
+            List<Integer> differentials = new ArrayList<>();
+            for (Integer id : elementIDs) {
+                if (id != null && getEffectiveOwnership(id) <= maxEffectiveOwnership) {
+                    differentials.add(id);
+                }
+            }
+            differentials.sort(Comparator.comparingDouble((Integer id) -> getEffectiveOwnership(id)).thenComparing(id -> id));
+            return differentials;
+        }
+
+        // Getters
+        public int getEntries() { return this.entries; }
+        public int getFailed() { return this.failed; }
+        public Duration getElapsed() { return this.elapsed; }
+        public int getOwnedCount(int elementID) { return elementID >= 0 && elementID < this.owned.length ? this.owned[elementID] : 0; }
+        public int getStartedCount(int elementID) { return elementID >= 0 && elementID < this.started.length ? this.started[elementID] : 0; }
+    }
+
+    /**
+     * Constructs an effective ownership sampler with the default page window and permits.
+     *
+     * @param cache the cache holding the season-wide data
+     */
+    public EffectiveOwnership(SeasonDataCache cache) {
+        this(cache, LeagueLoader.DEFAULT_PAGE_WINDOW, ManagerBatchLoader.DEFAULT_PERMITS);
+    }
+
+    /**
+     * Constructs an effective ownership sampler.
+     *
+     * @param cache the cache holding the season-wide data
+     * @param pageWindow the number of standings pages requested at the same time
+     * @param permits the number of workers loading picks at the same time
+     * @throws IllegalArgumentException if the page window or permits is not positive
+     */
+    public EffectiveOwnership(SeasonDataCache cache, int pageWindow, int permits) {
+        this.leagueLoader = new LeagueLoader(cache, pageWindow, permits);
+        this.cache = cache;
+        this.transport = cache.getTransport();
+        this.permits = permits;
+    }
+
+    /**
+     * Samples the top entries of the overall league in the last gameweek.
+     *
+     * @param count the number of entries, e.g. 10,000
+     * @return the sample
+     * @throws IllegalStateException if the standings cannot be loaded or the sampling is interrupted
+     */
+    public Sample sampleTop(int count) {
+        return sampleRankBand(OVERALL_LEAGUE_ID, 1, count, this.cache.get().getNextGW() - 1);
+    }
+
+    /**
+     * Samples every entry of a classic league.
+     *
+     * @param leagueID the ID of the classic league
+     * @param gameweek the gameweek of the picks
+     * @return the sample
+     * @throws IllegalStateException if the standings cannot be loaded or the sampling is interrupted
+     */
+    public Sample sampleLeague(int leagueID, int gameweek) {
+        return sampleRankBand(leagueID, 1, Integer.MAX_VALUE, gameweek);
+    }
+
+    /**
+     * Samples the entries in a band of ranks of a classic league, e.g. ranks 100,001 to 110,000 of the overall league.
+     *
+     * @param leagueID the ID of the classic league
+     * @param fromRank the first rank, from 1
+     * @param toRank the last rank
+     * @param gameweek the gameweek of the picks
+     * @return the sample
+     * @throws IllegalArgumentException if the band is empty
+     * @throws IllegalStateException if the standings cannot be loaded or the sampling is interrupted
+     */
+    public Sample sampleRankBand(int leagueID, int fromRank, int toRank, int gameweek) {
+        if (fromRank < 1 || toRank < fromRank) {
+            throw new IllegalArgumentException("Invalid rank band: " + fromRank + " to " + toRank);
+        }
+        return sample(this.leagueLoader.loadEntryIDs(leagueID, fromRank, toRank), gameweek);
+    }
+
+    /**
+     * Samples the picks of a set of entries. Entries whose picks cannot be loaded are counted as failed.
+     * If the calling thread is interrupted, the workers are interrupted too, and the interrupt is kept once they have stopped.
+     *
+     * @param entryIDs the IDs of the entries
+     * @param gameweek the gameweek of the picks
+     * @return the sample
+     * @throws IllegalStateException if the sampling is interrupted
+     */
+    public Sample sample(int[] entryIDs, int gameweek) {
+        long start = System.nanoTime();
+        AtomicInteger next = new AtomicInteger();
+        List<Future<Sample>> workers = new ArrayList<>();
+        Sample sample = new Sample();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int worker = 0; worker < Math.min(this.permits, entryIDs.length); worker++) {
+                workers.add(executor.submit(() -> {
+                    Sample partial = new Sample();
+                    for (int i = next.getAndIncrement(); i < entryIDs.length && !Thread.currentThread().isInterrupted(); i = next.getAndIncrement()) {
+                        int[] picks = this.transport.readStream("entry/" + entryIDs[i] + "/event/" + gameweek + "/picks/", LeagueLoader::readPicks);
+                        if (picks == null) {
+                            partial.failed++;
+                        } else {
+                            partial.add(picks);
+                        }
+                    }
+                    return partial;
+                }));
+            }
+            for (Future<Sample> worker : workers) {
+                sample.merge(worker.get());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sampling of " + entryIDs.length + " entries was interrupted", e);
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            throw new IllegalStateException("Sampling of " + entryIDs.length + " entries failed", e.getCause());
+        } finally {
+            executor.close();
+        }
+        sample.elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return sample;
+    }
+
+    /**
+     * Counts picks that are already loaded, splitting the work over the common fork-join pool.
+     *
+     * @param picks the picks of every entry, as read by {@link LeagueLoader#readPicks(com.fasterxml.jackson.core.JsonParser)}
+     * @return the sample
+     */
+    public static Sample count(Collection<int[]> picks) {
+        return picks.parallelStream().collect(Sample::new, Sample::add, Sample::merge);
+    }
+
+    // Getters
+    public int getPermits() { return this.permits; }
+}
@@ -0,0 +1,52 @@
+package FPLManager.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The typed data of one element (player) in the 'bootstrap-static/' response.
+ * Jackson binds only these fields and skips the roughly one hundred others, so a player costs a single
+ * compact object instead of a map of boxed values.
+ * The chance of playing is kept as an Integer because the API sends null for players without news;
+ * values from 0 to 100 are shared boxes and cost no allocation.
+ *
+ * @param id the ID of the player
+ * @param firstName the first name
+ * @param secondName the second name
+ * @param webName the short display name
+ * @param elementType the position, from 1 (goalkeeper) to 4 (forward)
+ * @param team the ID of the player's team
+ * @param nowCost the price in tenths of a million
+ * @param costChangeEvent the price change this gameweek in tenths of a million
+ * @param eventPoints the points in the last gameweek
+ * @param chanceOfPlayingNextRound the chance of playing next round in percent, or null if there is no news
+ * @param pointsPerGame the average points per game
+ * @param selectedByPercent the percentage of managers owning the player
+ * @param transfersInEvent the transfers in this gameweek
+ * @param transfersOutEvent the transfers out this gameweek
+ * @param expectedGoalsPer90 the expected goals per 90 minutes
+ * @param expectedAssistsPer90 the expected assists per 90 minutes
+ * @param cleanSheetsPer90 the clean sheets per 90 minutes
+ * @param minutes the minutes played this season
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ElementData(
+        @JsonProperty("id") int id,
+        @JsonProperty("first_name") String firstName,
+        @JsonProperty("second_name") String secondName,
+        @JsonProperty("web_name") String webName,
+        @JsonProperty("element_type") int elementType,
+        @JsonProperty("team") int team,
+        @JsonProperty("now_cost") int nowCost,
+        @JsonProperty("cost_change_event") int costChangeEvent,
+        @JsonProperty("event_points") int eventPoints,
+        @JsonProperty("chance_of_playing_next_round") Integer chanceOfPlayingNextRound,
+        @JsonProperty("points_per_game") String pointsPerGame,
+        @JsonProperty("selected_by_percent") String selectedByPercent,
+        @JsonProperty("transfers_in_event") int transfersInEvent,
+        @JsonProperty("transfers_out_event") int transfersOutEvent,
+        @JsonProperty("expected_goals_per_90") double expectedGoalsPer90,
+        @JsonProperty("expected_assists_per_90") double expectedAssistsPer90,
+        @JsonProperty("clean_sheets_per_90") double cleanSheetsPer90,
+        @JsonProperty("minutes") int minutes) {
+}
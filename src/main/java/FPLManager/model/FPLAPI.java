@@ -1,126 +1,351 @@
 package FPLManager.model;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * A class for interacting with the Fantasy Premier League (FPL) API.
  * This class provides methods to retrieve manager data, team information, player data, and upcoming fixtures.
  */
 public class FPLAPI implements IDataRetriever{
+    public static final String SEASON_DATA = "season data";
+    public static final int CACHED_ENDPOINTS = 5;
+
+    private static final Listener NO_LISTENER = (endpoint, loaded, total) -> {};
+
+    private final FPLTransport transport;
+    private final SeasonDataCache cache;
+    private final Listener listener;
+    private final boolean concurrent;
+    private final AtomicInteger loadedEndpoints = new AtomicInteger();
+    private final List<CompletableFuture<?>> requests = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
     private int managerID;
     private String teamName;
     private ArrayList<Integer> teamPlayers;
+    private ArrayList<Integer> multipliers;
+    private int bank;
     private int nextGW;
-    private Map<Integer, Map<String, Object>> playerData;
+    private Map<Integer, ElementData> playerData;
     private List<Map<String, Object>> nextGWInfo;
     private ArrayList<Integer> transferHistory;
     private Map<String, Object> chips;
-    private Map<Integer, List<Map<String, Object>>> remainingFixtures;
+    private FixtureIndex remainingFixtures;
+    private final Map<Integer, TeamData> teamData = new HashMap<>();
+    private FixtureDifficulty fixtureDifficulty;
+    private SeasonDataCache.SeasonData seasonData;
+    private volatile boolean complete = true;
+
+    /**
+     * Receives the progress of loading a manager.
+     * The methods are called from the loading threads, so implementations must be thread safe.
+     */
+    public interface Listener {
+
+        /**
+         * Called when an endpoint has been loaded.
+         *
+         * @param endpoint the endpoint, or {@link #SEASON_DATA} for the season-wide endpoints taken from the cache
+         * @param loaded the number of endpoints loaded so far
+         * @param total the number of endpoints to load
+         */
+        void loaded(String endpoint, int loaded, int total);
+
+        /**
+         * Called as soon as the team players and their data are known, while the remaining endpoints may still be loading.
+         * Only the team players, their data, the next gameweek and the fixtures of the given data are set.
+         *
+         * @param data the data loaded so far
+         */
+        default void playersLoaded(FPLAPI data) {}
+    }
 
     /**
      * Constructs an FPLAPI object with the specified manager ID and next gameweek.
+     * The season-wide data is taken from the shared cache, and the manager's endpoints are fetched concurrently.
      *
      * @param managerID The manager ID.
      */
     public FPLAPI(int managerID) {
+        this(managerID, SeasonDataCache.getShared());
+    }
+
+    /**
+     * Constructs an FPLAPI object that takes the season-wide data from the given cache,
+     * so only the manager's own endpoints are fetched, concurrently, through the cache's transport.
+     *
+     * @param managerID The manager ID.
+     * @param cache The cache holding the season-wide data.
+     */
+    public FPLAPI(int managerID, SeasonDataCache cache) {
+        this(managerID, cache, NO_LISTENER);
+    }
+
+    /**
+     * Constructs an FPLAPI object that takes the season-wide data from the given cache,
+     * reporting each of the {@value #CACHED_ENDPOINTS} loaded endpoints to the listener.
+     * Interrupting the constructing thread cancels the loading.
+     *
+     * @param managerID The manager ID.
+     * @param cache The cache holding the season-wide data.
+     * @param listener The listener receiving the progress.
+     */
+    public FPLAPI(int managerID, SeasonDataCache cache, Listener listener) {
         this.managerID = managerID;
-        setNextGW();
-        setTeamName();
-        setTeamPlayers();
-        setPlayerData();
-        setNextGWInfo();
-        setTransferHistory();
-        setChips();
-        setRemainingFixtures();
+        this.transport = cache.getTransport();
+        this.cache = cache;
+        this.listener = listener;
+        this.concurrent = true;
+        loadCached(cache);
     }
 
     /**
-     * Builds the API request URL.
+     * Constructs an FPLAPI object that fetches the endpoints concurrently through the given transport.
      *
-     * @param requestString The API endpoint.
-     * @return The complete API request URL.
+     * @param managerID The manager ID.
+     * @param transport The transport used for the requests.
      */
-    private final String requestBuilder(String requestString) {
-        return "https://fantasy.premierleague.com/api/" + requestString;
+    public FPLAPI(int managerID, FPLTransport transport) {
+        this(managerID, transport, true);
     }
 
     /**
-     * Sends an HTTP GET request to the specified URL and returns the response.
+     * Constructs an FPLAPI object that fetches the endpoints through the given transport.
+     * In concurrent mode the independent endpoints are requested in parallel, and only the real
+     * dependencies are chained: the next gameweek feeds the picks and fixture requests, and the
+     * picks feed the player filtering. In sequential mode the endpoints are requested one after another.
      *
-     * @param requestString The request URL.
-     * @return The HTTP response, or null if an error occurs.
+     * @param managerID The manager ID.
+     * @param transport The transport used for the requests.
+     * @param concurrent Whether the endpoints should be requested concurrently.
      */
-    private HttpResponse<String> getResponse(String requestString) {
-        HttpClient client = HttpClient.newHttpClient();
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(requestString))
-                    .GET()
-                    .build();
-            return client.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (Exception e) {
-            System.err.println("Error with HTTP request in getResponse(): " + requestString + "-" + e.getMessage());
-            return null;
+    public FPLAPI(int managerID, FPLTransport transport, boolean concurrent) {
+        this.managerID = managerID;
+        this.transport = transport;
+        this.cache = null;
+        this.listener = NO_LISTENER;
+        this.concurrent = concurrent;
+        if (concurrent) {
+            loadConcurrently();
+        } else {
+            loadSequentially();
+        }
+    }
+
+    /**
+     * Requests all endpoints one after another, blocking on each response.
+     */
+    private void loadSequentially() {
+        setNextGW(this.transport.getJson("events/", new TypeReference<List<Map<String, Object>>>() {}));
+        setTeamName(this.transport.getJson("entry/" + this.managerID + "/", new TypeReference<Map<String, Object>>() {}));
+        setTeamPlayers(this.transport.getJson(picksRequest(), new TypeReference<Map<String, Object>>() {}));
+        setPlayerData(this.transport.readStream("bootstrap-static/", parser -> readElements(parser, this.transport, () -> this.teamPlayers::contains, this.teamData)));
+        setNextGWInfo(this.transport.getJson(nextGWInfoRequest(), new TypeReference<List<Map<String, Object>>>() {}));
+        setTransferHistory(this.transport.getJson("entry/" + this.managerID + "/transfers/", new TypeReference<List<Map<String, Object>>>() {}));
+        setChips(this.transport.getJson("entry/" + this.managerID + "/history/", new TypeReference<Map<String, Object>>() {}));
+        setRemainingFixtures(this.transport.getJson("fixtures/", new TypeReference<List<Map<String, Object>>>() {}));
+    }
+
+    /**
+     * Requests all endpoints concurrently and waits for the slowest dependency chain to finish.
+     * A missing picks response fails the load, and the bootstrap reader then keeps no players.
+     *
+     * @throws IllegalStateException If the loading is interrupted.
+     */
+    private void loadConcurrently() {
+        CompletableFuture<List<Map<String, Object>>> events = request(this.transport.getJsonAsync("events/", new TypeReference<List<Map<String, Object>>>() {}));
+        CompletableFuture<Map<String, Object>> entry = request(this.transport.getJsonAsync("entry/" + this.managerID + "/", new TypeReference<Map<String, Object>>() {}));
+        CompletableFuture<List<Map<String, Object>>> transfers = request(this.transport.getJsonAsync("entry/" + this.managerID + "/transfers/", new TypeReference<List<Map<String, Object>>>() {}));
+        CompletableFuture<Map<String, Object>> history = request(this.transport.getJsonAsync("entry/" + this.managerID + "/history/", new TypeReference<Map<String, Object>>() {}));
+        CompletableFuture<List<Map<String, Object>>> fixtures = request(this.transport.getJsonAsync("fixtures/", new TypeReference<List<Map<String, Object>>>() {}));
+
+        CompletableFuture<Void> nextGW = events.thenAccept(this::setNextGW);
+        CompletableFuture<Void> teamPlayers = nextGW
+                .thenCompose(ignored -> request(this.transport.getJsonAsync(picksRequest(), new TypeReference<Map<String, Object>>() {})))
+                .thenAccept(this::setTeamPlayers);
+        CompletableFuture<Void> nextGWInfo = nextGW
+                .thenCompose(ignored -> request(this.transport.getJsonAsync(nextGWInfoRequest(), new TypeReference<List<Map<String, Object>>>() {})))
+                .thenAccept(this::setNextGWInfo);
+        CompletableFuture<Void> playerData = request(this.transport.readStreamAsync("bootstrap-static/", parser -> readElements(parser, this.transport,
+                () -> teamPlayers.<IntPredicate>handle((ignored, e) -> e == null ? this.teamPlayers::contains : id -> false).join(),
+                this.teamData)))
+                .thenAccept(this::setPlayerData);
+        CompletableFuture<Void> remainingFixtures = nextGW.thenCombine(fixtures, (ignored, allFixtures) -> allFixtures)
+                .thenAccept(this::setRemainingFixtures);
+
+        await(entry.thenAccept(this::setTeamName),
+                transfers.thenAccept(this::setTransferHistory),
+                history.thenAccept(this::setChips),
+                teamPlayers, playerData, nextGWInfo, remainingFixtures);
+    }
+
+    /**
+     * Takes the season-wide data from the cache and requests the manager's own endpoints concurrently.
+     *
+     * @param cache The cache holding the season-wide data.
+     */
+    private void loadCached(SeasonDataCache cache) {
+        CompletableFuture<SeasonDataCache.SeasonData> season = cache.getAsync();
+        CompletableFuture<Map<String, Object>> entry = request(this.transport.getJsonAsync("entry/" + this.managerID + "/", new TypeReference<Map<String, Object>>() {}));
+        CompletableFuture<List<Map<String, Object>>> transfers = request(this.transport.getJsonAsync("entry/" + this.managerID + "/transfers/", new TypeReference<List<Map<String, Object>>>() {}));
+        CompletableFuture<Map<String, Object>> history = request(this.transport.getJsonAsync("entry/" + this.managerID + "/history/", new TypeReference<Map<String, Object>>() {}));
+
+        CompletableFuture<Void> seasonData = season.thenAccept(data -> {
+            this.seasonData = data;
+            this.nextGW = data.getNextGW();
+            setNextGWInfo(data.getNextGWInfo());
+            this.remainingFixtures = data.getRemainingFixtures();
+            if (this.remainingFixtures == null) {
+                this.complete = false;
+            }
+            this.fixtureDifficulty = data.getFixtureDifficulty();
+            progress(SEASON_DATA);
+        });
+        CompletableFuture<Void> playerData = seasonData
+                .thenCompose(ignored -> request(this.transport.getJsonAsync(picksRequest(), new TypeReference<Map<String, Object>>() {})))
+                .thenAccept(this::setTeamPlayers)
+                .thenRun(() -> {
+                    setPlayerData(filterPlayerData(season.join().getElements()));
+                    progress(picksRequest());
+                    this.listener.playersLoaded(this);
+                });
+
+        await(entry.thenAccept(this::setTeamName).thenRun(() -> progress("entry/" + this.managerID + "/")),
+                transfers.thenAccept(this::setTransferHistory).thenRun(() -> progress("entry/" + this.managerID + "/transfers/")),
+                history.thenAccept(this::setChips).thenRun(() -> progress("entry/" + this.managerID + "/history/")),
+                playerData);
+    }
+
+    /**
+     * Reports a loaded endpoint of the cached loading to the listener.
+     *
+     * @param endpoint The loaded endpoint.
+     */
+    private void progress(String endpoint) {
+        this.listener.loaded(endpoint, this.loadedEndpoints.incrementAndGet(), CACHED_ENDPOINTS);
+    }
+
+    /**
+     * Keeps a pending request so it can be cancelled with the loading.
+     * A request made after the loading was cancelled is cancelled at once.
+     *
+     * @param <T> The type of the response.
+     * @param request The pending request.
+     * @return The same request.
+     */
+    private <T> CompletableFuture<T> request(CompletableFuture<T> request) {
+        this.requests.add(request);
+        if (this.cancelled) {
+            request.cancel(true);
         }
+        return request;
     }
 
     /**
-     * Retrieves JSON data from the specified API endpoint and parses it into the specified type.
+     * Waits for the loading to finish, cancelling every request and stage if the waiting thread is interrupted.
+     * If stages fail, the failure of the first one in the given order is thrown.
      *
-     * @param <T> The type to parse the JSON data into.
-     * @param requestString The API endpoint.
-     * @param typeReference The type reference for parsing the JSON data.
-     * @return The parsed JSON data, or null if an error occurs.
-     * @throws IllegalStateException If the JSON body is null or empty.
-     */
-    private <T> T getJsonBody(String requestString, TypeReference<T> typeReference) {
-        String finalRequestString = requestBuilder(requestString);
+     * @param stages The futures completing when their endpoints are loaded.
+     * @throws IllegalStateException If the loading is interrupted.
+     */
+    private void await(CompletableFuture<?>... stages) {
         try {
-            HttpResponse<String> response = getResponse(finalRequestString);
-            String jsonBody = response.body();
-            if (jsonBody == null || jsonBody.isEmpty()) {
-                throw new IllegalStateException("Empty or null JSON body recieved for request: " + finalRequestString);
+            CompletableFuture.allOf(stages).get();
+        } catch (InterruptedException e) {
+            this.cancelled = true;
+            this.requests.forEach(request -> request.cancel(true));
+            for (CompletableFuture<?> stage : stages) {
+                stage.cancel(true);
             }
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonBody, typeReference);
-        } catch (Exception e) {
-            System.err.println("Error with HTTP request in getJsonBody(): " + finalRequestString + " - " + e.getMessage());
-            return null;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Loading of manager " + this.managerID + " was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            for (CompletableFuture<?> stage : stages) {
+                if (stage.isCompletedExceptionally()) {
+                    cause = stage.handle((ignored, failure) -> failure).join();
+                    break;
+                }
+            }
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
         }
     }
 
+    /**
+     * Builds the picks request for the previous gameweek.
+     *
+     * @return The picks API endpoint.
+     */
+    private String picksRequest() {
+        return "entry/" + this.managerID + "/event/" + (this.nextGW - 1) + "/picks/";
+    }
+
+    /**
+     * Builds the fixture request for the next gameweek.
+     *
+     * @return The fixtures API endpoint.
+     */
+    private String nextGWInfoRequest() {
+        return "fixtures/?event=" + this.nextGW;
+    }
+
     /**
      * Sets the next gameweek from the FPL API.
+     *
+     * @param events The parsed 'events/' response.
      */
-    private void setNextGW() {
-        List<Map<String, Object>> events = getJsonBody("events/", new TypeReference<List<Map<String, Object>>>() {});
+    private void setNextGW(List<Map<String, Object>> events) {
+        this.nextGW = findNextGW(events);
+    }
+
+    /**
+     * Finds the next gameweek in the events.
+     *
+     * @param events The parsed 'events/' response.
+     * @return The next gameweek, or -1 if it cannot be found.
+     */
+    static int findNextGW(List<Map<String, Object>> events) {
         if (events != null) {
             for (Map<String, Object> event : events) {
                 if ((Boolean) event.get("is_next")) {
-                    this.nextGW = (Integer) event.get("id");
-                    return;
+                    return (Integer) event.get("id");
                 }
             }
         }
-        this.nextGW = -1;
+        return -1;
     }
 
     /**
      * Sets the team name for the manager.
      *
+     * @param map The parsed 'entry/{id}/' response.
      * @throws IllegalStateException If the team name cannot be found.
      */
-    private void setTeamName() {
-        Map<String, Object> map = getJsonBody("entry/" + this.managerID + "/", new TypeReference<Map<String, Object>>() {});
+    private void setTeamName(Map<String, Object> map) {
+        if (map == null) {
+            throw new IllegalStateException("Cant find manager: " + this.managerID);
+        }
         Object nameObj = map.get("name");
         if (nameObj == null) {
             throw new IllegalStateException("Cant find name");
@@ -129,14 +354,13 @@ public class FPLAPI implements IDataRetriever{
     }
 
     /**
-     * Sets the team players for the manager based on the previous gameweek's picks.
+     * Sets the team players, their multipliers and the money in the bank for the manager based on the previous gameweek's picks.
      *
+     * @param teamMap The parsed picks response for the previous gameweek.
      * @throws IllegalArgumentException If the 'picks' data cannot be found.
      * @throws IllegalStateException If the team data cannot be found.
      */
-    private void setTeamPlayers() {
-        String previousGW = Integer.toString(this.nextGW - 1);
-        Map<String, Object> teamMap = getJsonBody("entry/" + this.managerID + "/event/" + previousGW + "/picks/", new TypeReference<Map<String, Object>>() {});
+    private void setTeamPlayers(Map<String, Object> teamMap) {
         if (teamMap == null) {
             throw new IllegalStateException("Cant find team");
         }
@@ -148,42 +372,190 @@ public class FPLAPI implements IDataRetriever{
             throw new IllegalArgumentException("Cannot find 'picks' data for manager ID: " + this.managerID);
         }
         this.teamPlayers = new ArrayList<>();
+        this.multipliers = new ArrayList<>();
         for (Map<String, Object> playerPick : picks) {
             Integer playerID = (Integer) playerPick.get("element");
             this.teamPlayers.add(playerID);
+            Object multiplier = playerPick.get("multiplier");
+            this.multipliers.add(multiplier instanceof Integer ? (Integer) multiplier : 1);
         }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> entryHistory = (Map<String, Object>) teamMap.get("entry_history");
+        Object bankObj = entryHistory != null ? entryHistory.get("bank") : null;
+        this.bank = bankObj instanceof Integer ? (Integer) bankObj : 0;
     }
 
     /**
-     * Sets player data for the manager's team.
+     * Streams the 'bootstrap-static/' response and keeps only the elements accepted by the filter.
+     * Every other section is skipped without being built, and an element is only buffered until its
+     * id is known; rejected elements are skipped from there on.
+     *
+     * @param parser The parser positioned before the response object.
+     * @param transport The transport providing the reader for the kept elements.
+     * @param filter Supplies the filter on player IDs, once it is known.
+     * @return A map of the kept players' data, keyed by player ID.
+     * @throws IOException If the JSON cannot be read.
      */
-    private void setPlayerData() {
-        this.playerData = new HashMap<>();
-        Map<String, Object> responseMap = getJsonBody("bootstrap-static/", new TypeReference<Map<String, Object>>() {});
+    static Map<Integer, ElementData> readElements(JsonParser parser, FPLTransport transport, Supplier<IntPredicate> filter) throws IOException {
+        return readElements(parser, transport, filter, null);
+    }
 
-        if (responseMap != null) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> elements = (List<Map<String, Object>>) responseMap.get("elements");
+    /**
+     * Streams the 'bootstrap-static/' response, keeping only the elements accepted by the filter,
+     * and binds the teams on the way.
+     *
+     * @param parser The parser positioned before the response object.
+     * @param transport The transport providing the readers.
+     * @param filter Supplies the filter on player IDs, once it is known.
+     * @param teams Receives the typed data of every team, keyed by team ID, or null to skip the teams.
+     * @return A map of the kept players' data, keyed by player ID.
+     * @throws IOException If the JSON cannot be read.
+     */
+    static Map<Integer, ElementData> readElements(JsonParser parser, FPLTransport transport, Supplier<IntPredicate> filter,
+            Map<Integer, TeamData> teams) throws IOException {
+        Map<Integer, ElementData> playerData = new HashMap<>();
+        if (!seekElements(parser, transport, teams)) {
+            return playerData;
+        }
+        ObjectReader reader = transport.readerFor(ElementData.class);
+        IntPredicate playerFilter = filter.get();
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.writeStartObject();
+            Integer playerId = null;
+            boolean keep = true;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (playerId == null && field.equals("id")) {
+                    playerId = parser.getIntValue();
+                    keep = playerFilter.test(playerId);
+                }
+                if (keep) {
+                    buffer.writeFieldName(field);
+                    buffer.copyCurrentStructure(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            buffer.writeEndObject();
+
+            if (keep && playerId != null) {
+                playerData.put(playerId, reader.readValue(buffer.asParser()));
+            }
+            buffer.close();
+        }
+        return playerData;
+    }
+
+    /**
+     * Streams the 'bootstrap-static/' response and binds every element directly to its typed data.
+     *
+     * @param parser The parser positioned before the response object.
+     * @param transport The transport providing the reader for the elements.
+     * @return A map of all players' data, keyed by player ID.
+     * @throws IOException If the JSON cannot be read.
+     */
+    static Map<Integer, ElementData> readAllElements(JsonParser parser, FPLTransport transport) throws IOException {
+        return readAllElements(parser, transport, null);
+    }
 
-            if (elements != null) {
-                for (Map<String, Object> player : elements) {
-                    Integer playerId = (Integer) player.get("id");
-                    if (this.teamPlayers.contains(playerId)) {
-                        this.playerData.put(playerId, player);
+    /**
+     * Streams the 'bootstrap-static/' response, binding every element and every team directly to its typed data.
+     *
+     * @param parser The parser positioned before the response object.
+     * @param transport The transport providing the readers.
+     * @param teams Receives the typed data of every team, keyed by team ID, or null to skip the teams.
+     * @return A map of all players' data, keyed by player ID.
+     * @throws IOException If the JSON cannot be read.
+     */
+    static Map<Integer, ElementData> readAllElements(JsonParser parser, FPLTransport transport, Map<Integer, TeamData> teams) throws IOException {
+        Map<Integer, ElementData> elements = new HashMap<>();
+        if (!seekElements(parser, transport, teams)) {
+            return elements;
+        }
+        ObjectReader reader = transport.readerFor(ElementData.class);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ElementData element = reader.readValue(parser);
+            elements.put(element.id(), element);
+        }
+        return elements;
+    }
+
+    /**
+     * Advances the parser to the start of the 'elements' array, skipping every section before it
+     * except 'teams', which the API sends before 'elements' and which is bound if requested.
+     *
+     * @param parser The parser positioned before the response object.
+     * @param transport The transport providing the reader for the teams.
+     * @param teams Receives the typed data of every team, keyed by team ID, or null to skip the teams.
+     * @return true if the array was found, false if the response has no elements.
+     * @throws IOException If the JSON cannot be read.
+     */
+    private static boolean seekElements(JsonParser parser, FPLTransport transport, Map<Integer, TeamData> teams) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Expected a JSON object in 'bootstrap-static/'");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                if (section.equals("elements")) {
+                    return true;
+                }
+                if (section.equals("teams") && teams != null) {
+                    ObjectReader reader = transport.readerFor(TeamData.class);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        TeamData team = reader.readValue(parser);
+                        teams.put(team.id(), team);
                     }
+                    continue;
                 }
             }
+            parser.skipChildren();
         }
+        return false;
     }
 
     /**
-     * Sets information about the upcoming gameweek's fixtures.
+     * Keeps the data of the manager's team players from the data of all players.
+     *
+     * @param elements The data of all players, keyed by player ID.
+     * @return A map of the team players' data, keyed by player ID.
+     */
+    private Map<Integer, ElementData> filterPlayerData(Map<Integer, ElementData> elements) {
+        Map<Integer, ElementData> playerData = new HashMap<>();
+        for (int playerID : this.teamPlayers) {
+            if (elements.containsKey(playerID)) {
+                playerData.put(playerID, elements.get(playerID));
+            }
+        }
+        return playerData;
+    }
+
+    /**
+     * Sets player data for the manager's team.
+     *
+     * @param playerData The team players' data, keyed by player ID.
      */
-    public void setNextGWInfo() {
-        List<Map<String, Object>> responseList = getJsonBody("fixtures/?event=" + this.nextGW, new TypeReference<List<Map<String, Object>>>() {});
+    private void setPlayerData(Map<Integer, ElementData> playerData) {
+        this.playerData = playerData != null ? playerData : new HashMap<>();
+        if (playerData == null || this.teamPlayers != null && !playerData.keySet().containsAll(this.teamPlayers)) {
+            this.complete = false;
+        }
+    }
 
+    /**
+     * Sets information about the upcoming gameweek's fixtures.
+     *
+     * @param responseList The parsed fixture response for the next gameweek.
+     */
+    private void setNextGWInfo(List<Map<String, Object>> responseList) {
         if (responseList == null) {
             System.err.println("Could not find upcoming fixtures for: " + this.nextGW);
+            this.complete = false;
         }
         this.nextGWInfo = responseList;
     }
@@ -191,11 +563,15 @@ public class FPLAPI implements IDataRetriever{
 
     /**
      * Sets the transfer history for the manager.
+     *
+     * @param transferMap The parsed 'entry/{id}/transfers/' response.
      */
-    public void setTransferHistory() {
+    private void setTransferHistory(List<Map<String, Object>> transferMap) {
         this.transferHistory = new ArrayList<>();
-        List<Map<String, Object>> transferMap = getJsonBody("entry/" + this.managerID + "/transfers/", new TypeReference<List<Map<String, Object>>>() {});
-        
+        if (transferMap == null) {
+            this.complete = false;
+        }
+
         if (transferMap != null) {
             for (Map<String, Object> transfer : transferMap) {
                 Integer eventID = (Integer) transfer.get("event");
@@ -206,10 +582,14 @@ public class FPLAPI implements IDataRetriever{
 
     /**
      * Sets the chips used by the manager.
+     *
+     * @param responseMap The parsed 'entry/{id}/history/' response.
      */
-    public void setChips() {
+    private void setChips(Map<String, Object> responseMap) {
         this.chips = new HashMap<>();
-        Map<String, Object> responseMap = getJsonBody("entry/" + this.managerID + "/history/", new TypeReference<Map<String, Object>>() {});
+        if (responseMap == null) {
+            this.complete = false;
+        }
 
         if (responseMap != null) {
             @SuppressWarnings("unchecked")
@@ -229,42 +609,74 @@ public class FPLAPI implements IDataRetriever{
     }
 
     /**
-     * Constructs the remaining fixture list for the season.
+     * Sets the remaining fixture list for the season.
      *
-     * @return A map where the key is the Gameweek number, and the values are a list of home and away team,
-     */
-    private void setRemainingFixtures() {
-        List<Map<String, Object>> allFixtures = getJsonBody("fixtures/", new TypeReference<List<Map<String, Object>>>() {});
-        Map<Integer, List<Map<String, Object>>> remainingFixtures = new HashMap<>();
-        if (allFixtures != null) {
-            for (Map<String, Object> fixture : allFixtures) {
-                int gameweek = (fixture.get("event") != null) ? (Integer) fixture.get("event") : -1;
-                int homeTeamId = (fixture.get("team_h") != null) ? (Integer) fixture.get("team_h") : -1;
-                int awayTeamId = (fixture.get("team_a") != null) ? (Integer) fixture.get("team_a") : -1; 
-    
-                if (gameweek >= this.nextGW) {
-                    Map<String, Object> fixtureData = new HashMap<>();
-                    fixtureData.put("HomeTeam", homeTeamId);
-                    fixtureData.put("AwayTeam", awayTeamId);
-    
-                    remainingFixtures.computeIfAbsent(gameweek, k -> new ArrayList<>()).add(fixtureData);
-                }
-            }
+     * @param allFixtures The parsed 'fixtures/' response.
+     */
+    private void setRemainingFixtures(List<Map<String, Object>> allFixtures) {
+        this.remainingFixtures = buildFixtureIndex(allFixtures, this.nextGW);
+        if (this.remainingFixtures == null) {
+            this.complete = false;
         }
-        this.remainingFixtures = remainingFixtures;
     }
 
+    /**
+     * Indexes the season's fixtures by team and gameweek.
+     *
+     * @param allFixtures The parsed 'fixtures/' response.
+     * @param nextGW The next gameweek.
+     * @return The fixture index, or null if the fixtures are missing.
+     */
+    static FixtureIndex buildFixtureIndex(List<Map<String, Object>> allFixtures, int nextGW) {
+        if (allFixtures == null) {
+            return null;
+        }
+        return new FixtureIndex(allFixtures, nextGW, new DataManager().getTeams());
+    }
+
+
+    /**
+     * Loads the manager again from the same source: the same cache, or the same transport in the same mode.
+     * The cached season data is invalidated first, so prices, points and availability are current.
+     *
+     * @return The newly loaded data.
+     */
+    @Override
+    public FPLAPI reload() {
+        if (this.cache != null) {
+            this.cache.invalidate();
+            return new FPLAPI(this.managerID, this.cache);
+        }
+        return new FPLAPI(this.managerID, this.transport, this.concurrent);
+    }
+
+    /**
+     * Checks whether every endpoint answered. A failed request is read as missing or empty data,
+     * so a manager loaded while the API was failing should not replace data that was loaded completely.
+     *
+     * @return True if no endpoint failed.
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
 
     // Getters
+    @Override
     public int getManagerID() { return managerID; }
+    public boolean isConcurrent() { return concurrent; }
+    public SeasonDataCache.SeasonData getSeasonData() { return seasonData; }
     @Override
     public String getTeamName() { return teamName; }
     @Override
     public ArrayList<Integer> getTeamPlayers() { return teamPlayers; }
     @Override
+    public ArrayList<Integer> getMultipliers() { return multipliers; }
+    @Override
+    public int getBank() { return bank; }
+    @Override
     public int getNextGW() { return nextGW; }
     @Override
-    public Map<Integer, Map<String, Object>> getPlayerData() { return playerData; }
+    public Map<Integer, ElementData> getPlayerData() { return playerData; }
     @Override
     public List<Map<String, Object>> getNextGWInfo() { return nextGWInfo; }
     @Override
@@ -272,6 +684,13 @@ public class FPLAPI implements IDataRetriever{
     @Override
     public Map<String, Object> getChips() { return chips; }
     @Override
-    public Map<Integer, List<Map<String, Object>>> getRemainingFixtures() {return remainingFixtures; }
+    public FixtureIndex getRemainingFixtures() {return remainingFixtures; }
+    @Override
+    public synchronized FixtureDifficulty getFixtureDifficulty() {
+        if (fixtureDifficulty == null && remainingFixtures != null && !teamData.isEmpty()) {
+            fixtureDifficulty = new FixtureDifficulty(remainingFixtures, teamData);
+        }
+        return fixtureDifficulty;
+    }
 
 }
@@ -0,0 +1,377 @@
+package FPLManager.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * The transport layer used by {@link FPLAPI} to talk to the Fantasy Premier League (FPL) API.
+ * A transport holds one reusable HTTP/2 client, whose connection pool keeps connections alive between lookups,
+ * and one shared Jackson mapper with a prebuilt reader per requested type.
+ * Optionally, responses are kept in an {@link HttpDiskCache} and revalidated with conditional requests,
+ * and the bodies read are teed into a {@link SnapshotRecorder}.
+ * Transports are thread safe and meant to be shared for the lifetime of the application.
+ */
+public class FPLTransport {
+
+    /**
+     * Reads a value token by token from a streamed JSON response.
+     *
+     * @param <T> The type of the value read.
+     */
+    @FunctionalInterface
+    public interface StreamReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    public static final String DEFAULT_BASE_URL = "https://fantasy.premierleague.com/api/";
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static FPLTransport defaultTransport;
+
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final HttpDiskCache diskCache;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private volatile SnapshotRecorder recorder;
+
+    /**
+     * Constructs a transport against the given API base URL with the default timeouts.
+     *
+     * @param baseUrl The base URL of the API, ending with a slash.
+     */
+    public FPLTransport(String baseUrl) {
+        this(baseUrl, DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Constructs a transport against the given API base URL.
+     *
+     * @param baseUrl The base URL of the API, ending with a slash.
+     * @param connectTimeout The timeout for establishing a connection.
+     * @param requestTimeout The timeout for a single request, from sending it until the response headers arrive.
+     */
+    public FPLTransport(String baseUrl, Duration connectTimeout, Duration requestTimeout) {
+        this(baseUrl, connectTimeout, requestTimeout, null);
+    }
+
+    /**
+     * Constructs a transport against the given API base URL that keeps responses in a disk cache
+     * and revalidates them with conditional requests.
+     *
+     * @param baseUrl The base URL of the API, ending with a slash.
+     * @param connectTimeout The timeout for establishing a connection.
+     * @param requestTimeout The timeout for a single request, from sending it until the response headers arrive.
+     * @param diskCache The disk cache for responses, or null to disable it.
+     */
+    public FPLTransport(String baseUrl, Duration connectTimeout, Duration requestTimeout, HttpDiskCache diskCache) {
+        this.baseUrl = baseUrl;
+        this.diskCache = diskCache;
+        this.requestTimeout = requestTimeout;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .executor(this.executor)
+                .build();
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Returns the process-wide transport against the official FPL API, creating it on first use.
+     * The shared transport keeps responses in a disk cache in the application's data directory, when it is writable.
+     *
+     * @return The shared transport.
+     */
+    public static synchronized FPLTransport getDefault() {
+        if (defaultTransport == null) {
+            HttpDiskCache diskCache = null;
+            try {
+                diskCache = new HttpDiskCache(DataManager.getDataDirectory().resolve("http-cache"), HttpDiskCache.DEFAULT_MAX_BYTES);
+            } catch (IOException e) {
+                System.err.println("Error: HTTP disk cache could not be opened, continuing without it - " + e.getMessage());
+            }
+            defaultTransport = new FPLTransport(DEFAULT_BASE_URL, DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, diskCache);
+        }
+        return defaultTransport;
+    }
+
+    /**
+     * Builds the API request URL.
+     *
+     * @param requestString The API endpoint.
+     * @return The complete API request URL.
+     */
+    private String requestBuilder(String requestString) {
+        return this.baseUrl + requestString;
+    }
+
+    /**
+     * Builds a GET request for the specified endpoint.
+     * If the endpoint is in the disk cache, the request is made conditional on its stored validators.
+     *
+     * @param requestString The API endpoint.
+     * @param finalRequestString The request URL.
+     * @return The HTTP request.
+     */
+    private HttpRequest buildRequest(String requestString, String finalRequestString) {
+        return buildRequest(requestString, finalRequestString, true);
+    }
+
+    /**
+     * Builds a GET request for the specified endpoint.
+     *
+     * @param requestString The API endpoint.
+     * @param finalRequestString The request URL.
+     * @param conditional Whether to send the validators stored in the disk cache.
+     * @return The HTTP request.
+     */
+    private HttpRequest buildRequest(String requestString, String finalRequestString, boolean conditional) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(finalRequestString))
+                .timeout(this.requestTimeout)
+                .GET();
+        HttpDiskCache.Entry cached = conditional && this.diskCache != null ? this.diskCache.lookup(requestString) : null;
+        if (cached != null && cached.getETag() != null) {
+            builder.header("If-None-Match", cached.getETag());
+        }
+        if (cached != null && cached.getLastModified() != null) {
+            builder.header("If-Modified-Since", cached.getLastModified());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the prebuilt reader for the specified type, building it on first use.
+     *
+     * @param typeReference The type reference to read.
+     * @return The reader for the type.
+     */
+    public ObjectReader readerFor(TypeReference<?> typeReference) {
+        return this.readers.computeIfAbsent(typeReference.getType(), type -> this.objectMapper.readerFor(typeReference));
+    }
+
+    /**
+     * Returns the prebuilt reader for the specified class, building it on first use.
+     *
+     * @param type The class to read.
+     * @return The reader for the class.
+     */
+    public ObjectReader readerFor(Class<?> type) {
+        return this.readers.computeIfAbsent(type, key -> this.objectMapper.readerFor(type));
+    }
+
+    /**
+     * Retrieves JSON data from the specified API endpoint and parses it into the specified type.
+     *
+     * @param <T> The type to parse the JSON data into.
+     * @param requestString The API endpoint.
+     * @param typeReference The type reference for parsing the JSON data.
+     * @return The parsed JSON data, or null if an error occurs.
+     */
+    public <T> T getJson(String requestString, TypeReference<T> typeReference) {
+        return readStream(requestString, parser -> readerFor(typeReference).readValue(parser));
+    }
+
+    /**
+     * Asynchronously retrieves JSON data from the specified API endpoint and parses it into the specified type.
+     * Failures complete the future with null, mirroring {@link #getJson(String, TypeReference)}.
+     *
+     * @param <T> The type to parse the JSON data into.
+     * @param requestString The API endpoint.
+     * @param typeReference The type reference for parsing the JSON data.
+     * @return A future holding the parsed JSON data, or null if an error occurs.
+     */
+    public <T> CompletableFuture<T> getJsonAsync(String requestString, TypeReference<T> typeReference) {
+        return readStreamAsync(requestString, parser -> readerFor(typeReference).readValue(parser));
+    }
+
+    /**
+     * Retrieves the specified API endpoint and hands the response body to the stream reader as it arrives,
+     * without buffering the body into a String first.
+     *
+     * @param <T> The type of the value read.
+     * @param requestString The API endpoint.
+     * @param streamReader The reader consuming the JSON tokens.
+     * @return The value read, or null if an error occurs.
+     */
+    public <T> T readStream(String requestString, StreamReader<T> streamReader) {
+        String finalRequestString = requestBuilder(requestString);
+        try {
+            HttpResponse<InputStream> response = this.client.send(buildRequest(requestString, finalRequestString), HttpResponse.BodyHandlers.ofInputStream());
+            return parse(requestString, finalRequestString, response, streamReader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Interrupted HTTP request in readStream(): " + finalRequestString);
+            return null;
+        } catch (Exception e) {
+            System.err.println("Error with HTTP request in readStream(): " + finalRequestString + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Asynchronously retrieves the specified API endpoint and hands the response body to the stream reader.
+     * The reader runs on a virtual thread, so it may block while waiting for other requests to complete.
+     * Failures complete the future with null, mirroring {@link #readStream(String, StreamReader)}.
+     * Cancelling the future aborts the request if it is still in flight, and closes the body if it is being read.
+     *
+     * @param <T> The type of the value read.
+     * @param requestString The API endpoint.
+     * @param streamReader The reader consuming the JSON tokens.
+     * @return A future holding the value read, or null if an error occurs.
+     */
+    public <T> CompletableFuture<T> readStreamAsync(String requestString, StreamReader<T> streamReader) {
+        String finalRequestString = requestBuilder(requestString);
+        CompletableFuture<HttpResponse<InputStream>> sent = this.client.sendAsync(buildRequest(requestString, finalRequestString), HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sent.thenApplyAsync(response -> {
+                    try {
+                        return parse(requestString, finalRequestString, response, streamReader);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, this.executor)
+                .whenComplete((value, e) -> {
+                    if (e != null && !result.isCancelled()) {
+                        System.err.println("Error with HTTP request in readStreamAsync(): " + finalRequestString + " - " + e.getMessage());
+                    }
+                    result.complete(e == null ? value : null);
+                });
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                sent.cancel(true);
+                sent.thenAccept(response -> close(response.body()));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Closes a response body that is no longer read, so a reader still consuming it stops with an IOException.
+     *
+     * @param body The response body.
+     */
+    private static void close(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            System.err.println("Error closing a cancelled response body - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the stream reader over a response body, closing the body afterwards.
+     *
+     * @param <T> The type of the value read.
+     * @param requestString The API endpoint.
+     * @param finalRequestString The request URL, used for error messages.
+     * @param response The streamed HTTP response.
+     * @param streamReader The reader consuming the JSON tokens.
+     * @return The value read.
+     * @throws IllegalStateException If the response is not successful.
+     * @throws IOException If the JSON body cannot be read.
+     * @throws InterruptedException If the request has to be repeated and the thread is interrupted.
+     */
+    private <T> T parse(String requestString, String finalRequestString, HttpResponse<InputStream> response, StreamReader<T> streamReader) throws IOException, InterruptedException {
+        try (InputStream inputStream = record(requestString, openBody(requestString, finalRequestString, response));
+             JsonParser parser = this.objectMapper.createParser(inputStream)) {
+            return streamReader.read(parser);
+        }
+    }
+
+    /**
+     * Opens the body of a response. A 304 response is answered from the disk cache,
+     * and a fresh response carrying validators is stored in the disk cache before it is read.
+     * If the body was evicted from the disk cache after the conditional request was sent,
+     * the request is repeated once without validators.
+     *
+     * @param requestString The API endpoint.
+     * @param finalRequestString The request URL, used for error messages.
+     * @param response The streamed HTTP response.
+     * @return The response body.
+     * @throws IllegalStateException If the response is not successful.
+     * @throws IOException If the body cannot be opened.
+     * @throws InterruptedException If the request has to be repeated and the thread is interrupted.
+     */
+    private InputStream openBody(String requestString, String finalRequestString, HttpResponse<InputStream> response) throws IOException, InterruptedException {
+        int status = response.statusCode();
+        if (status == 304 && this.diskCache != null) {
+            response.body().close();
+            InputStream cached = this.diskCache.open(requestString);
+            if (cached != null) {
+                return cached;
+            }
+            response = this.client.send(buildRequest(requestString, finalRequestString, false), HttpResponse.BodyHandlers.ofInputStream());
+            status = response.statusCode();
+        }
+        if (status != 200) {
+            response.body().close();
+            throw new IllegalStateException("Unexpected status " + status + " for request: " + finalRequestString);
+        }
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (this.diskCache != null && (etag != null || lastModified != null)) {
+            return this.diskCache.store(requestString, response.body(), etag, lastModified);
+        }
+        return response.body();
+    }
+
+    /**
+     * Tees a response body into the recorder, if one is attached. A recorded body is read in full before it is parsed.
+     *
+     * @param requestString The API endpoint.
+     * @param body The response body.
+     * @return The body to parse.
+     * @throws IOException If the body cannot be read.
+     */
+    private InputStream record(String requestString, InputStream body) throws IOException {
+        SnapshotRecorder recorder = this.recorder;
+        if (recorder == null) {
+            return body;
+        }
+        byte[] bytes;
+        try (body) {
+            bytes = body.readAllBytes();
+        }
+        recorder.record(requestString, bytes);
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Attaches a recorder that captures every response body read from now on, or detaches it.
+     *
+     * @param recorder The recorder, or null to stop recording.
+     */
+    public void setRecorder(SnapshotRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    // Getters
+    public SnapshotRecorder getRecorder() { return this.recorder; }
+    public String getBaseUrl() { return this.baseUrl; }
+    public Duration getRequestTimeout() { return this.requestTimeout; }
+    public ObjectMapper getObjectMapper() { return this.objectMapper; }
+    public HttpDiskCache getDiskCache() { return this.diskCache; }
+}
@@ -0,0 +1,217 @@
+package FPLManager.model;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Fixture difficulty ratings (FDR) of every team for every gameweek, from the opponents' strength ratings.
+ * The attack difficulty of a fixture is the opponent's defensive strength, and the defence difficulty is the
+ * opponent's attacking strength, each taken for the opponent's side of the pitch (home or away) and scaled
+ * from 1 (easiest in the league) to 5 (hardest).
+ * For every team the ratings and fixture counts are summed into prefix arrays over the gameweeks,
+ * so the average difficulty of any window of gameweeks is two lookups. A blank gameweek adds no fixture,
+ * and both fixtures of a double gameweek are counted, so windows average over the fixtures actually played.
+ * The ratings are a snapshot of the fixture index when they were computed, and are immutable.
+ */
+public class FixtureDifficulty {
+    public static final double MIN_RATING = 1.0;
+    public static final double MAX_RATING = 5.0;
+
+    private static final int ROW = FixtureIndex.GAMEWEEKS + 1;
+
+    private final int teamCount;
+    private final int nextGW;
+    private final double[] attackPrefix;
+    private final double[] defencePrefix;
+    private final int[] fixturePrefix;
+
+    /**
+     * Computes the ratings of every team's fixtures.
+     *
+     * @param fixtures the index of the season's fixtures
+     * @param teams the typed data of every team, keyed by team ID
+     */
+    public FixtureDifficulty(FixtureIndex fixtures, Map<Integer, TeamData> teams) {
+        this.teamCount = fixtures.getTeamCount();
+        this.nextGW = fixtures.getNextGW();
+        this.attackPrefix = new double[(this.teamCount + 1) * ROW];
+        this.defencePrefix = new double[(this.teamCount + 1) * ROW];
+        this.fixturePrefix = new int[(this.teamCount + 1) * ROW];
+
+        int minDefence = Integer.MAX_VALUE;
+        int maxDefence = Integer.MIN_VALUE;
+        int minAttack = Integer.MAX_VALUE;
+        int maxAttack = Integer.MIN_VALUE;
+        for (TeamData team : teams.values()) {
+            minDefence = Math.min(minDefence, Math.min(team.strengthDefenceHome(), team.strengthDefenceAway()));
+            maxDefence = Math.max(maxDefence, Math.max(team.strengthDefenceHome(), team.strengthDefenceAway()));
+            minAttack = Math.min(minAttack, Math.min(team.strengthAttackHome(), team.strengthAttackAway()));
+            maxAttack = Math.max(maxAttack, Math.max(team.strengthAttackHome(), team.strengthAttackAway()));
+        }
+
+        for (int team = 1; team <= this.teamCount; team++) {
+            int base = team * ROW;
+            for (int gw = 1; gw <= FixtureIndex.GAMEWEEKS; gw++) {
+                double attack = 0;
+                double defence = 0;
+                int count = fixtures.getFixtureCount(team, gw);
+                int rated = 0;
+                for (int i = 0; i < count; i++) {
+                    TeamData opponent = teams.get(fixtures.getOpponent(team, gw, i));
+                    if (opponent == null) {
+                        continue;
+                    }
+                    boolean home = fixtures.isHome(team, gw, i);
+                    attack += scale(home ? opponent.strengthDefenceAway() : opponent.strengthDefenceHome(), minDefence, maxDefence);
+                    defence += scale(home ? opponent.strengthAttackAway() : opponent.strengthAttackHome(), minAttack, maxAttack);
+                    rated++;
+                }
+                this.attackPrefix[base + gw] = this.attackPrefix[base + gw - 1] + attack;
+                this.defencePrefix[base + gw] = this.defencePrefix[base + gw - 1] + defence;
+                this.fixturePrefix[base + gw] = this.fixturePrefix[base + gw - 1] + rated;
+            }
+        }
+    }
+
+    /**
+     * Scales a strength rating linearly onto the difficulty scale.
+     *
+     * @param strength the strength rating
+     * @param min the lowest strength in the league
+     * @param max the highest strength in the league
+     * @return the difficulty, from {@link #MIN_RATING} to {@link #MAX_RATING}
+     */
+    private static double scale(int strength, int min, int max) {
+        if (max <= min) {
+            return (MIN_RATING + MAX_RATING) / 2;
+        }
+        return MIN_RATING + (MAX_RATING - MIN_RATING) * (strength - min) / (max - min);
+    }
+
+    /**
+     * Returns the average attack difficulty of a team's fixtures in a window of gameweeks,
+     * i.e. how hard it is for the team to score.
+     *
+     * @param teamID the team ID
+     * @param fromGW the first gameweek of the window
+     * @param gameweeks the number of gameweeks in the window
+     * @return the average difficulty per fixture, or NaN if the team has no fixtures in the window
+     */
+    public double getAttackDifficulty(int teamID, int fromGW, int gameweeks) {
+        return average(this.attackPrefix, teamID, fromGW, gameweeks);
+    }
+
+    /**
+     * Returns the average defence difficulty of a team's fixtures in a window of gameweeks,
+     * i.e. how hard it is for the team to keep a clean sheet.
+     *
+     * @param teamID the team ID
+     * @param fromGW the first gameweek of the window
+     * @param gameweeks the number of gameweeks in the window
+     * @return the average difficulty per fixture, or NaN if the team has no fixtures in the window
+     */
+    public double getDefenceDifficulty(int teamID, int fromGW, int gameweeks) {
+        return average(this.defencePrefix, teamID, fromGW, gameweeks);
+    }
+
+    /**
+     * Returns the difficulty that matters for a player's position in a window of gameweeks:
+     * the defence difficulty for goalkeepers and defenders, and the attack difficulty for midfielders and forwards.
+     *
+     * @param teamID the team ID of the player
+     * @param elementType the position, from 1 (goalkeeper) to 4 (forward)
+     * @param fromGW the first gameweek of the window
+     * @param gameweeks the number of gameweeks in the window
+     * @return the average difficulty per fixture, or NaN if the team has no fixtures in the window
+     */
+    public double getDifficulty(int teamID, int elementType, int fromGW, int gameweeks) {
+        return elementType <= 2 ? getDefenceDifficulty(teamID, fromGW, gameweeks) : getAttackDifficulty(teamID, fromGW, gameweeks);
+    }
+
+    /**
+     * Returns the difficulty that matters for a player's position in the next gameweeks.
+     *
+     * @param teamID the team ID of the player
+     * @param elementType the position, from 1 (goalkeeper) to 4 (forward)
+     * @param gameweeks the number of gameweeks, starting with the next one
+     * @return the average difficulty per fixture, or NaN if the team has no fixtures in the window
+     */
+    public double getUpcomingDifficulty(int teamID, int elementType, int gameweeks) {
+        return getDifficulty(teamID, elementType, this.nextGW, gameweeks);
+    }
+
+    /**
+     * Counts a team's fixtures in a window of gameweeks.
+     *
+     * @param teamID the team ID
+     * @param fromGW the first gameweek of the window
+     * @param gameweeks the number of gameweeks in the window
+     * @return the number of fixtures, counting both fixtures of a double gameweek
+     */
+    public int getFixtureCount(int teamID, int fromGW, int gameweeks) {
+        if (isEmpty(teamID, fromGW, gameweeks)) {
+            return 0;
+        }
+        return this.fixturePrefix[end(teamID, fromGW, gameweeks)] - this.fixturePrefix[start(teamID, fromGW)];
+    }
+
+    private double average(double[] prefix, int teamID, int fromGW, int gameweeks) {
+        int fixtures = getFixtureCount(teamID, fromGW, gameweeks);
+        if (fixtures == 0) {
+            return Double.NaN;
+        }
+        return (prefix[end(teamID, fromGW, gameweeks)] - prefix[start(teamID, fromGW)]) / fixtures;
+    }
+
+    private boolean isEmpty(int teamID, int fromGW, int gameweeks) {
+        return teamID < 1 || teamID > this.teamCount || gameweeks < 1 || Math.max(fromGW, 1) > Math.min(fromGW + gameweeks - 1, FixtureIndex.GAMEWEEKS);
+    }
+
+    /** The prefix position just before the first gameweek of a window. */
+    private static int start(int teamID, int fromGW) { return teamID * ROW + Math.max(fromGW, 1) - 1; }
+
+    /** The prefix position of the last gameweek of a window. */
+    private static int end(int teamID, int fromGW, int gameweeks) { return teamID * ROW + Math.min(fromGW + gameweeks - 1, FixtureIndex.GAMEWEEKS); }
+
+    /**
+     * Rounds a difficulty to the whole rating used for colour coding.
+     *
+     * @param difficulty the difficulty
+     * @return the rating from 1 to 5, or 0 if the difficulty is NaN
+     */
+    public static int toRating(double difficulty) {
+        if (Double.isNaN(difficulty)) {
+            return 0;
+        }
+        return (int) Math.max(MIN_RATING, Math.min(MAX_RATING, Math.round(difficulty)));
+    }
+
+    /**
+     * Compares the ratings of two fixture difficulties.
+     *
+     * @param obj the other object
+     * @return true if both rate the same fixtures the same way from the same gameweek
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FixtureDifficulty other)) {
+            return false;
+        }
+        return this.nextGW == other.nextGW && this.teamCount == other.teamCount
+                && Arrays.equals(this.attackPrefix, other.attackPrefix)
+                && Arrays.equals(this.defencePrefix, other.defencePrefix)
+                && Arrays.equals(this.fixturePrefix, other.fixturePrefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.nextGW + this.teamCount) + Arrays.hashCode(this.fixturePrefix);
+    }
+
+    // Getters
+    public int getNextGW() { return this.nextGW; }
+    public int getTeamCount() { return this.teamCount; }
+}
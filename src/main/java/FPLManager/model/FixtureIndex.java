@@ -0,0 +1,340 @@
+package FPLManager.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * A lookup table of the season's fixtures, indexed by team and gameweek.
+ * Each slot holds the opponent and home/away flag of the team's first fixture in the gameweek,
+ * and further fixtures in a double gameweek are kept in a small overflow map, in the order they were added.
+ * The fixture labels shown for a player, such as "ARS(H)", are built once per team and shared by all players of that team.
+ * The index is thread safe, and can be refreshed in place when fixtures are rescheduled.
+ */
+public final class FixtureIndex {
+    public static final int GAMEWEEKS = 38;
+
+    static final int FIXTURE_FIELDS = 4;
+
+    private static final int EMPTY = 0;
+
+    private final List<? extends List<String>> teams;
+    private final int teamCount;
+    private final int[] slots;
+    private final Map<Integer, int[]> overflow = new HashMap<>();
+    private final Map<Integer, int[]> fixturesById = new HashMap<>();
+    private final String[] labels;
+    private final List<Map<Integer, List<String>>> teamFixtures;
+    private int nextGW;
+
+    /**
+     * Constructs an index from the 'fixtures/' response.
+     *
+     * @param allFixtures the parsed 'fixtures/' response
+     * @param nextGW the next gameweek, the first one returned by the lookups
+     * @param teams the teams as [name, short name], in team ID order
+     */
+    public FixtureIndex(List<Map<String, Object>> allFixtures, int nextGW, List<? extends List<String>> teams) {
+        this(new int[0], nextGW, teams);
+        refresh(allFixtures, nextGW);
+    }
+
+    /**
+     * Applies a newer 'fixtures/' response, moving only the fixtures whose gameweek or teams changed.
+     * The cached labels of the affected teams are rebuilt on their next lookup.
+     *
+     * @param allFixtures the parsed 'fixtures/' response
+     * @param nextGW the next gameweek
+     * @return the number of fixtures added or moved
+     */
+    public synchronized int refresh(List<Map<String, Object>> allFixtures, int nextGW) {
+        if (nextGW != this.nextGW) {
+            this.nextGW = nextGW;
+            Collections.fill(this.teamFixtures, null);
+        }
+        int changed = 0;
+        if (allFixtures == null) {
+            return changed;
+        }
+        for (Map<String, Object> fixture : allFixtures) {
+            int[] updated = {intValue(fixture.get("event")), intValue(fixture.get("team_h")), intValue(fixture.get("team_a"))};
+            if (apply((Integer) fixture.get("id"), updated)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Constructs an index from fixtures packed as {@value #FIXTURE_FIELDS} ints each: ID, gameweek, home team and away team,
+     * as returned by {@link #toArray()}.
+     *
+     * @param fixtures the packed fixtures
+     * @param nextGW the next gameweek, the first one returned by the lookups
+     * @param teams the teams as [name, short name], in team ID order
+     */
+    FixtureIndex(int[] fixtures, int nextGW, List<? extends List<String>> teams) {
+        this.teams = teams;
+        this.teamCount = teams.size();
+        this.slots = new int[(this.teamCount + 1) * (GAMEWEEKS + 1)];
+        this.labels = new String[this.slots.length];
+        this.teamFixtures = new ArrayList<>(Collections.nCopies(this.teamCount + 1, null));
+        this.nextGW = nextGW;
+        for (int i = 0; i + FIXTURE_FIELDS <= fixtures.length; i += FIXTURE_FIELDS) {
+            apply(fixtures[i], new int[] {fixtures[i + 1], fixtures[i + 2], fixtures[i + 3]});
+        }
+    }
+
+    /**
+     * Adds a fixture, or moves it if a fixture with the same ID is indexed with another gameweek or teams.
+     *
+     * @param id the fixture ID, or null if it has none
+     * @param updated the fixture as [gameweek, home team, away team]
+     * @return true if the fixture was added or moved
+     */
+    private boolean apply(Integer id, int[] updated) {
+        int[] current = id != null ? this.fixturesById.get(id) : null;
+        if (current != null && Arrays.equals(current, updated)) {
+            return false;
+        }
+        if (current != null) {
+            place(current, false);
+        }
+        place(updated, true);
+        if (id != null) {
+            this.fixturesById.put(id, updated);
+        }
+        return true;
+    }
+
+    /**
+     * Packs the indexed fixtures as {@value #FIXTURE_FIELDS} ints each: ID, gameweek, home team and away team, in ID order.
+     * Fixtures that came without an ID are not included.
+     *
+     * @return the packed fixtures
+     */
+    synchronized int[] toArray() {
+        int[] packed = new int[this.fixturesById.size() * FIXTURE_FIELDS];
+        int i = 0;
+        for (Map.Entry<Integer, int[]> fixture : new TreeMap<>(this.fixturesById).entrySet()) {
+            packed[i++] = fixture.getKey();
+            System.arraycopy(fixture.getValue(), 0, packed, i, FIXTURE_FIELDS - 1);
+            i += FIXTURE_FIELDS - 1;
+        }
+        return packed;
+    }
+
+    /**
+     * Adds or removes a fixture in the slots of both of its teams.
+     *
+     * @param fixture the fixture as [gameweek, home team, away team]
+     * @param add true to add the fixture, false to remove it
+     */
+    private void place(int[] fixture, boolean add) {
+        int gameweek = fixture[0];
+        int home = fixture[1];
+        int away = fixture[2];
+        if (gameweek < 1 || gameweek > GAMEWEEKS || !isTeam(home) || !isTeam(away)) {
+            return;
+        }
+        int homeSlot = slot(home, gameweek);
+        int awaySlot = slot(away, gameweek);
+        if (add) {
+            add(homeSlot, encode(away, true));
+            add(awaySlot, encode(home, false));
+        } else {
+            remove(homeSlot, encode(away, true));
+            remove(awaySlot, encode(home, false));
+        }
+        this.teamFixtures.set(home, null);
+        this.teamFixtures.set(away, null);
+    }
+
+    private void add(int slot, int code) {
+        this.labels[slot] = null;
+        if (this.slots[slot] == EMPTY) {
+            this.slots[slot] = code;
+            return;
+        }
+        int[] extra = this.overflow.get(slot);
+        int[] grown = extra == null ? new int[1] : Arrays.copyOf(extra, extra.length + 1);
+        grown[grown.length - 1] = code;
+        this.overflow.put(slot, grown);
+    }
+
+    private void remove(int slot, int code) {
+        this.labels[slot] = null;
+        int[] extra = this.overflow.get(slot);
+        if (this.slots[slot] == code) {
+            if (extra == null) {
+                this.slots[slot] = EMPTY;
+                return;
+            }
+            this.slots[slot] = extra[0];
+            code = extra[0];
+        }
+        if (extra != null) {
+            for (int i = 0; i < extra.length; i++) {
+                if (extra[i] == code) {
+                    int[] shrunk = new int[extra.length - 1];
+                    System.arraycopy(extra, 0, shrunk, 0, i);
+                    System.arraycopy(extra, i + 1, shrunk, i, extra.length - i - 1);
+                    if (shrunk.length == 0) {
+                        this.overflow.remove(slot);
+                    } else {
+                        this.overflow.put(slot, shrunk);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of fixtures a team plays in a gameweek.
+     *
+     * @param teamID the team ID
+     * @param gameweek the gameweek
+     * @return 0 for a blank gameweek, 2 or more for a double gameweek
+     */
+    public synchronized int getFixtureCount(int teamID, int gameweek) {
+        if (!isTeam(teamID) || gameweek < 1 || gameweek > GAMEWEEKS) {
+            return 0;
+        }
+        int slot = slot(teamID, gameweek);
+        if (this.slots[slot] == EMPTY) {
+            return 0;
+        }
+        int[] extra = this.overflow.get(slot);
+        return 1 + (extra != null ? extra.length : 0);
+    }
+
+    /**
+     * Returns the opponent of a team's fixture in a gameweek.
+     *
+     * @param teamID the team ID
+     * @param gameweek the gameweek
+     * @param index the fixture within the gameweek, 0 unless it is a double gameweek
+     * @return the opponent's team ID, or 0 if there is no such fixture
+     */
+    public synchronized int getOpponent(int teamID, int gameweek, int index) {
+        int code = code(teamID, gameweek, index);
+        return code >>> 1;
+    }
+
+    /**
+     * Checks whether a team's fixture in a gameweek is played at home.
+     *
+     * @param teamID the team ID
+     * @param gameweek the gameweek
+     * @param index the fixture within the gameweek, 0 unless it is a double gameweek
+     * @return true if the team plays at home
+     */
+    public synchronized boolean isHome(int teamID, int gameweek, int index) {
+        return (code(teamID, gameweek, index) & 1) == 1;
+    }
+
+    private int code(int teamID, int gameweek, int index) {
+        if (index >= getFixtureCount(teamID, gameweek)) {
+            return EMPTY;
+        }
+        int slot = slot(teamID, gameweek);
+        return index == 0 ? this.slots[slot] : this.overflow.get(slot)[index - 1];
+    }
+
+    /**
+     * Returns the label of a team's fixtures in a gameweek, e.g. "ARS(H), CHE(A)" in a double gameweek.
+     *
+     * @param teamID the team ID
+     * @param gameweek the gameweek
+     * @return the label, or an empty string for a blank gameweek
+     */
+    public synchronized String getLabel(int teamID, int gameweek) {
+        if (getFixtureCount(teamID, gameweek) == 0) {
+            return "";
+        }
+        int slot = slot(teamID, gameweek);
+        if (this.labels[slot] == null) {
+            this.labels[slot] = String.join(", ", labelList(teamID, gameweek));
+        }
+        return this.labels[slot];
+    }
+
+    /**
+     * Returns a team's remaining fixtures from the next gameweek on, skipping blank gameweeks.
+     * The map is built once per team and shared by all players of the team until the next refresh.
+     *
+     * @param teamID the team ID
+     * @return an unmodifiable map from gameweek to fixture labels
+     */
+    public synchronized Map<Integer, List<String>> getFixtures(int teamID) {
+        if (!isTeam(teamID)) {
+            return Collections.emptyMap();
+        }
+        if (this.teamFixtures.get(teamID) == null) {
+            Map<Integer, List<String>> fixtures = new TreeMap<>();
+            for (int gw = Math.max(this.nextGW, 1); gw <= GAMEWEEKS; gw++) {
+                if (getFixtureCount(teamID, gw) > 0) {
+                    fixtures.put(gw, labelList(teamID, gw));
+                }
+            }
+            this.teamFixtures.set(teamID, Collections.unmodifiableMap(fixtures));
+        }
+        return this.teamFixtures.get(teamID);
+    }
+
+    private List<String> labelList(int teamID, int gameweek) {
+        int count = getFixtureCount(teamID, gameweek);
+        String[] fixtureLabels = new String[count];
+        for (int i = 0; i < count; i++) {
+            int code = code(teamID, gameweek, i);
+            fixtureLabels[i] = this.teams.get((code >>> 1) - 1).get(1) + ((code & 1) == 1 ? "(H)" : "(A)");
+        }
+        return List.of(fixtureLabels);
+    }
+
+    private boolean isTeam(int teamID) { return teamID >= 1 && teamID <= this.teamCount; }
+    private static int slot(int teamID, int gameweek) { return teamID * (GAMEWEEKS + 1) + gameweek; }
+    private static int encode(int opponent, boolean home) { return (opponent << 1) | (home ? 1 : 0); }
+    private static int intValue(Object value) { return value instanceof Integer ? (Integer) value : -1; }
+
+    /**
+     * Compares the fixtures of two indexes from the next gameweek on.
+     *
+     * @param obj the other object
+     * @return true if both indexes return the same fixtures for every team
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FixtureIndex other) || other.teamCount != this.teamCount) {
+            return false;
+        }
+        for (int team = 1; team <= this.teamCount; team++) {
+            if (!getFixtures(team).equals(other.getFixtures(team))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.teamCount;
+        for (int team = 1; team <= this.teamCount; team++) {
+            hash = 31 * hash + Objects.hashCode(getFixtures(team));
+        }
+        return hash;
+    }
+
+    // Getters
+    public synchronized int getNextGW() { return this.nextGW; }
+    public int getTeamCount() { return this.teamCount; }
+}
@@ -0,0 +1,27 @@
+package FPLManager.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The typed data of one fixture a player played, from the 'history' of the 'element-summary/{id}/' response.
+ * A player has two rows for a gameweek with two fixtures.
+ *
+ * @param element the ID of the player
+ * @param round the gameweek of the fixture
+ * @param totalPoints the points scored in the fixture
+ * @param value the price at the fixture in tenths of a million
+ * @param selected the number of managers owning the player
+ * @param transfersIn the transfers in before the fixture's gameweek
+ * @param transfersOut the transfers out before the fixture's gameweek
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GameweekHistory(
+        @JsonProperty("element") int element,
+        @JsonProperty("round") int round,
+        @JsonProperty("total_points") int totalPoints,
+        @JsonProperty("value") int value,
+        @JsonProperty("selected") int selected,
+        @JsonProperty("transfers_in") int transfersIn,
+        @JsonProperty("transfers_out") int transfersOut) {
+}
@@ -0,0 +1,492 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * A local archive of every player's stats per gameweek, over any number of seasons, for queries over time
+ * such as form, price trajectories and ownership changes.
+ * <p>
+ * The archive is partitioned by season and gameweek: each gameweek is one file, '{season}/gw{gameweek}.col',
+ * holding one row per player, sorted by element ID, stored column by column so a query reads only the columns it needs.
+ * Only finished gameweeks whose data the API has checked are ingested, as the points and prices of a live gameweek
+ * still change. A stored gameweek is rewritten only when the ingested data adds players it has no row for, such as
+ * players whose history could not be requested before, or changes a player's row; ingesting the same data again
+ * writes nothing. The partitions are read into heap buffers when the archive is opened or a gameweek is written,
+ * so a partition file can be replaced while it is queried, and queries read the buffers in place.
+ * <p>
+ * Element IDs are only stable within a season, so every query is for one season.
+ * The archive is thread safe.
+ */
+public class HistoryWarehouse {
+    public static final int MAGIC = 0x46504C48;
+    public static final int VERSION = 1;
+    public static final String DIRECTORY_NAME = "history";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("gw(\\d+)\\.col");
+    private static final int HEADER_SIZE = 12;
+
+    // Columns, in file order
+    private static final int IDS = 0;
+    private static final int POINTS = 1;
+    private static final int COST = 2;
+    private static final int OWNERSHIP = 3;
+    private static final int TRANSFERS_IN = 4;
+    private static final int TRANSFERS_OUT = 5;
+    private static final int COLUMNS = 6;
+
+    private final Path directory;
+    private final Map<Integer, TreeMap<Integer, ByteBuffer>> partitions = new TreeMap<>();
+
+    /**
+     * The part of the 'element-summary/{id}/' response kept by the archive.
+     *
+     * @param history the player's fixtures this season
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record ElementSummary(@JsonProperty("history") List<GameweekHistory> history) {
+    }
+
+    /**
+     * Opens the archive in a directory, reading every stored gameweek. A missing directory is created.
+     *
+     * @param directory the directory of the archive
+     * @throws IOException if the directory cannot be created or a partition cannot be read
+     * @throws IllegalStateException if a partition is not of this version
+     */
+    public HistoryWarehouse(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> seasons = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path seasonDirectory : seasons) {
+                int season;
+                try {
+                    season = Integer.parseInt(seasonDirectory.getFileName().toString());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(seasonDirectory, "gw*.col")) {
+                    for (Path file : files) {
+                        Matcher matcher = PARTITION_NAME.matcher(file.getFileName().toString());
+                        if (matcher.matches()) {
+                            season(season).put(Integer.parseInt(matcher.group(1)), read(file));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the archive's directory in the application's data directory.
+     *
+     * @return the archive directory
+     */
+    public static Path getDefaultDirectory() {
+        return DataManager.getDataDirectory().resolve(DIRECTORY_NAME);
+    }
+
+    /**
+     * Requests the fixture history of a player this season.
+     *
+     * @param transport the transport used for the request
+     * @param elementID the ID of the player
+     * @return the player's fixtures, or an empty list if the request fails
+     */
+    public static List<GameweekHistory> fetchHistory(FPLTransport transport, int elementID) {
+        ElementSummary summary = transport.getJson("element-summary/" + elementID + "/", new TypeReference<ElementSummary>() {});
+        if (summary == null || summary.history() == null) {
+            System.err.println("Could not find the history of player: " + elementID);
+            return List.of();
+        }
+        return summary.history();
+    }
+
+    /**
+     * Finds the last gameweek that is finished and whose data the API has checked.
+     * An event without a 'data_checked' field counts as checked once it is finished.
+     *
+     * @param events the parsed 'events/' response
+     * @return the last finished gameweek, or 0 if none is finished or the events are missing
+     */
+    public static int findLastFinishedGW(List<Map<String, Object>> events) {
+        int lastFinished = 0;
+        if (events != null) {
+            for (Map<String, Object> event : events) {
+                if (Boolean.TRUE.equals(event.get("finished")) && !Boolean.FALSE.equals(event.get("data_checked"))
+                        && event.get("id") instanceof Integer id) {
+                    lastFinished = Math.max(lastFinished, id);
+                }
+            }
+        }
+        return lastFinished;
+    }
+
+    /**
+     * Stores the finished gameweeks of the players' fixture histories, writing only the gameweeks whose rows change.
+     * The points of a double gameweek are summed, and the price, ownership and transfers are taken from its last fixture.
+     * A player without a fixture in a gameweek has no row in it, and a player without a history keeps the rows
+     * stored earlier, so a failed history request never removes a player.
+     *
+     * @param season the season, by the year it starts
+     * @param histories the fixture histories of the players, as from {@link #fetchHistory(FPLTransport, int)}
+     * @param lastFinishedGW the last finished gameweek, as from {@link #findLastFinishedGW(List)}; later gameweeks are skipped
+     * @param totalManagers the number of managers in the game, for turning owner counts into ownership
+     * @return the number of gameweeks written
+     * @throws IOException if a partition cannot be written
+     */
+    public synchronized int ingestHistories(int season, Collection<? extends Collection<GameweekHistory>> histories, int lastFinishedGW,
+                                            int totalManagers) throws IOException {
+        TreeMap<Integer, TreeMap<Integer, int[]>> gameweeks = new TreeMap<>();
+        for (Collection<GameweekHistory> history : histories) {
+            for (GameweekHistory fixture : history) {
+                if (fixture.round() < 1 || fixture.round() > Math.min(lastFinishedGW, FixtureIndex.GAMEWEEKS)) {
+                    continue;
+                }
+                int[] row = gameweeks.computeIfAbsent(fixture.round(), gameweek -> new TreeMap<>())
+                        .computeIfAbsent(fixture.element(), element -> new int[COLUMNS]);
+                row[IDS] = fixture.element();
+                row[POINTS] += fixture.totalPoints();
+                row[COST] = fixture.value();
+                row[OWNERSHIP] = Float.floatToIntBits(totalManagers > 0 ? fixture.selected() * 100f / totalManagers : 0);
+                row[TRANSFERS_IN] = fixture.transfersIn();
+                row[TRANSFERS_OUT] = fixture.transfersOut();
+            }
+        }
+        int written = 0;
+        for (Map.Entry<Integer, TreeMap<Integer, int[]>> gameweek : gameweeks.entrySet()) {
+            if (merge(season, gameweek.getKey(), gameweek.getValue(), true)) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Stores a finished gameweek from a 'bootstrap-static/' snapshot taken after the gameweek.
+     * A snapshot only describes the gameweek it was taken after, so it adds the players the stored gameweek has no row for,
+     * and never changes a stored row.
+     *
+     * @param season the season, by the year it starts
+     * @param gameweek the gameweek the snapshot's points belong to
+     * @param lastFinishedGW the last finished gameweek, as from {@link #findLastFinishedGW(List)}
+     * @param elements the typed data of every player
+     * @return true if the gameweek was written, false if it is not finished or holds every player already
+     * @throws IOException if the partition cannot be written
+     * @throws IllegalArgumentException if the gameweek is not in the season
+     */
+    public synchronized boolean ingestSnapshot(int season, int gameweek, int lastFinishedGW, Collection<ElementData> elements) throws IOException {
+        if (gameweek < 1 || gameweek > FixtureIndex.GAMEWEEKS) {
+            throw new IllegalArgumentException("Not a gameweek: " + gameweek);
+        }
+        if (gameweek > lastFinishedGW) {
+            return false;
+        }
+        TreeMap<Integer, int[]> rows = new TreeMap<>();
+        for (ElementData element : elements) {
+            rows.put(element.id(), new int[] {element.id(), element.eventPoints(), element.nowCost(),
+                    Float.floatToIntBits(parseFloat(element.selectedByPercent())), element.transfersInEvent(), element.transfersOutEvent()});
+        }
+        return merge(season, gameweek, rows, false);
+    }
+
+    /**
+     * Merges ingested rows into a gameweek's partition and writes it if any row is added or changed.
+     *
+     * @param season the season
+     * @param gameweek the gameweek
+     * @param rows the ingested rows, keyed by element ID
+     * @param replace whether an ingested row replaces the stored row of the same player
+     * @return true if the partition was written
+     * @throws IOException if the partition cannot be written
+     */
+    private boolean merge(int season, int gameweek, TreeMap<Integer, int[]> rows, boolean replace) throws IOException {
+        ByteBuffer stored = this.partitions.containsKey(season) ? this.partitions.get(season).get(gameweek) : null;
+        if (stored == null) {
+            write(season, gameweek, rows.values());
+            return true;
+        }
+        TreeMap<Integer, int[]> merged = new TreeMap<>();
+        for (int row = 0; row < rows(stored); row++) {
+            int[] values = new int[COLUMNS];
+            for (int column = 0; column < COLUMNS; column++) {
+                values[column] = get(stored, column, row);
+            }
+            merged.put(values[IDS], values);
+        }
+        boolean changed = false;
+        for (Map.Entry<Integer, int[]> row : rows.entrySet()) {
+            int[] previous = merged.get(row.getKey());
+            if (previous == null || replace && !Arrays.equals(previous, row.getValue())) {
+                merged.put(row.getKey(), row.getValue());
+                changed = true;
+            }
+        }
+        if (changed) {
+            write(season, gameweek, merged.values());
+        }
+        return changed;
+    }
+
+    /**
+     * Writes a gameweek's partition next to its target, moves it into place and reads it back.
+     *
+     * @param season the season
+     * @param gameweek the gameweek
+     * @param rows the rows, sorted by element ID
+     * @throws IOException if the partition cannot be written
+     */
+    private void write(int season, int gameweek, Collection<int[]> rows) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + rows.size() * COLUMNS * 4);
+        out.putInt(MAGIC).putInt(VERSION).putInt(rows.size());
+        for (int column = 0; column < COLUMNS; column++) {
+            for (int[] row : rows) {
+                out.putInt(row[column]);
+            }
+        }
+        out.flip();
+
+        Path seasonDirectory = this.directory.resolve(Integer.toString(season));
+        Files.createDirectories(seasonDirectory);
+        Path file = seasonDirectory.resolve("gw" + gameweek + ".col");
+        Path tempFile = Files.createTempFile(seasonDirectory, "gw" + gameweek, ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        season(season).put(gameweek, read(file));
+    }
+
+    /**
+     * Reads a partition into a heap buffer and checks its header. The file is not kept open,
+     * so it can be replaced on every platform.
+     *
+     * @param file the partition file
+     * @return the partition
+     * @throws IOException if the file cannot be read
+     * @throws IllegalStateException if the file is not a partition of this version
+     */
+    private static ByteBuffer read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.limit() < HEADER_SIZE + (long) buffer.getInt(8) * COLUMNS * 4) {
+            throw new IllegalStateException("Not a history partition of version " + VERSION + ": " + file);
+        }
+        return buffer;
+    }
+
+    private TreeMap<Integer, ByteBuffer> season(int season) {
+        return this.partitions.computeIfAbsent(season, key -> new TreeMap<>());
+    }
+
+    private static int rows(ByteBuffer partition) { return partition.getInt(8); }
+    private static int get(ByteBuffer partition, int column, int row) { return partition.getInt(HEADER_SIZE + (column * rows(partition) + row) * 4); }
+
+    /**
+     * Finds the row of a player in a partition by binary search over the sorted IDs.
+     *
+     * @param partition the partition
+     * @param elementID the ID of the player
+     * @return the row, or -1 if the player has no row
+     */
+    private static int find(ByteBuffer partition, int elementID) {
+        int low = 0;
+        int high = rows(partition) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midID = get(partition, IDS, mid);
+            if (midID < elementID) {
+                low = mid + 1;
+            } else if (midID > elementID) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the stored partitions of a range of gameweeks.
+     *
+     * @param season the season
+     * @param fromGW the first gameweek
+     * @param toGW the last gameweek
+     * @return the partitions, in gameweek order
+     */
+    private synchronized Collection<ByteBuffer> range(int season, int fromGW, int toGW) {
+        TreeMap<Integer, ByteBuffer> stored = this.partitions.get(season);
+        if (stored == null || fromGW > toGW) {
+            return List.of();
+        }
+        return List.copyOf(stored.subMap(fromGW, true, toGW, true).values());
+    }
+
+    private synchronized ByteBuffer partition(int season, int gameweek) {
+        TreeMap<Integer, ByteBuffer> stored = this.partitions.get(season);
+        ByteBuffer partition = stored != null ? stored.get(gameweek) : null;
+        if (partition == null) {
+            throw new IllegalArgumentException("Gameweek " + gameweek + " of season " + season + " is not stored");
+        }
+        return partition;
+    }
+
+    private static int maxID(Collection<ByteBuffer> partitions) {
+        int maxID = 0;
+        for (ByteBuffer partition : partitions) {
+            if (rows(partition) > 0) {
+                maxID = Math.max(maxID, get(partition, IDS, rows(partition) - 1));
+            }
+        }
+        return maxID;
+    }
+
+    /**
+     * Returns the form of every player: their average points per gameweek over a window of gameweeks,
+     * counting only the gameweeks in which they have a row.
+     *
+     * @param season the season
+     * @param toGW the last gameweek of the window
+     * @param gameweeks the number of gameweeks in the window
+     * @return the form, indexed by element ID, or NaN for players without a row in the window
+     */
+    public double[] getForm(int season, int toGW, int gameweeks) {
+        Collection<ByteBuffer> window = range(season, toGW - gameweeks + 1, toGW);
+        int size = maxID(window) + 1;
+        double[] form = new double[size];
+        int[] played = new int[size];
+        for (ByteBuffer partition : window) {
+            for (int row = 0; row < rows(partition); row++) {
+                int id = get(partition, IDS, row);
+                form[id] += get(partition, POINTS, row);
+                played[id]++;
+            }
+        }
+        for (int id = 0; id < size; id++) {
+            form[id] = played[id] > 0 ? form[id] / played[id] : Double.NaN;
+        }
+        return form;
+    }
+
+    /**
+     * Returns the price of a player in every stored gameweek of a season.
+     *
+     * @param season the season
+     * @param elementID the ID of the player
+     * @return the price in tenths of a million, indexed by gameweek, or 0 for gameweeks without a row
+     */
+    public int[] getPriceTrajectory(int season, int elementID) {
+        int[] prices = new int[FixtureIndex.GAMEWEEKS + 1];
+        TreeMap<Integer, ByteBuffer> stored;
+        synchronized (this) {
+            stored = this.partitions.containsKey(season) ? new TreeMap<>(this.partitions.get(season)) : new TreeMap<>();
+        }
+        for (Map.Entry<Integer, ByteBuffer> partition : stored.entrySet()) {
+            int row = find(partition.getValue(), elementID);
+            if (row >= 0) {
+                prices[partition.getKey()] = get(partition.getValue(), COST, row);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Returns the change in ownership of every player between two gameweeks.
+     *
+     * @param season the season
+     * @param fromGW the earlier gameweek
+     * @param toGW the later gameweek
+     * @return the change in percentage points, indexed by element ID, or NaN for players without a row in either gameweek
+     * @throws IllegalArgumentException if either gameweek is not stored
+     */
+    public float[] getOwnershipDelta(int season, int fromGW, int toGW) {
+        ByteBuffer from = partition(season, fromGW);
+        ByteBuffer to = partition(season, toGW);
+        float[] delta = new float[Math.max(maxID(List.of(from)), maxID(List.of(to))) + 1];
+        Arrays.fill(delta, Float.NaN);
+        for (int row = 0; row < rows(to); row++) {
+            int id = get(to, IDS, row);
+            int fromRow = find(from, id);
+            if (fromRow >= 0) {
+                delta[id] = Float.intBitsToFloat(get(to, OWNERSHIP, row)) - Float.intBitsToFloat(get(from, OWNERSHIP, fromRow));
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Returns the net transfers of every player over a range of gameweeks.
+     *
+     * @param season the season
+     * @param fromGW the first gameweek
+     * @param toGW the last gameweek
+     * @return the transfers in minus the transfers out, indexed by element ID
+     */
+    public int[] getTransferBalance(int season, int fromGW, int toGW) {
+        Collection<ByteBuffer> window = range(season, fromGW, toGW);
+        int[] balance = new int[maxID(window) + 1];
+        for (ByteBuffer partition : window) {
+            for (int row = 0; row < rows(partition); row++) {
+                balance[get(partition, IDS, row)] += get(partition, TRANSFERS_IN, row) - get(partition, TRANSFERS_OUT, row);
+            }
+        }
+        return balance;
+    }
+
+    /**
+     * Parses a decimal string from the API, treating missing values as zero.
+     *
+     * @param value the decimal string
+     * @return the parsed value
+     */
+    private static float parseFloat(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the stored gameweeks of a season.
+     *
+     * @param season the season
+     * @return the gameweeks, in order
+     */
+    public synchronized SortedSet<Integer> getGameweeks(int season) {
+        TreeMap<Integer, ByteBuffer> stored = this.partitions.get(season);
+        return stored != null ? Collections.unmodifiableSortedSet(new TreeSet<>(stored.keySet())) : Collections.emptySortedSet();
+    }
+
+    // Getters
+    public Path getDirectory() { return this.directory; }
+    public synchronized SortedSet<Integer> getSeasons() { return Collections.unmodifiableSortedSet(new TreeSet<>(this.partitions.keySet())); }
+}
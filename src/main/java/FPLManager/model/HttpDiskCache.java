@@ -0,0 +1,244 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A persistent cache of raw FPL API responses, kept in a local directory.
+ * Each entry stores the response body together with its validators (ETag and Last-Modified),
+ * so {@link FPLTransport} can send conditional requests and reuse the stored body when the API answers 304.
+ * The cache is capped in size and evicts the least recently used entries first.
+ * The access order survives restarts through the modification time of the entries' metadata files.
+ */
+public class HttpDiskCache {
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * The validators and size of a cached response.
+     */
+    public static class Entry {
+        private final String endpoint;
+        private final String etag;
+        private final String lastModified;
+        private final long size;
+
+        private Entry(String endpoint, String etag, String lastModified, long size) {
+            this.endpoint = endpoint;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        // Getters
+        public String getEndpoint() { return this.endpoint; }
+        public String getETag() { return this.etag; }
+        public String getLastModified() { return this.lastModified; }
+        public long getSize() { return this.size; }
+    }
+
+    /**
+     * Constructs a cache in the given directory, loading the entries stored there by earlier runs.
+     *
+     * @param directory the cache directory, created if missing
+     * @param maxBytes the maximum total size of the cached bodies
+     * @throws IOException if the directory cannot be created or read
+     */
+    public HttpDiskCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        loadEntries();
+    }
+
+    /**
+     * Loads the stored entries, oldest access first, and drops entries whose body is missing.
+     *
+     * @throws IOException if the directory cannot be read
+     */
+    private void loadEntries() throws IOException {
+        List<Path> metaFiles = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*.meta")) {
+            stream.forEach(metaFiles::add);
+        }
+        metaFiles.sort(Comparator.comparing(this::lastAccess));
+
+        for (Path metaFile : metaFiles) {
+            String key = metaFile.getFileName().toString().replace(".meta", "");
+            Properties meta = new Properties();
+            try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+                meta.load(reader);
+            }
+            Path body = bodyFile(key);
+            if (!Files.exists(body)) {
+                Files.deleteIfExists(metaFile);
+                continue;
+            }
+            Entry entry = new Entry(meta.getProperty("endpoint"), meta.getProperty("etag"), meta.getProperty("lastModified"), Files.size(body));
+            this.entries.put(key, entry);
+            this.totalBytes += entry.getSize();
+        }
+        evict();
+    }
+
+    /**
+     * Looks up the validators stored for an endpoint.
+     *
+     * @param endpoint the API endpoint
+     * @return the cached entry, or null if the endpoint is not cached
+     */
+    public synchronized Entry lookup(String endpoint) {
+        return this.entries.get(key(endpoint));
+    }
+
+    /**
+     * Opens the stored body of an endpoint and marks it as recently used.
+     * An entry whose files were deleted from the directory is forgotten.
+     *
+     * @param endpoint the API endpoint
+     * @return the stored body, or null if the endpoint is not cached
+     * @throws IOException if the body cannot be opened
+     */
+    public InputStream open(String endpoint) throws IOException {
+        String key = key(endpoint);
+        synchronized (this) {
+            if (this.entries.get(key) == null) {
+                return null;
+            }
+            try {
+                Files.setLastModifiedTime(metaFile(key), FileTime.fromMillis(System.currentTimeMillis()));
+                return Files.newInputStream(bodyFile(key));
+            } catch (NoSuchFileException e) {
+                this.totalBytes -= this.entries.remove(key).getSize();
+                Files.deleteIfExists(metaFile(key));
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Stores a response body with its validators, replacing any earlier entry for the endpoint,
+     * and evicts the least recently used entries if the cache grows beyond its size cap.
+     *
+     * @param endpoint the API endpoint
+     * @param body the response body, consumed and closed by this method
+     * @param etag the ETag of the response, or null
+     * @param lastModified the Last-Modified date of the response, or null
+     * @return the stored body, opened for reading
+     * @throws IOException if the body cannot be stored
+     */
+    public InputStream store(String endpoint, InputStream body, String etag, String lastModified) throws IOException {
+        String key = key(endpoint);
+        Path tempFile = Files.createTempFile(this.directory, key, ".tmp");
+        try (InputStream inputStream = body) {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        Properties meta = new Properties();
+        meta.setProperty("endpoint", endpoint);
+        if (etag != null) {
+            meta.setProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            meta.setProperty("lastModified", lastModified);
+        }
+
+        synchronized (this) {
+            Files.move(tempFile, bodyFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (Writer writer = Files.newBufferedWriter(metaFile(key), StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            Entry old = this.entries.remove(key);
+            if (old != null) {
+                this.totalBytes -= old.getSize();
+            }
+            Entry entry = new Entry(endpoint, etag, lastModified, Files.size(bodyFile(key)));
+            this.entries.put(key, entry);
+            this.totalBytes += entry.getSize();
+            InputStream stored = Files.newInputStream(bodyFile(key));
+            evict();
+            return stored;
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is within its size cap.
+     * The most recently used entry is always kept, even if it alone exceeds the cap.
+     *
+     * @throws IOException if an entry cannot be deleted
+     */
+    private synchronized void evict() throws IOException {
+        Iterator<Map.Entry<String, Entry>> iterator = this.entries.entrySet().iterator();
+        while (this.totalBytes > this.maxBytes && this.entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            iterator.remove();
+            this.totalBytes -= eldest.getValue().getSize();
+            Files.deleteIfExists(metaFile(eldest.getKey()));
+            Files.deleteIfExists(bodyFile(eldest.getKey()));
+        }
+    }
+
+    /**
+     * Maps an endpoint to the file name key of its entry.
+     *
+     * @param endpoint the API endpoint
+     * @return the hex encoded SHA-256 hash of the endpoint
+     */
+    private static String key(String endpoint) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(endpoint.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads when an entry was last used, from the modification time of its metadata file.
+     *
+     * @param metaFile the metadata file
+     * @return the time of last use
+     */
+    private FileTime lastAccess(Path metaFile) {
+        try {
+            return Files.getLastModifiedTime(metaFile);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private Path bodyFile(String key) { return this.directory.resolve(key + ".json"); }
+    private Path metaFile(String key) { return this.directory.resolve(key + ".meta"); }
+
+    // Getters
+    public Path getDirectory() { return this.directory; }
+    public long getMaxBytes() { return this.maxBytes; }
+    public synchronized long getTotalBytes() { return this.totalBytes; }
+    public synchronized int size() { return this.entries.size(); }
+}
@@ -9,12 +9,31 @@ import java.util.Map;
  */
 public interface IDataRetriever {
 
+    /**
+     * Loads the same manager again from the same source, e.g. to pick up changed prices.
+     *
+     * @return the newly loaded data
+     */
+    IDataRetriever reload();
+
+    int getManagerID();
     String getTeamName();
     ArrayList<Integer> getTeamPlayers();
+
+    /**
+     * Returns the multiplier of each team player, in the order of {@link #getTeamPlayers()}:
+     * 0 on the bench, 1 in the starting eleven, 2 for the captain and 3 for a triple captain.
+     *
+     * @return the multipliers
+     */
+    ArrayList<Integer> getMultipliers();
+
+    int getBank();
     int getNextGW();
-    Map<Integer, Map<String, Object>> getPlayerData();
+    Map<Integer, ElementData> getPlayerData();
     List<Map<String, Object>> getNextGWInfo();
     ArrayList<Integer> getTransferHistory();
     Map<String, Object> getChips();
-    Map<Integer, List<Map<String, Object>>> getRemainingFixtures();
+    FixtureIndex getRemainingFixtures();
+    FixtureDifficulty getFixtureDifficulty();
 }
@@ -0,0 +1,457 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Loads the standings of a classic mini-league with the live points of the current gameweek.
+ * <p>
+ * The standings are paged through 'leagues-classic/{id}/standings/', requesting a window of pages at a time.
+ * Then every entry's picks for the gameweek are requested on virtual threads, with at most a configured number of
+ * entries in flight, and scored against the live points of 'event/{gw}/live/', which is requested once.
+ * Each picks response is streamed into the entry's live points and the league's effective ownership and dropped,
+ * so no {@link Manager} is built and a league of any size costs a few ints per entry.
+ * <p>
+ * Live points are the picked players' points times their multiplier, minus the transfer cost.
+ * Automatic substitutions are only known once the gameweek is over, so they are not applied.
+ */
+public class LeagueLoader {
+    public static final int PAGE_SIZE = 50;
+    public static final int DEFAULT_PAGE_WINDOW = 4;
+
+    private final SeasonDataCache cache;
+    private final FPLTransport transport;
+    private final int pageWindow;
+    private final int permits;
+
+    /**
+     * The standings of a league, ordered by live rank.
+     */
+    public static class Standings {
+        private final int leagueID;
+        private final String leagueName;
+        private final int gameweek;
+        private final int[] entryIDs;
+        private final String[] entryNames;
+        private final int[] ranks;
+        private final int[] liveRanks;
+        private final int[] livePoints;
+        private final int[] liveTotals;
+        private final int[] ownership;
+        private final int scored;
+        private final int failed;
+        private final Duration elapsed;
+
+        private Standings(int leagueID, String leagueName, int gameweek, Entries entries, int[] livePoints, int[] ownership,
+                int scored, int failed, Duration elapsed) {
+            int count = entries.size;
+            int[] liveTotals = new int[count];
+            for (int i = 0; i < count; i++) {
+                liveTotals[i] = entries.totals[i] - entries.eventTotals[i] + livePoints[i];
+            }
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> liveTotals[a] != liveTotals[b] ? Integer.compare(liveTotals[b], liveTotals[a]) : Integer.compare(entries.ranks[a], entries.ranks[b]));
+
+            this.leagueID = leagueID;
+            this.leagueName = leagueName;
+            this.gameweek = gameweek;
+            this.entryIDs = new int[count];
+            this.entryNames = new String[count];
+            this.ranks = new int[count];
+            this.liveRanks = new int[count];
+            this.livePoints = new int[count];
+            this.liveTotals = new int[count];
+            for (int position = 0; position < count; position++) {
+                int i = order[position];
+                this.entryIDs[position] = entries.ids[i];
+                this.entryNames[position] = entries.names[i];
+                this.ranks[position] = entries.ranks[i];
+                this.livePoints[position] = livePoints[i];
+                this.liveTotals[position] = liveTotals[i];
+                boolean tied = position > 0 && this.liveTotals[position - 1] == liveTotals[i];
+                this.liveRanks[position] = tied ? this.liveRanks[position - 1] : position + 1;
+            }
+            this.ownership = ownership;
+            this.scored = scored;
+            this.failed = failed;
+            this.elapsed = elapsed;
+        }
+
+        /**
+         * Returns the places an entry has climbed since the last official standings.
+         *
+         * @param position the position in the live standings, from 0
+         * @return the rank change, positive for places gained
+         */
+        public int getRankDelta(int position) {
+            return this.ranks[position] - this.liveRanks[position];
+        }
+
+        /**
+         * Returns the effective ownership of a player in the league: the share of entries that picked them,
+         * counting a captain twice and a triple captain three times, and a benched player not at all.
+         *
+         * @param elementID the ID of the player
+         * @return the effective ownership in percent, over 100 for a player most entries captained
+         */
+        public double getEffectiveOwnership(int elementID) {
+            if (elementID < 0 || elementID >= this.ownership.length || this.scored == 0) {
+                return 0;
+            }
+            return this.ownership[elementID] * 100.0 / this.scored;
+        }
+
+        // Getters
+        public int getLeagueID() { return this.leagueID; }
+        public String getLeagueName() { return this.leagueName; }
+        public int getGameweek() { return this.gameweek; }
+        public int getEntryCount() { return this.entryIDs.length; }
+        public int getEntryID(int position) { return this.entryIDs[position]; }
+        public String getEntryName(int position) { return this.entryNames[position]; }
+        public int getRank(int position) { return this.ranks[position]; }
+        public int getLiveRank(int position) { return this.liveRanks[position]; }
+        public int getLivePoints(int position) { return this.livePoints[position]; }
+        public int getLiveTotal(int position) { return this.liveTotals[position]; }
+        public int getScored() { return this.scored; }
+        public int getFailed() { return this.failed; }
+        public Duration getElapsed() { return this.elapsed; }
+    }
+
+    /**
+     * The entries of the official standings, kept as columns that grow page by page.
+     */
+    private static class Entries {
+        private int size;
+        private int[] ids = new int[PAGE_SIZE];
+        private String[] names = new String[PAGE_SIZE];
+        private int[] ranks = new int[PAGE_SIZE];
+        private int[] totals = new int[PAGE_SIZE];
+        private int[] eventTotals = new int[PAGE_SIZE];
+
+        private void add(Map<String, Object> result) {
+            if (this.size == this.ids.length) {
+                int capacity = this.size * 2;
+                this.ids = Arrays.copyOf(this.ids, capacity);
+                this.names = Arrays.copyOf(this.names, capacity);
+                this.ranks = Arrays.copyOf(this.ranks, capacity);
+                this.totals = Arrays.copyOf(this.totals, capacity);
+                this.eventTotals = Arrays.copyOf(this.eventTotals, capacity);
+            }
+            this.ids[this.size] = intValue(result.get("entry"));
+            this.names[this.size] = (String) result.get("entry_name");
+            this.ranks[this.size] = intValue(result.get("rank"));
+            this.totals[this.size] = intValue(result.get("total"));
+            this.eventTotals[this.size] = intValue(result.get("event_total"));
+            this.size++;
+        }
+    }
+
+    /**
+     * Constructs a league loader with the default page window and permits.
+     *
+     * @param cache the cache holding the season-wide data
+     */
+    public LeagueLoader(SeasonDataCache cache) {
+        this(cache, DEFAULT_PAGE_WINDOW, ManagerBatchLoader.DEFAULT_PERMITS);
+    }
+
+    /**
+     * Constructs a league loader.
+     *
+     * @param cache the cache holding the season-wide data
+     * @param pageWindow the number of standings pages requested at the same time
+     * @param permits the maximum number of entries whose picks are loaded at the same time
+     * @throws IllegalArgumentException if the page window or permits is not positive
+     */
+    public LeagueLoader(SeasonDataCache cache, int pageWindow, int permits) {
+        if (pageWindow < 1 || permits < 1) {
+            throw new IllegalArgumentException("Page window and permits must be positive: " + pageWindow + ", " + permits);
+        }
+        this.cache = cache;
+        this.transport = cache.getTransport();
+        this.pageWindow = pageWindow;
+        this.permits = permits;
+    }
+
+    /**
+     * Loads the standings of a league with the live points of the current gameweek.
+     *
+     * @param leagueID the ID of the classic league
+     * @return the live standings
+     * @throws IllegalStateException if the league or the live points cannot be loaded, or the loading is interrupted
+     */
+    public Standings load(int leagueID) {
+        return load(leagueID, this.cache.get().getNextGW() - 1);
+    }
+
+    /**
+     * Loads the standings of a league with the live points of a gameweek.
+     *
+     * @param leagueID the ID of the classic league
+     * @param gameweek the gameweek being played
+     * @return the live standings
+     * @throws IllegalStateException if the league or the live points cannot be loaded, or the loading is interrupted
+     */
+    public Standings load(int leagueID, int gameweek) {
+        long start = System.nanoTime();
+        CompletableFuture<int[]> live = this.transport.readStreamAsync("event/" + gameweek + "/live/", LeagueLoader::readLivePoints);
+        Entries entries = new Entries();
+        String leagueName = loadStandings(leagueID, entries, 1, Integer.MAX_VALUE);
+        int[] livePoints = live.join();
+        if (livePoints == null) {
+            throw new IllegalStateException("Cant find live points for gameweek: " + gameweek);
+        }
+
+        int[] entryPoints = new int[entries.size];
+        AtomicIntegerArray ownership = new AtomicIntegerArray(livePoints.length);
+        AtomicInteger scored = new AtomicInteger();
+        Semaphore semaphore = new Semaphore(this.permits);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < entries.size; i++) {
+                int index = i;
+                semaphore.acquire();
+                executor.submit(() -> {
+                    try {
+                        int[] picks = this.transport.readStream("entry/" + entries.ids[index] + "/event/" + gameweek + "/picks/", LeagueLoader::readPicks);
+                        if (picks == null) {
+                            entryPoints[index] = entries.eventTotals[index];
+                            return;
+                        }
+                        entryPoints[index] = score(picks, livePoints, ownership);
+                        scored.incrementAndGet();
+                    } finally {
+                        semaphore.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Loading of league " + leagueID + " was interrupted", e);
+        }
+
+        int[] ownershipCounts = new int[ownership.length()];
+        for (int id = 0; id < ownershipCounts.length; id++) {
+            ownershipCounts[id] = ownership.get(id);
+        }
+        return new Standings(leagueID, leagueName, gameweek, entries, entryPoints, ownershipCounts, scored.get(),
+                entries.size - scored.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Loads the IDs of the entries in a range of positions of a league's standings, e.g. the top 10,000 of the overall league.
+     * Only the pages covering the range are requested.
+     *
+     * @param leagueID the ID of the classic league
+     * @param fromRank the first position, from 1
+     * @param toRank the last position
+     * @return the entry IDs, in rank order
+     * @throws IllegalStateException if a page cannot be loaded
+     */
+    public int[] loadEntryIDs(int leagueID, int fromRank, int toRank) {
+        Entries entries = new Entries();
+        loadStandings(leagueID, entries, fromRank, toRank);
+        return Arrays.copyOf(entries.ids, entries.size);
+    }
+
+    /**
+     * Pages through the official standings of a league, a window of pages at a time,
+     * until a page has no next page or the last position is reached.
+     *
+     * @param leagueID the ID of the classic league
+     * @param entries receives the entries, in rank order
+     * @param fromRank the first position, from 1
+     * @param toRank the last position
+     * @return the name of the league
+     * @throws IllegalStateException if a page cannot be loaded
+     */
+    private String loadStandings(int leagueID, Entries entries, int fromRank, int toRank) {
+        String leagueName = null;
+        int lastPage = (toRank - 1) / PAGE_SIZE + 1;
+        boolean hasNext = fromRank <= toRank;
+        for (int first = (fromRank - 1) / PAGE_SIZE + 1; hasNext; first += this.pageWindow) {
+            List<CompletableFuture<Map<String, Object>>> window = new ArrayList<>();
+            for (int page = first; page < first + this.pageWindow && page <= lastPage; page++) {
+                window.add(this.transport.getJsonAsync("leagues-classic/" + leagueID + "/standings/?page_standings=" + page,
+                        new TypeReference<Map<String, Object>>() {}));
+            }
+            int page = first;
+            for (CompletableFuture<Map<String, Object>> future : window) {
+                Map<String, Object> response = future.join();
+                if (!hasNext) {
+                    continue;
+                }
+                if (response == null || !(response.get("standings") instanceof Map<?, ?> standings)) {
+                    throw new IllegalStateException("Cant find standings of league: " + leagueID);
+                }
+                if (leagueName == null && response.get("league") instanceof Map<?, ?> league) {
+                    leagueName = (String) league.get("name");
+                }
+                if (standings.get("results") instanceof List<?> results) {
+                    int position = (page - 1) * PAGE_SIZE;
+                    for (Object result : results) {
+                        position++;
+                        if (position >= fromRank && position <= toRank) {
+                            @SuppressWarnings("unchecked")
+                            Map<String, Object> entry = (Map<String, Object>) result;
+                            entries.add(entry);
+                        }
+                    }
+                }
+                hasNext = Boolean.TRUE.equals(standings.get("has_next")) && page < lastPage;
+                page++;
+            }
+        }
+        return leagueName;
+    }
+
+    /**
+     * Scores an entry's picks and adds them to the effective ownership.
+     *
+     * @param picks the picks as read by {@link #readPicks(JsonParser)}
+     * @param livePoints the live points, indexed by element ID
+     * @param ownership the summed multipliers, indexed by element ID
+     * @return the entry's live points
+     */
+    private static int score(int[] picks, int[] livePoints, AtomicIntegerArray ownership) {
+        int points = -picks[0];
+        for (int i = 1; i + 1 < picks.length; i += 2) {
+            int element = picks[i];
+            int multiplier = picks[i + 1];
+            if (element > 0 && element < livePoints.length) {
+                points += livePoints[element] * multiplier;
+                if (multiplier > 0) {
+                    ownership.addAndGet(element, multiplier);
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Streams a picks response into the transfer cost followed by the element and multiplier of every pick.
+     *
+     * @param parser the parser positioned before the response object
+     * @return the picks as [transfer cost, element, multiplier, element, multiplier, ...]
+     * @throws IOException if the JSON cannot be read
+     */
+    static int[] readPicks(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Expected a JSON object in picks");
+        }
+        int[] picks = new int[1 + 2 * SquadSolver.SQUAD_SIZE];
+        int size = 1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (section.equals("picks") && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    int element = 0;
+                    int multiplier = 1;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        parser.nextToken();
+                        if (field.equals("element")) {
+                            element = parser.getIntValue();
+                        } else if (field.equals("multiplier")) {
+                            multiplier = parser.getIntValue();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    if (size + 2 > picks.length) {
+                        picks = Arrays.copyOf(picks, picks.length * 2);
+                    }
+                    picks[size++] = element;
+                    picks[size++] = multiplier;
+                }
+            } else if (section.equals("entry_history") && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if (field.equals("event_transfers_cost")) {
+                        picks[0] = parser.getIntValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return Arrays.copyOf(picks, size);
+    }
+
+    /**
+     * Streams the 'event/{gw}/live/' response into the live points of every player.
+     *
+     * @param parser the parser positioned before the response object
+     * @return the live points, indexed by element ID
+     * @throws IOException if the JSON cannot be read
+     */
+    static int[] readLivePoints(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Expected a JSON object in live points");
+        }
+        int[] points = new int[1];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !section.equals("elements")) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int id = 0;
+                int total = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    if (field.equals("id")) {
+                        id = parser.getIntValue();
+                    } else if (field.equals("stats") && token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String stat = parser.currentName();
+                            parser.nextToken();
+                            if (stat.equals("total_points")) {
+                                total = parser.getIntValue();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (id > 0) {
+                    if (id >= points.length) {
+                        points = Arrays.copyOf(points, Math.max(id + 1, points.length * 2));
+                    }
+                    points[id] = total;
+                }
+            }
+        }
+        return points;
+    }
+
+    private static int intValue(Object value) { return value instanceof Integer ? (Integer) value : 0; }
+
+    // Getters
+    public int getPageWindow() { return this.pageWindow; }
+    public int getPermits() { return this.permits; }
+}
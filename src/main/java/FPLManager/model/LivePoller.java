@@ -0,0 +1,261 @@
+package FPLManager.model;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls 'bootstrap-static/' in the background and publishes the changes between polls as {@link PlayerChangeEvent}s:
+ * price rises and falls, injury flag changes, and net transfers crossing a threshold.
+ * The interval adapts to the FPL calendar. Polls are frequent in the hours before the gameweek deadline
+ * and around the nightly price update, and rare otherwise.
+ * Listeners are called on the poller's own thread, so UI code must hand the events over to its UI thread.
+ */
+public class LivePoller {
+    public static final Duration DEFAULT_FAST_INTERVAL = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_SLOW_INTERVAL = Duration.ofMinutes(15);
+    public static final int DEFAULT_TRANSFER_THRESHOLD = 50_000;
+    public static final Duration DEADLINE_WINDOW = Duration.ofHours(3);
+    public static final LocalTime PRICE_UPDATE_TIME = LocalTime.of(1, 30);
+    public static final ZoneId PRICE_UPDATE_ZONE = ZoneId.of("Europe/London");
+    public static final Duration PRICE_UPDATE_WINDOW = Duration.ofMinutes(30);
+
+    private final SeasonDataCache cache;
+    private final Duration fastInterval;
+    private final Duration slowInterval;
+    private final int transferThreshold;
+    private final Clock clock;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private Map<Integer, ElementData> snapshot;
+
+    /**
+     * Receives the changes found by a poll.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void changed(List<PlayerChangeEvent> events);
+    }
+
+    /**
+     * Constructs a poller with the default intervals and transfer threshold.
+     *
+     * @param cache the cache of season data, providing the transport and the gameweek deadline
+     */
+    public LivePoller(SeasonDataCache cache) {
+        this(cache, DEFAULT_FAST_INTERVAL, DEFAULT_SLOW_INTERVAL, DEFAULT_TRANSFER_THRESHOLD, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a poller.
+     *
+     * @param cache the cache of season data, providing the transport and the gameweek deadline
+     * @param fastInterval the interval near the deadline and the price update
+     * @param slowInterval the interval at other times
+     * @param transferThreshold the step of net transfers that is reported
+     * @param clock the clock used for scheduling
+     * @throws IllegalArgumentException if an interval is not positive, or the fast interval exceeds the slow one
+     */
+    public LivePoller(SeasonDataCache cache, Duration fastInterval, Duration slowInterval, int transferThreshold, Clock clock) {
+        if (fastInterval.isZero() || fastInterval.isNegative() || fastInterval.compareTo(slowInterval) > 0) {
+            throw new IllegalArgumentException("Invalid poll intervals: " + fastInterval + ", " + slowInterval);
+        }
+        if (transferThreshold < 1) {
+            throw new IllegalArgumentException("Transfer threshold must be positive: " + transferThreshold);
+        }
+        this.cache = cache;
+        this.fastInterval = fastInterval;
+        this.slowInterval = slowInterval;
+        this.transferThreshold = transferThreshold;
+        this.clock = clock;
+    }
+
+    /**
+     * Subscribes a listener to the changes found by future polls.
+     *
+     * @param listener the listener
+     */
+    public void subscribe(Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Unsubscribes a listener.
+     *
+     * @param listener the listener
+     */
+    public void unsubscribe(Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Starts polling on a background daemon thread, with the first poll right away.
+     * Starting a poller that is already running has no effect.
+     */
+    public synchronized void start() {
+        if (this.scheduler != null) {
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("fpl-live-poller").factory());
+        this.scheduler.schedule(this::pollAndReschedule, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling. A poll that is running is interrupted.
+     */
+    public synchronized void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Runs one scheduled poll and schedules the next one.
+     */
+    private void pollAndReschedule() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            System.err.println("Error: live poll failed - " + e.getMessage());
+        }
+        synchronized (this) {
+            if (this.scheduler != null) {
+                this.scheduler.schedule(this::pollAndReschedule, nextInterval().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Polls 'bootstrap-static/' once and publishes the changes since the previous poll.
+     * The first poll only records a snapshot. Whenever any player or team differs from the cached season data,
+     * including changes that publish no event such as points and minutes, the polled payload replaces it in the cache,
+     * so the next manager lookup sees the new data without requesting it again.
+     *
+     * @return the changes found, empty on the first poll or if the request failed
+     */
+    public List<PlayerChangeEvent> poll() {
+        FPLTransport transport = this.cache.getTransport();
+        Map<Integer, TeamData> teams = new HashMap<>();
+        Map<Integer, ElementData> elements = transport.readStream("bootstrap-static/", parser -> FPLAPI.readAllElements(parser, transport, teams));
+        if (elements == null || elements.isEmpty()) {
+            return List.of();
+        }
+        List<PlayerChangeEvent> events;
+        synchronized (this) {
+            events = this.snapshot != null ? diff(this.snapshot, elements) : List.of();
+            this.snapshot = elements;
+        }
+        this.cache.update(elements, teams);
+        if (!events.isEmpty()) {
+            for (Listener listener : this.listeners) {
+                listener.changed(events);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Compares two snapshots of the players.
+     *
+     * @param previous the players at the previous poll
+     * @param current the players now
+     * @return the changes, in the iteration order of the current snapshot
+     */
+    private List<PlayerChangeEvent> diff(Map<Integer, ElementData> previous, Map<Integer, ElementData> current) {
+        List<PlayerChangeEvent> events = new ArrayList<>();
+        for (ElementData now : current.values()) {
+            ElementData before = previous.get(now.id());
+            if (before == null || before.equals(now)) {
+                continue;
+            }
+            if (now.nowCost() != before.nowCost()) {
+                PlayerChangeEvent.Type type = now.nowCost() > before.nowCost() ? PlayerChangeEvent.Type.PRICE_RISE : PlayerChangeEvent.Type.PRICE_FALL;
+                events.add(new PlayerChangeEvent(type, now, before.nowCost(), now.nowCost()));
+            }
+            if (!Objects.equals(now.chanceOfPlayingNextRound(), before.chanceOfPlayingNextRound())) {
+                events.add(new PlayerChangeEvent(PlayerChangeEvent.Type.FLAG_CHANGE, now, chance(before), chance(now)));
+            }
+            int balanceBefore = before.transfersInEvent() - before.transfersOutEvent();
+            int balanceNow = now.transfersInEvent() - now.transfersOutEvent();
+            if (Math.floorDiv(balanceBefore, this.transferThreshold) != Math.floorDiv(balanceNow, this.transferThreshold)) {
+                events.add(new PlayerChangeEvent(PlayerChangeEvent.Type.TRANSFER_BALANCE, now, balanceBefore, balanceNow));
+            }
+        }
+        return events;
+    }
+
+    private static int chance(ElementData playerData) {
+        return playerData.chanceOfPlayingNextRound() != null ? playerData.chanceOfPlayingNextRound() : -1;
+    }
+
+    /**
+     * Computes the wait until the next poll. Inside the deadline or price update window, this is the fast interval.
+     * Otherwise it is the slow interval, shortened so the poller wakes up when the next window opens.
+     *
+     * @return the wait until the next poll
+     */
+    public Duration nextInterval() {
+        Instant now = this.clock.instant();
+        Instant deadline = currentDeadline();
+        Instant nextWindow = null;
+        if (deadline != null && now.isBefore(deadline)) {
+            Instant deadlineWindow = deadline.minus(DEADLINE_WINDOW);
+            if (!now.isBefore(deadlineWindow)) {
+                return this.fastInterval;
+            }
+            nextWindow = deadlineWindow;
+        }
+
+        ZonedDateTime local = now.atZone(PRICE_UPDATE_ZONE);
+        ZonedDateTime priceUpdate = local.with(PRICE_UPDATE_TIME);
+        if (local.isAfter(priceUpdate.plus(PRICE_UPDATE_WINDOW))) {
+            priceUpdate = priceUpdate.plusDays(1);
+        }
+        Instant priceWindow = priceUpdate.minus(PRICE_UPDATE_WINDOW).toInstant();
+        if (!now.isBefore(priceWindow)) {
+            return this.fastInterval;
+        }
+        if (nextWindow == null || priceWindow.isBefore(nextWindow)) {
+            nextWindow = priceWindow;
+        }
+
+        Duration untilWindow = Duration.between(now, nextWindow);
+        if (untilWindow.compareTo(this.slowInterval) < 0) {
+            return untilWindow.compareTo(this.fastInterval) > 0 ? untilWindow : this.fastInterval;
+        }
+        return this.slowInterval;
+    }
+
+    /**
+     * Looks up the deadline of the next gameweek.
+     *
+     * @return the deadline, or null if the season data cannot be loaded
+     */
+    private Instant currentDeadline() {
+        try {
+            return this.cache.get().getDeadline();
+        } catch (IllegalStateException e) {
+            System.err.println("Error: deadline unavailable for live polling - " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Getters
+    public Duration getFastInterval() { return this.fastInterval; }
+    public Duration getSlowInterval() { return this.slowInterval; }
+    public int getTransferThreshold() { return this.transferThreshold; }
+    public synchronized boolean isRunning() { return this.scheduler != null; }
+}
@@ -4,8 +4,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * The Manager class represents a manager in the Fantasy Premier League (FPL) game.
@@ -17,43 +20,144 @@ public class Manager {
     private final String teamName;
     private final ArrayList<Integer> teamPlayersID;
     private final ArrayList<Player> teamPlayers;
+    private final int bank;
     private final Map<String, Object> chipsAvailable;
     private final int availableTransfers;
     private final String gwDeadline;
+    private final Map<Integer, ElementData> playerData;
+    private final FixtureIndex fixtureIndex;
+    private final FixtureDifficulty fixtureDifficulty;
+    private final DataManager dataManager;
+    private final IDataRetriever source;
+    private final Set<Integer> changedPlayerIDs;
 
     /**
      * Constructs a new Manager object with the specified manager ID and next game week.
      *
      * @param managerID the unique identifier of the manager
-     * @param nextGW the next game week
      */
     public Manager(int managerID) {
+        this(managerID, new FPLAPI(managerID), new DataManager());
+    }
+
+    /**
+     * Constructs a new Manager object from data that has already been loaded,
+     * e.g. from the live API or from a recorded snapshot.
+     *
+     * @param managerID the unique identifier of the manager
+     * @param managerData the loaded FPL data of the manager
+     * @param dataManager the DataManager holding the teams
+     */
+    public Manager(int managerID, IDataRetriever managerData, DataManager dataManager) {
+        this(managerID, managerData, dataManager, null);
+    }
+
+    /**
+     * Constructs a new Manager object from data that has already been loaded,
+     * reusing the players of an earlier snapshot whose data has not changed.
+     *
+     * @param managerID the unique identifier of the manager
+     * @param managerData the loaded FPL data of the manager
+     * @param dataManager the DataManager holding the teams
+     * @param previous the earlier snapshot of the manager, or null to build every player
+     */
+    private Manager(int managerID, IDataRetriever managerData, DataManager dataManager, Manager previous) {
         this.ID = managerID;
-        FPLAPI managerData = new FPLAPI(this.ID);
         DeadlineHandler deadline = new DeadlineHandler(managerData.getNextGWInfo());
         this.nextGW = managerData.getNextGW();
         this.teamName = managerData.getTeamName();
         this.teamPlayersID = managerData.getTeamPlayers();
+        this.bank = managerData.getBank();
         this.gwDeadline = deadline.getGWDeadLine();
         this.chipsAvailable = processChipsAvailable(managerData.getChips());
-        this.availableTransfers = calculateAvailableTransfers(managerData.getTransferHistory());
-        this.teamPlayers = createTeamPlayers(managerData.getPlayerData(), managerData.getRemainingFixtures());
+        this.availableTransfers = calculateAvailableTransfers(managerData.getTransferHistory(), this.chipsAvailable, this.nextGW);
+        this.playerData = managerData.getPlayerData();
+        this.fixtureIndex = managerData.getRemainingFixtures();
+        this.fixtureDifficulty = managerData.getFixtureDifficulty();
+        this.dataManager = dataManager;
+        this.source = managerData;
+        this.changedPlayerIDs = new HashSet<>();
+        this.teamPlayers = createTeamPlayers(this.teamPlayersID, this.playerData, this.nextGW, this.fixtureIndex, dataManager, previous, this.changedPlayerIDs);
+    }
+
+    /**
+     * Builds the players of a team from data that is only partly loaded,
+     * e.g. to show the squad while the manager's remaining endpoints are still loading.
+     *
+     * @param managerData the data holding the team players, their data, the next game week and the fixtures
+     * @param dataManager the DataManager holding the teams
+     * @return the team players, sorted by position
+     */
+    public static ArrayList<Player> createTeamPlayers(IDataRetriever managerData, DataManager dataManager) {
+        return createTeamPlayers(managerData.getTeamPlayers(), managerData.getPlayerData(), managerData.getNextGW(),
+                managerData.getRemainingFixtures(), dataManager, null, new HashSet<>());
+    }
+
+    /**
+     * Loads the manager again from the source it was loaded from,
+     * and rebuilds only the players whose data changed since this snapshot,
+     * such as their price, points, chance of playing or transfers.
+     *
+     * @return the refreshed manager
+     */
+    public Manager refresh() {
+        return refresh(this.source.reload());
+    }
+
+    /**
+     * Builds a new snapshot of the manager from newly loaded data,
+     * reusing the players whose data is unchanged since this snapshot.
+     *
+     * @param managerData the newly loaded FPL data of the manager
+     * @return the refreshed manager
+     * @throws IllegalArgumentException if the data belongs to another manager
+     */
+    public Manager refresh(IDataRetriever managerData) {
+        if (managerData.getManagerID() != this.ID) {
+            throw new IllegalArgumentException("Data of manager " + managerData.getManagerID() + " cannot refresh manager " + this.ID);
+        }
+        return new Manager(this.ID, managerData, this.dataManager, this);
+    }
+
+    /**
+     * Finds the player with the given ID, if this snapshot can be reused for new data.
+     *
+     * @param playerID the ID of the player
+     * @param playerData the new typed data of the player
+     * @param nextGW the new next game week
+     * @param fixtureIndex the new index of the season's fixtures
+     * @return the unchanged player, or null if the player has to be rebuilt
+     */
+    private Player findUnchangedPlayer(int playerID, ElementData playerData, int nextGW, FixtureIndex fixtureIndex) {
+        if (this.nextGW != nextGW || !Objects.equals(this.fixtureIndex, fixtureIndex)
+                || this.playerData == null || !playerData.equals(this.playerData.get(playerID))) {
+            return null;
+        }
+        for (Player player : this.teamPlayers) {
+            if (player.getID() == playerID) {
+                return player;
+            }
+        }
+        return null;
     }
 
     /**
-     * Sets the available transfers for the manager using the provided transfer history data.
+     * Calculates the available transfers for the manager using the provided transfer history data.
      *
      * @param transferHistoryData a list containing the transfer history data
+     * @param chipsAvailable the chips used by the manager, keyed by chip name
+     * @param nextGW the next game week
+     * @return the number of available transfers
      */
-    private int calculateAvailableTransfers(ArrayList<Integer> transferHistoryData) {
+    static int calculateAvailableTransfers(ArrayList<Integer> transferHistoryData, Map<String, Object> chipsAvailable, int nextGW) {
         int availableTransfers = 1;
         int wildcardGW = -1;
 
-        if (this.chipsAvailable != null && this.chipsAvailable.get("wildcard") != null &&this.chipsAvailable.get("wildcard").getClass().isInstance(String.class)) {
-            wildcardGW = (Integer) this.chipsAvailable.get("wildcard");
+        if (chipsAvailable != null && chipsAvailable.get("wildcard") != null &&chipsAvailable.get("wildcard").getClass().isInstance(String.class)) {
+            wildcardGW = (Integer) chipsAvailable.get("wildcard");
         }
 
-        for (int currentGW = 1; currentGW <= this.nextGW; currentGW++) {
+        for (int currentGW = 1; currentGW <= nextGW; currentGW++) {
             if (availableTransfers < 5) {
                 availableTransfers ++;
             }
@@ -99,37 +203,32 @@ public class Manager {
     }
 
     /**
-     * Sets the team players for the manager using the provided player data and fixture data.
+     * Creates the team players using the provided player data and fixture data.
      *
-     * @param allPlayerData a map containing all player data
-     * @param fixtureData a map containing the fixture data
+     * @param teamPlayersID the IDs of the team players
+     * @param allPlayerData a map containing the typed data of the players
+     * @param nextGW the next game week
+     * @param fixtureIndex the index of the season's fixtures
+     * @param dataManager the DataManager holding the teams
+     * @param previous the earlier snapshot whose unchanged players are reused, or null
+     * @param changedPlayerIDs collects the IDs of the players that were built rather than reused
+     * @return the team players, sorted by position
      */
-    private ArrayList<Player> createTeamPlayers(Map<Integer, Map<String, Object>> allPlayerData, Map<Integer, List<Map<String, Object>>> fixtureData) {
+    private static ArrayList<Player> createTeamPlayers(ArrayList<Integer> teamPlayersID, Map<Integer, ElementData> allPlayerData, int nextGW,
+            FixtureIndex fixtureIndex, DataManager dataManager, Manager previous, Set<Integer> changedPlayerIDs) {
         ArrayList<Player> teamPlayers = new ArrayList<>();
-        DataManager dataManager = new DataManager();
 
-        for (int playerID : this.teamPlayersID) {
-            Map<String, Object> playerData = allPlayerData.get(playerID);
+        for (int playerID : teamPlayersID) {
+            ElementData playerData = allPlayerData.get(playerID);
             if (playerData != null) {
-                String position = Player.getPositionFromPlayerData(playerData, "element_type");
-
-                Player player;
-                switch (position) {
-                    case "Goalkeeper":
-                        player = new Goalkeeper(playerID, this.nextGW, playerData, fixtureData, dataManager);
-                        break;
-                    case "Defender":
-                        player = new Defender(playerID, this.nextGW, playerData, fixtureData, dataManager);
-                        break;
-                    case "Midfielder":
-                        player = new Midfielder(playerID, this.nextGW, playerData, fixtureData, dataManager);
-                        break;
-                    case "Forward":
-                        player = new Forward(playerID, this.nextGW, playerData, fixtureData, dataManager);
-                        break;
-                    default:
+                Player player = previous != null ? previous.findUnchangedPlayer(playerID, playerData, nextGW, fixtureIndex) : null;
+                if (player == null) {
+                    player = Player.create(playerID, nextGW, playerData, fixtureIndex, dataManager);
+                    if (player == null) {
                         System.err.println("Warning: Unknown Player Position for player ID: " + playerID);
                         continue;
+                    }
+                    changedPlayerIDs.add(playerID);
                 }
                 teamPlayers.add(player);
             }
@@ -143,9 +242,12 @@ public class Manager {
     public String getName() { return this.teamName; }
     public ArrayList<Integer> getTeamPlayersID() { return this.teamPlayersID; }
     public int getAvailableTransfers() { return this.availableTransfers; }
+    public int getBank() { return this.bank; }
     public int getNextGW() { return this.nextGW; }
     public Map<String, Object> getChipsAvailable() { return this.chipsAvailable; }
     public ArrayList<Player> getTeamPlayers() { return this.teamPlayers; }
     public String getGWDeadline() { return this.gwDeadline; }
     public int getID() { return this.ID; }
+    public FixtureDifficulty getFixtureDifficulty() { return this.fixtureDifficulty; }
+    public Set<Integer> getChangedPlayerIDs() { return Collections.unmodifiableSet(this.changedPlayerIDs); }
 }
@@ -0,0 +1,158 @@
+package FPLManager.model;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads many managers at once, e.g. every entry of a mini-league.
+ * The season-wide data is loaded once through a {@link SeasonDataCache}, and each manager's own endpoints
+ * are fetched on virtual threads, with at most a configured number of managers in flight.
+ * A manager that fails to load is reported on its own and does not abort the batch.
+ */
+public class ManagerBatchLoader {
+    public static final int DEFAULT_PERMITS = 16;
+
+    private final SeasonDataCache cache;
+    private final int permits;
+    private final DataManager dataManager;
+
+    /**
+     * Receives the managers of a batch as each one completes.
+     * The methods are called from the loading threads, so implementations must be thread safe.
+     */
+    public interface Listener {
+
+        /**
+         * Called when a manager has been loaded.
+         *
+         * @param manager the loaded manager
+         */
+        void loaded(Manager manager);
+
+        /**
+         * Called when a manager could not be loaded.
+         *
+         * @param managerID the ID of the manager
+         * @param e the cause of the failure
+         */
+        void failed(int managerID, Exception e);
+    }
+
+    /**
+     * The outcome of a batch.
+     */
+    public static class BatchResult {
+        private final int loaded;
+        private final int failed;
+        private final Duration elapsed;
+
+        private BatchResult(int loaded, int failed, Duration elapsed) {
+            this.loaded = loaded;
+            this.failed = failed;
+            this.elapsed = elapsed;
+        }
+
+        /**
+         * Calculates the throughput of the batch.
+         *
+         * @return the number of managers loaded per second
+         */
+        public double getManagersPerSecond() {
+            double seconds = this.elapsed.toNanos() / 1e9;
+            return seconds > 0 ? this.loaded / seconds : 0;
+        }
+
+        // Getters
+        public int getLoaded() { return this.loaded; }
+        public int getFailed() { return this.failed; }
+        public Duration getElapsed() { return this.elapsed; }
+    }
+
+    /**
+     * Constructs a batch loader with the default number of permits.
+     *
+     * @param cache the cache holding the season-wide data
+     */
+    public ManagerBatchLoader(SeasonDataCache cache) {
+        this(cache, DEFAULT_PERMITS);
+    }
+
+    /**
+     * Constructs a batch loader.
+     *
+     * @param cache the cache holding the season-wide data
+     * @param permits the maximum number of managers loaded at the same time
+     * @throws IllegalArgumentException if permits is not positive
+     */
+    public ManagerBatchLoader(SeasonDataCache cache, int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Permits must be positive: " + permits);
+        }
+        this.cache = cache;
+        this.permits = permits;
+        this.dataManager = new DataManager();
+    }
+
+    /**
+     * Loads the managers with the given IDs, handing each one to the listener as it completes,
+     * and blocks until the whole batch is done.
+     *
+     * @param managerIDs the IDs of the managers
+     * @param listener the listener receiving the managers
+     * @return the outcome of the batch
+     * @throws IllegalStateException if the season-wide data cannot be loaded, or the batch is interrupted
+     */
+    public BatchResult load(Collection<Integer> managerIDs, Listener listener) {
+        long start = System.nanoTime();
+        this.cache.get();
+
+        AtomicInteger loaded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore semaphore = new Semaphore(this.permits);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int managerID : managerIDs) {
+                semaphore.acquire();
+                executor.submit(() -> {
+                    try {
+                        Manager manager = loadManager(managerID, listener);
+                        if (manager != null) {
+                            loaded.incrementAndGet();
+                            listener.loaded(manager);
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } finally {
+                        semaphore.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch loading was interrupted", e);
+        }
+        return new BatchResult(loaded.get(), failed.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Loads a single manager, reporting a failure to the listener.
+     *
+     * @param managerID the ID of the manager
+     * @param listener the listener receiving failures
+     * @return the loaded manager, or null if it could not be loaded
+     */
+    private Manager loadManager(int managerID, Listener listener) {
+        try {
+            return new Manager(managerID, new FPLAPI(managerID, this.cache), this.dataManager);
+        } catch (Exception e) {
+            listener.failed(managerID, e);
+            return null;
+        }
+    }
+
+    // Getters
+    public int getPermits() { return this.permits; }
+}
@@ -1,9 +1,9 @@
 package FPLManager.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * The Player class represents a player in the Fantasy Premier League (FPL) game.
@@ -25,8 +25,10 @@ public abstract class Player {
     private final double xA;
     private final double cleanSheets;
     private final int teamID;
+    private final int elementType;
     private final String team;
-    private final Map<Integer, List<String>> fixtures;
+    private final FixtureIndex fixtureIndex;
+    private final ElementData playerData;
 
     /**
      * Constructs a new Player object with the given attributes.
@@ -34,11 +36,11 @@ public abstract class Player {
      * 
      * @param ID the ID of the player
      * @param nextGW the next game week
-     * @param playerData a map containing player data
-     * @param fixtureData a map containing fixture data
+     * @param playerData the typed data of the player
+     * @param fixtureIndex the index of the season's fixtures, or null if the fixtures are missing
      * @param data the DataManager instance
      */
-    public Player(int ID, int nextGW, Map<String, Object> playerData, Map<Integer, List<Map<String, Object>>> fixtureData, DataManager data) {
+    public Player(int ID, int nextGW, ElementData playerData, FixtureIndex fixtureIndex, DataManager data) {
         this.ID = ID;
         this.nextGW = nextGW;
 
@@ -55,85 +57,91 @@ public abstract class Player {
             this.xA = 0;
             this.cleanSheets = 0;
             this.teamID = 0;
+            this.elementType = 0;
             this.team = "Root Team"; 
-            this.fixtures = new TreeMap<>();
+            this.fixtureIndex = null;
+            this.playerData = null;
         } else {
             this.name = getNameFromPlayerData(playerData);
-            this.chanceOfPlaying = getIntFromPlayerData(playerData, "chance_of_playing_next_round");
-            this.costChange = getDoubleFromPlayerData(playerData, "cost_change_event", 10.0);
-            this.pointsLastRound = getIntFromPlayerData(playerData, "event_points");
-            this.price = getDoubleFromPlayerData(playerData, "now_cost", 10.0);
-            this.avgPoints = getStringFromPlayerData(playerData, "points_per_game");
-            this.selectedBy = getStringFromPlayerData(playerData, "selected_by_percent");
-            this.transferBalance = getTransferBalance(playerData);
-            this.xG = getDoubleFromPlayerData(playerData, "expected_goals_per_90", 1.0);
-            this.xA = getDoubleFromPlayerData(playerData, "expected_assists_per_90", 1.0);
-            this.cleanSheets = getDoubleFromPlayerData(playerData, "clean_sheets_per_90", 1.0);
-            this.teamID = getIntFromPlayerData(playerData, "team");
+            this.chanceOfPlaying = playerData.chanceOfPlayingNextRound() != null ? playerData.chanceOfPlayingNextRound() : 0;
+            this.costChange = playerData.costChangeEvent() / 10.0;
+            this.pointsLastRound = playerData.eventPoints();
+            this.price = playerData.nowCost() / 10.0;
+            this.avgPoints = playerData.pointsPerGame() != null ? playerData.pointsPerGame() : "0";
+            this.selectedBy = playerData.selectedByPercent() != null ? playerData.selectedByPercent() : "0";
+            this.transferBalance = playerData.transfersInEvent() - playerData.transfersOutEvent();
+            this.xG = playerData.expectedGoalsPer90();
+            this.xA = playerData.expectedAssistsPer90();
+            this.cleanSheets = playerData.cleanSheetsPer90();
+            this.teamID = playerData.team();
+            this.elementType = playerData.elementType();
             this.team = getTeamName(data.getTeams());
-            this.fixtures = processFixtures(fixtureData, data.getTeams());
+            this.fixtureIndex = fixtureIndex;
+            this.playerData = playerData;
         }
     }
 
 
 
     /**
-     * Retrieves the player's name from the player data map.
-     *
-     * @param playerData a map containing player data
-     * @return the player's name
-     */
-    private String getNameFromPlayerData(Map<String, Object> playerData) {
-        String firstName = (String) playerData.get("first_name");
-        String secondName = (String) playerData.get("second_name");
-        return (firstName != null ? firstName : "") + " " + (secondName != null ? secondName : "");
-    }
-
-    /**
-     * Retrieves an integer value from the player data map.
+     * Creates a player of the subclass matching the player's position.
      *
-     * @param playerData a map containing player data
-     * @param key the key to retrieve the value
-     * @return the integer value
+     * @param ID the ID of the player
+     * @param nextGW the next game week
+     * @param playerData the typed data of the player
+     * @param fixtureIndex the index of the season's fixtures
+     * @param data the DataManager instance
+     * @return the player, or null if the position is unknown
      */
-    private int getIntFromPlayerData(Map<String, Object> playerData, String key) {
-        return playerData.get(key) != null ? (int) playerData.get(key) : 0;
+    public static Player create(int ID, int nextGW, ElementData playerData, FixtureIndex fixtureIndex, DataManager data) {
+        switch (getPosition(playerData.elementType())) {
+            case "Goalkeeper":
+                return new Goalkeeper(ID, nextGW, playerData, fixtureIndex, data);
+            case "Defender":
+                return new Defender(ID, nextGW, playerData, fixtureIndex, data);
+            case "Midfielder":
+                return new Midfielder(ID, nextGW, playerData, fixtureIndex, data);
+            case "Forward":
+                return new Forward(ID, nextGW, playerData, fixtureIndex, data);
+            default:
+                return null;
+        }
     }
 
     /**
-     * Retrieves a double value from the player data map and divides it by the given divisor.
+     * Returns the scoring rules of the player's position. Overridden by the subclass of every position.
      *
-     * @param playerData a map containing player data
-     * @param key the key to retrieve the value
-     * @param divisor the divisor to divide the value
-     * @return the double value
+     * @return the scoring rules, or null if the player has no position, like the dummy root
      */
-    private double getDoubleFromPlayerData(Map<String, Object> playerData, String key, double divisor) {
-        return playerData.get(key) != null ? ((Number) playerData.get(key)).doubleValue() / divisor : 0.0;
+    public ScoringRules getScoringRules() {
+        return null;
     }
 
     /**
-     * Retrieves a string value from the player data map.
+     * Projects the player's expected points in a gameweek with the scoring rules of their position.
      *
-     * @param playerData a map containing player data
-     * @param key the key to retrieve the value
-     * @return the string value
+     * @param difficulty the difficulty of the remaining fixtures
+     * @param gameweek the gameweek, from the next gameweek of the fixture difficulty on
+     * @return the expected points, or 0 if the player has no position or no fixture
      */
-    private String getStringFromPlayerData(Map<String, Object> playerData, String key) {
-        return playerData.get(key) != null ? (String) playerData.get(key) : "0";
+    public double getExpectedPoints(FixtureDifficulty difficulty, int gameweek) {
+        ScoringRules rules = getScoringRules();
+        if (rules == null || difficulty == null) {
+            return 0;
+        }
+        return ProjectionEngine.projectGameweek(this.playerData, rules, difficulty, gameweek);
     }
 
     /**
-     * Calculates the transfer balance from the player data map.
+     * Retrieves the player's name from the player data.
      *
-     * @param playerData a map containing player data
-     * @return the transfer balance
+     * @param playerData the typed data of the player
+     * @return the player's name
      */
-    private int getTransferBalance(Map<String, Object> playerData) {
-        if (playerData.get("transfers_in_event") != null && playerData.get("transfers_out_event") != null) {
-            return (int) playerData.get("transfers_in_event") - (int) playerData.get("transfers_out_event");
-        }
-        return 0;
+    private String getNameFromPlayerData(ElementData playerData) {
+        String firstName = playerData.firstName();
+        String secondName = playerData.secondName();
+        return (firstName != null ? firstName : "") + " " + (secondName != null ? secondName : "");
     }
 
     /**
@@ -149,40 +157,6 @@ public abstract class Player {
         return teams.get(this.teamID - 1).get(0);
     }
 
-    /**
-     * Processes the fixture data and maps it to the player's fixtures.
-     *
-     * @param fixtureData a map containing fixture data
-     * @param teams a list of teams
-     * @return a map of fixtures
-     */
-    private Map<Integer, List<String>> processFixtures(Map<Integer, List<Map<String, Object>>> fixtureData, ArrayList<ArrayList<String>> teams) {
-        Map<Integer, List<String>> fixtures = new TreeMap<>();
-        if (fixtureData == null) {
-            return fixtures;
-        }
-
-        for (int gw = this.nextGW; gw < 39; gw++) {
-            List<String> fixture = new ArrayList<>();
-            List<Map<String, Object>> fixtureList = fixtureData.get(gw);
-            if (fixtureList != null) {
-                for (Map<String, Object> match : fixtureList) {
-                    if (match != null && match.get("HomeTeam") != null && match.get("AwayTeam") != null) {
-                        if (match.get("HomeTeam").equals(this.teamID)) {
-                            fixture.add(teams.get((int) match.get("AwayTeam") - 1).get(1) + "(H)");
-                        } else if (match.get("AwayTeam").equals(this.teamID)) {
-                            fixture.add(teams.get((int) match.get("HomeTeam") - 1).get(1) + "(A)");
-                        }
-                    }
-                }
-            }
-            if (!fixture.isEmpty()) {
-                fixtures.put(gw, fixture);
-            }
-        }
-        return fixtures;
-    }
-
     /**
      * Retrieves the fixture for a specific game week.
      *
@@ -190,10 +164,10 @@ public abstract class Player {
      * @return the fixture for the game week
      */
     public String getFixtureForGameweek(int gameweek) {
-        if (fixtures != null && fixtures.containsKey(gameweek)) {
-            return String.join(", ", fixtures.get(gameweek));
+        if (this.fixtureIndex == null || gameweek < this.nextGW) {
+            return "";
         }
-        return "";
+        return this.fixtureIndex.getLabel(this.teamID, gameweek);
     }
 
     /**
@@ -211,8 +185,17 @@ public abstract class Player {
         if (pos == null) {
             return "Unknown";
         }
+        return getPosition(pos);
+    }
 
-        switch (pos) {
+    /**
+     * Retrieves the position for an element type.
+     *
+     * @param elementType the element type, from 1 (goalkeeper) to 4 (forward)
+     * @return the player's position
+     */
+    public static String getPosition(int elementType) {
+        switch (elementType) {
             case 1:
                 return "Goalkeeper";
             case 2:
@@ -239,7 +222,14 @@ public abstract class Player {
     public double getXA() {return xA;}
     public double getCleanSheetsPerGame() {return cleanSheets;}
     public String getTeam() {return team;}
-    public Map<Integer, List<String>> getFixtures() {return fixtures;}
+    public int getTeamID() {return teamID;}
+    public int getElementType() {return elementType;}
+    public Map<Integer, List<String>> getFixtures() {
+        if (this.fixtureIndex == null) {
+            return Collections.emptyMap();
+        }
+        return this.fixtureIndex.getFixtures(this.teamID);
+    }
     public int getID() { return this.ID; }
 
 
@@ -0,0 +1,58 @@
+package FPLManager.model;
+
+/**
+ * A change to a player noticed by the {@link LivePoller} between two polls of 'bootstrap-static/'.
+ */
+public class PlayerChangeEvent {
+
+    /**
+     * The kinds of changes that are reported.
+     */
+    public enum Type {
+        /** The price rose; values are in tenths of a million. */
+        PRICE_RISE,
+        /** The price fell; values are in tenths of a million. */
+        PRICE_FALL,
+        /** The chance of playing next round changed; values are percentages, or -1 when the flag was cleared. */
+        FLAG_CHANGE,
+        /** The gameweek's net transfers crossed a multiple of the poller's threshold; values are the net transfers. */
+        TRANSFER_BALANCE
+    }
+
+    private final Type type;
+    private final int playerID;
+    private final String playerName;
+    private final int oldValue;
+    private final int newValue;
+    private final ElementData playerData;
+
+    /**
+     * Constructs a new change event.
+     *
+     * @param type the kind of change
+     * @param playerData the typed data of the player after the change
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    public PlayerChangeEvent(Type type, ElementData playerData, int oldValue, int newValue) {
+        this.type = type;
+        this.playerID = playerData.id();
+        this.playerName = playerData.webName();
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.playerData = playerData;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + " " + this.playerName + " (" + this.playerID + "): " + this.oldValue + " -> " + this.newValue;
+    }
+
+    // Getters
+    public Type getType() { return this.type; }
+    public int getPlayerID() { return this.playerID; }
+    public String getPlayerName() { return this.playerName; }
+    public int getOldValue() { return this.oldValue; }
+    public int getNewValue() { return this.newValue; }
+    public ElementData getPlayerData() { return this.playerData; }
+}
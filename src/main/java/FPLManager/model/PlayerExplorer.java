@@ -0,0 +1,229 @@
+package FPLManager.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An index over the whole player pool for filtering and sorting in the player explorer.
+ * Every sort order is computed once when the explorer is built, as a permutation of the player IDs,
+ * and every filter is a {@link BitSet} over player IDs, so filters compose with {@link BitSet#and(BitSet)}
+ * and a sorted, filtered page is a single pass over one permutation.
+ * An explorer is immutable once built and can be shared between threads; the masks it returns are copies.
+ */
+public class PlayerExplorer {
+    public static final int ANY = 0;
+
+    private final PlayerTable table;
+    private final int[][] sortOrders;
+    private final BitSet all;
+    private final BitSet[] byPosition;
+    private final BitSet[] byTeam;
+    private final BitSet[] byMaxCost;
+
+    /**
+     * The orders the player pool can be sorted in.
+     */
+    public enum SortKey {
+        PRICE, XG_90, XA_90, CS_90, POINTS_PER_GAME, SELECTED_BY, TRANSFER_BALANCE
+    }
+
+    /**
+     * Constructs an explorer over a table of all players.
+     *
+     * @param table the table of all players
+     */
+    public PlayerExplorer(PlayerTable table) {
+        this.table = table;
+        int[] ids = table.getIDs();
+
+        this.sortOrders = new int[SortKey.values().length][];
+        for (SortKey key : SortKey.values()) {
+            int[] order = ids.clone();
+            PlayerTable.sortDescending(order, order.length, keyColumn(key));
+            this.sortOrders[key.ordinal()] = order;
+        }
+
+        byte[] elementType = table.getElementType();
+        int[] teamId = table.getTeamID();
+        int[] nowCost = table.getNowCost();
+        int maxTeam = 0;
+        int maxCost = 0;
+        for (int id : ids) {
+            maxTeam = Math.max(maxTeam, teamId[id]);
+            maxCost = Math.max(maxCost, nowCost[id]);
+        }
+        this.all = new BitSet(table.getMaxID() + 1);
+        this.byPosition = newMasks(5);
+        this.byTeam = newMasks(maxTeam + 1);
+        BitSet[] atCost = newMasks(maxCost + 1);
+        for (int id : ids) {
+            this.all.set(id);
+            int type = elementType[id];
+            if (type < this.byPosition.length) {
+                this.byPosition[type].set(id);
+            }
+            this.byTeam[teamId[id]].set(id);
+            atCost[Math.max(nowCost[id], 0)].set(id);
+        }
+        this.byMaxCost = new BitSet[maxCost + 1];
+        BitSet cumulative = new BitSet();
+        for (int cost = 0; cost <= maxCost; cost++) {
+            cumulative.or(atCost[cost]);
+            this.byMaxCost[cost] = (BitSet) cumulative.clone();
+        }
+    }
+
+    private static BitSet[] newMasks(int count) {
+        BitSet[] masks = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            masks[i] = new BitSet();
+        }
+        return masks;
+    }
+
+    /**
+     * Builds the column a sort order is computed from.
+     *
+     * @param key the sort order
+     * @return the sort key of every player, indexed by element ID
+     */
+    private float[] keyColumn(SortKey key) {
+        switch (key) {
+            case PRICE:
+                return toFloat(this.table.getNowCost());
+            case XG_90:
+                return this.table.getXG90();
+            case XA_90:
+                return this.table.getXA90();
+            case CS_90:
+                return this.table.getCS90();
+            case POINTS_PER_GAME:
+                return this.table.getPointsPerGame();
+            case SELECTED_BY:
+                return this.table.getSelectedBy();
+            case TRANSFER_BALANCE:
+                int[] transfersIn = this.table.getTransfersIn();
+                int[] transfersOut = this.table.getTransfersOut();
+                float[] balance = new float[this.table.getMaxID() + 1];
+                for (int id = 0; id < balance.length; id++) {
+                    balance[id] = transfersIn[id] - transfersOut[id];
+                }
+                return balance;
+            default:
+                throw new IllegalArgumentException("Unknown sort key: " + key);
+        }
+    }
+
+    private static float[] toFloat(int[] column) {
+        float[] values = new float[column.length];
+        for (int i = 0; i < column.length; i++) {
+            values[i] = column[i];
+        }
+        return values;
+    }
+
+    /**
+     * Returns the mask of every player.
+     *
+     * @return a new mask
+     */
+    public BitSet all() {
+        return (BitSet) this.all.clone();
+    }
+
+    /**
+     * Returns the mask of the players in a position.
+     *
+     * @param elementType the element type, from 1 (goalkeeper) to 4 (forward), or {@link #ANY}
+     * @return a new mask, empty for an unknown position
+     */
+    public BitSet position(int elementType) {
+        if (elementType == ANY) {
+            return all();
+        }
+        return elementType > 0 && elementType < this.byPosition.length ? (BitSet) this.byPosition[elementType].clone() : new BitSet();
+    }
+
+    /**
+     * Returns the mask of the players of a team.
+     *
+     * @param teamID the team ID, or {@link #ANY}
+     * @return a new mask, empty for an unknown team
+     */
+    public BitSet team(int teamID) {
+        if (teamID == ANY) {
+            return all();
+        }
+        return teamID > 0 && teamID < this.byTeam.length ? (BitSet) this.byTeam[teamID].clone() : new BitSet();
+    }
+
+    /**
+     * Returns the mask of the players within a price range.
+     *
+     * @param minCost the minimum price in tenths of a million
+     * @param maxCost the maximum price in tenths of a million
+     * @return a new mask
+     */
+    public BitSet price(int minCost, int maxCost) {
+        BitSet mask = atMost(maxCost);
+        if (minCost > 0) {
+            mask.andNot(atMost(minCost - 1));
+        }
+        return mask;
+    }
+
+    private BitSet atMost(int cost) {
+        if (cost < 0) {
+            return new BitSet();
+        }
+        return (BitSet) this.byMaxCost[Math.min(cost, this.byMaxCost.length - 1)].clone();
+    }
+
+    /**
+     * Combines the position, team and price filters of the explorer view.
+     *
+     * @param elementType the element type, or {@link #ANY}
+     * @param teamID the team ID, or {@link #ANY}
+     * @param minCost the minimum price in tenths of a million
+     * @param maxCost the maximum price in tenths of a million
+     * @return a new mask of the players passing every filter
+     */
+    public BitSet filter(int elementType, int teamID, int minCost, int maxCost) {
+        BitSet mask = price(minCost, maxCost);
+        mask.and(position(elementType));
+        mask.and(team(teamID));
+        return mask;
+    }
+
+    /**
+     * Returns one page of the players in a mask, in a sort order.
+     * Ties are ordered by lowest ID when descending, and by highest ID when ascending.
+     *
+     * @param mask the players to include
+     * @param key the sort order
+     * @param descending true for the highest values first
+     * @param offset the number of matching players to skip
+     * @param limit the maximum number of players returned
+     * @return the rows of the page
+     */
+    public List<PlayerTable.Row> page(BitSet mask, SortKey key, boolean descending, int offset, int limit) {
+        int[] order = this.sortOrders[key.ordinal()];
+        List<PlayerTable.Row> rows = new ArrayList<>(Math.min(limit, order.length));
+        int skipped = 0;
+        for (int i = 0; i < order.length && rows.size() < limit; i++) {
+            int id = order[descending ? i : order.length - 1 - i];
+            if (mask.get(id)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    rows.add(this.table.row(id));
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Getters
+    public PlayerTable getTable() { return this.table; }
+}
@@ -0,0 +1,288 @@
+package FPLManager.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntPredicate;
+
+/**
+ * A columnar store of every element (player) in the 'bootstrap-static/' response.
+ * Each field is kept in its own primitive array indexed by element ID, so scans over the whole player pool,
+ * such as "all midfielders under 7.0 sorted by xG", run as tight loops over arrays without allocating.
+ * Rows are exposed as lightweight views that read the arrays on demand.
+ * The column getters return copies, so a caller scanning a column should fetch it once rather than per player.
+ * A table is immutable once built and can be shared between threads.
+ */
+public class PlayerTable {
+    public static final byte NO_CHANCE = -1;
+
+    private final int[] ids;
+    private final byte[] elementType;
+    private final int[] teamId;
+    private final int[] nowCost;
+    private final int[] costChangeEvent;
+    private final int[] eventPoints;
+    private final byte[] chanceOfPlaying;
+    private final int[] transfersIn;
+    private final int[] transfersOut;
+    private final float[] xG90;
+    private final float[] xA90;
+    private final float[] cs90;
+    private final int[] minutes;
+    private final float[] pointsPerGame;
+    private final float[] selectedBy;
+    private final String[] firstName;
+    private final String[] secondName;
+    private final String[] webName;
+
+    /**
+     * A view of one row of the table. Views hold no data of their own.
+     */
+    public class Row {
+        private final int id;
+
+        private Row(int id) {
+            this.id = id;
+        }
+
+        /**
+         * Copies the row into typed player data.
+         *
+         * @return the player data
+         */
+        public ElementData toElementData() {
+            return new ElementData(this.id, firstName[this.id], secondName[this.id], webName[this.id], elementType[this.id],
+                    teamId[this.id], nowCost[this.id], costChangeEvent[this.id], eventPoints[this.id],
+                    chanceOfPlaying[this.id] == NO_CHANCE ? null : Integer.valueOf(chanceOfPlaying[this.id]),
+                    Float.toString(pointsPerGame[this.id]), Float.toString(selectedBy[this.id]),
+                    transfersIn[this.id], transfersOut[this.id], xG90[this.id], xA90[this.id], cs90[this.id], minutes[this.id]);
+        }
+
+        /**
+         * Wraps the row in a player of the matching position.
+         *
+         * @param nextGW the next game week
+         * @param fixtureIndex the index of the season's fixtures
+         * @param data the DataManager instance
+         * @return the player, or null if the position is unknown
+         */
+        public Player toPlayer(int nextGW, FixtureIndex fixtureIndex, DataManager data) {
+            return Player.create(this.id, nextGW, toElementData(), fixtureIndex, data);
+        }
+
+        // Getters
+        public int getID() { return this.id; }
+        public int getElementType() { return elementType[this.id]; }
+        public int getTeamID() { return teamId[this.id]; }
+        public int getNowCost() { return nowCost[this.id]; }
+        public int getEventPoints() { return eventPoints[this.id]; }
+        public float getXG90() { return xG90[this.id]; }
+        public float getXA90() { return xA90[this.id]; }
+        public float getCS90() { return cs90[this.id]; }
+        public int getMinutes() { return minutes[this.id]; }
+        public float getPointsPerGame() { return pointsPerGame[this.id]; }
+        public float getSelectedBy() { return selectedBy[this.id]; }
+        public int getTransferBalance() { return transfersIn[this.id] - transfersOut[this.id]; }
+        public String getWebName() { return webName[this.id]; }
+    }
+
+    /**
+     * Constructs a table from the typed data of the players.
+     *
+     * @param elements the typed data of all players
+     */
+    public PlayerTable(Collection<ElementData> elements) {
+        int maxId = 0;
+        for (ElementData element : elements) {
+            maxId = Math.max(maxId, element.id());
+        }
+        int size = maxId + 1;
+        this.ids = new int[elements.size()];
+        this.elementType = new byte[size];
+        this.teamId = new int[size];
+        this.nowCost = new int[size];
+        this.costChangeEvent = new int[size];
+        this.eventPoints = new int[size];
+        this.chanceOfPlaying = new byte[size];
+        this.transfersIn = new int[size];
+        this.transfersOut = new int[size];
+        this.xG90 = new float[size];
+        this.xA90 = new float[size];
+        this.cs90 = new float[size];
+        this.minutes = new int[size];
+        this.pointsPerGame = new float[size];
+        this.selectedBy = new float[size];
+        this.firstName = new String[size];
+        this.secondName = new String[size];
+        this.webName = new String[size];
+
+        int row = 0;
+        for (ElementData element : elements) {
+            int id = element.id();
+            this.ids[row++] = id;
+            this.elementType[id] = (byte) element.elementType();
+            this.teamId[id] = element.team();
+            this.nowCost[id] = element.nowCost();
+            this.costChangeEvent[id] = element.costChangeEvent();
+            this.eventPoints[id] = element.eventPoints();
+            this.chanceOfPlaying[id] = element.chanceOfPlayingNextRound() != null ? element.chanceOfPlayingNextRound().byteValue() : NO_CHANCE;
+            this.transfersIn[id] = element.transfersInEvent();
+            this.transfersOut[id] = element.transfersOutEvent();
+            this.xG90[id] = (float) element.expectedGoalsPer90();
+            this.xA90[id] = (float) element.expectedAssistsPer90();
+            this.cs90[id] = (float) element.cleanSheetsPer90();
+            this.minutes[id] = element.minutes();
+            this.pointsPerGame[id] = parseFloat(element.pointsPerGame());
+            this.selectedBy[id] = parseFloat(element.selectedByPercent());
+            this.firstName[id] = element.firstName();
+            this.secondName[id] = element.secondName();
+            this.webName[id] = element.webName();
+        }
+        Arrays.sort(this.ids);
+    }
+
+    /**
+     * Parses a decimal string from the API, treating missing values as zero.
+     *
+     * @param value the decimal string
+     * @return the parsed value
+     */
+    private static float parseFloat(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Checks whether the table has a player with the given ID.
+     *
+     * @param id the element ID
+     * @return true if the player exists
+     */
+    public boolean contains(int id) {
+        return id > 0 && id < this.elementType.length && this.elementType[id] != 0;
+    }
+
+    /**
+     * Returns a view of the row of a player.
+     *
+     * @param id the element ID
+     * @return the row view
+     * @throws IllegalArgumentException if there is no player with the ID
+     */
+    public Row row(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("No player with ID: " + id);
+        }
+        return new Row(id);
+    }
+
+    /**
+     * Writes the IDs of the players accepted by the predicate to the output array, in ID order.
+     *
+     * @param predicate the predicate on element IDs
+     * @param out the output array, at least {@link #size()} long
+     * @return the number of IDs written
+     */
+    public int filter(IntPredicate predicate, int[] out) {
+        int count = 0;
+        for (int id : this.ids) {
+            if (predicate.test(id)) {
+                out[count++] = id;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the IDs of the players with the given position and at most the given price to the output array, in ID order.
+     *
+     * @param type the element type, from 1 (goalkeeper) to 4 (forward)
+     * @param maxCost the maximum price in tenths of a million
+     * @param out the output array, at least {@link #size()} long
+     * @return the number of IDs written
+     */
+    public int select(int type, int maxCost, int[] out) {
+        int count = 0;
+        for (int id : this.ids) {
+            if (this.elementType[id] == type && this.nowCost[id] <= maxCost) {
+                out[count++] = id;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sorts the first entries of an ID array in place, highest key first; ties are broken by lowest ID.
+     *
+     * @param ids the IDs to sort
+     * @param count the number of IDs to sort
+     * @param key the column to sort by, indexed by element ID
+     */
+    public static void sortDescending(int[] ids, int count, float[] key) {
+        quickSort(ids, 0, count - 1, key);
+    }
+
+    private static void quickSort(int[] ids, int low, int high, float[] key) {
+        while (high - low > 16) {
+            int pivot = ids[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (before(ids[i], pivot, key)) {
+                    i++;
+                }
+                while (before(pivot, ids[j], key)) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = ids[i];
+                    ids[i++] = ids[j];
+                    ids[j--] = swap;
+                }
+            }
+            if (j - low < high - i) {
+                quickSort(ids, low, j, key);
+                low = i;
+            } else {
+                quickSort(ids, i, high, key);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= low && before(id, ids[j], key)) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+    }
+
+    private static boolean before(int a, int b, float[] key) {
+        return key[a] > key[b] || (key[a] == key[b] && a < b);
+    }
+
+    // Getters
+    public int size() { return this.ids.length; }
+    public int getMaxID() { return this.elementType.length - 1; }
+    public int[] getIDs() { return this.ids.clone(); }
+    public byte[] getElementType() { return this.elementType.clone(); }
+    public int[] getTeamID() { return this.teamId.clone(); }
+    public int[] getNowCost() { return this.nowCost.clone(); }
+    public int[] getCostChangeEvent() { return this.costChangeEvent.clone(); }
+    public int[] getEventPoints() { return this.eventPoints.clone(); }
+    public byte[] getChanceOfPlaying() { return this.chanceOfPlaying.clone(); }
+    public int[] getTransfersIn() { return this.transfersIn.clone(); }
+    public int[] getTransfersOut() { return this.transfersOut.clone(); }
+    public float[] getXG90() { return this.xG90.clone(); }
+    public float[] getXA90() { return this.xA90.clone(); }
+    public float[] getCS90() { return this.cs90.clone(); }
+    public float[] getPointsPerGame() { return this.pointsPerGame.clone(); }
+    public float[] getSelectedBy() { return this.selectedBy.clone(); }
+}
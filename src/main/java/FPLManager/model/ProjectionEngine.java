@@ -0,0 +1,216 @@
+package FPLManager.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Projects the expected points of every player in every remaining gameweek.
+ * A fixture is worth the appearance points, plus the player's expected goals and assists per 90 scored
+ * with the {@link ScoringRules} of their position, plus the clean sheet points times the chance of a clean sheet.
+ * Goals and assists are scaled by the attack difficulty of the fixture, and clean sheets by its defence difficulty,
+ * so an easy fixture (rating 1) is worth more and a hard one (rating 5) less than an average one.
+ * A blank gameweek is worth nothing and a double gameweek counts both fixtures.
+ * Every fixture is scaled by the player's expected playing time, their minutes over the gameweeks played so far,
+ * so a substitute with a high xG per 90 from a few minutes is not projected like a starter.
+ * The chance of playing next round discounts the next gameweek, and the absence recovers by half every gameweek after.
+ * The rules of a position are those of its {@link Player} subclass, see {@link Player#getScoringRules()}.
+ * <p>
+ * Projections are cached for the gameweek they were made in. A new projection only recomputes the players
+ * whose data changed, and all players if the fixtures or their ratings changed.
+ * The players and gameweeks to recompute are spread over the common fork/join pool.
+ */
+public class ProjectionEngine {
+    public static final double ATTACK_WEIGHT = 0.1;
+    public static final double CLEAN_SHEET_WEIGHT = 0.15;
+    public static final double RECOVERY = 0.5;
+    public static final int MATCH_MINUTES = 90;
+
+    private static final double AVERAGE_RATING = (FixtureDifficulty.MIN_RATING + FixtureDifficulty.MAX_RATING) / 2;
+
+    private FixtureDifficulty difficulty;
+    private Map<Integer, ElementData> inputs = new HashMap<>();
+    private Map<Integer, double[]> points = new HashMap<>();
+    private Projections projections;
+    private int recomputed;
+
+    /**
+     * The expected points of the players from one gameweek to the end of the season.
+     * The projections are immutable.
+     */
+    public static class Projections {
+        private final int nextGW;
+        private final int gameweeks;
+        private final Map<Integer, double[]> points;
+
+        private Projections(int nextGW, int gameweeks, Map<Integer, double[]> points) {
+            this.nextGW = nextGW;
+            this.gameweeks = gameweeks;
+            this.points = points;
+        }
+
+        /**
+         * Returns a player's expected points in a gameweek.
+         *
+         * @param playerID the ID of the player
+         * @param gameweek the gameweek
+         * @return the expected points, or 0 if the player or gameweek is not projected
+         */
+        public double getPoints(int playerID, int gameweek) {
+            double[] playerPoints = this.points.get(playerID);
+            int offset = gameweek - this.nextGW;
+            if (playerPoints == null || offset < 0 || offset >= this.gameweeks) {
+                return 0;
+            }
+            return playerPoints[offset];
+        }
+
+        /**
+         * Returns a player's expected points over a window of gameweeks.
+         *
+         * @param playerID the ID of the player
+         * @param fromGW the first gameweek of the window
+         * @param gameweeks the number of gameweeks in the window
+         * @return the sum of the expected points
+         */
+        public double getTotal(int playerID, int fromGW, int gameweeks) {
+            double total = 0;
+            for (int gameweek = fromGW; gameweek < fromGW + gameweeks; gameweek++) {
+                total += getPoints(playerID, gameweek);
+            }
+            return total;
+        }
+
+        /**
+         * Checks whether a player is projected.
+         *
+         * @param playerID the ID of the player
+         * @return true if the player is projected
+         */
+        public boolean contains(int playerID) {
+            return this.points.containsKey(playerID);
+        }
+
+        // Getters
+        public int getNextGW() { return this.nextGW; }
+        public int getGameweeks() { return this.gameweeks; }
+    }
+
+    /**
+     * Projects the players' expected points from the next gameweek of the fixture difficulty on.
+     * The last projection is returned as it is if neither the players nor the fixtures changed.
+     *
+     * @param elements the typed data of the players
+     * @param difficulty the difficulty of the remaining fixtures
+     * @return the projections
+     * @throws IllegalArgumentException if the fixture difficulty is missing
+     */
+    public synchronized Projections project(Collection<ElementData> elements, FixtureDifficulty difficulty) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Fixture difficulty is required for projections");
+        }
+        boolean sameFixtures = difficulty.equals(this.difficulty);
+        Map<Integer, ElementData> nextInputs = new HashMap<>();
+        Map<Integer, double[]> nextPoints = new HashMap<>();
+        List<ElementData> changed = new ArrayList<>();
+        for (ElementData element : elements) {
+            nextInputs.put(element.id(), element);
+            double[] cached = sameFixtures && element.equals(this.inputs.get(element.id())) ? this.points.get(element.id()) : null;
+            if (cached != null) {
+                nextPoints.put(element.id(), cached);
+            } else {
+                changed.add(element);
+            }
+        }
+        this.recomputed = changed.size();
+        if (changed.isEmpty() && this.projections != null && nextInputs.size() == this.inputs.size()) {
+            return this.projections;
+        }
+
+        int nextGW = difficulty.getNextGW();
+        int gameweeks = Math.max(FixtureIndex.GAMEWEEKS - nextGW + 1, 0);
+        double[][] computed = new double[changed.size()][gameweeks];
+        IntStream.range(0, changed.size() * gameweeks).parallel().forEach(i ->
+                computed[i / gameweeks][i % gameweeks] = projectGameweek(changed.get(i / gameweeks), difficulty, nextGW + i % gameweeks));
+        for (int i = 0; i < changed.size(); i++) {
+            nextPoints.put(changed.get(i).id(), computed[i]);
+        }
+
+        this.difficulty = difficulty;
+        this.inputs = nextInputs;
+        this.points = nextPoints;
+        this.projections = new Projections(nextGW, gameweeks, nextPoints);
+        return this.projections;
+    }
+
+    /**
+     * Projects a player's expected points in one gameweek.
+     *
+     * @param element the typed data of the player
+     * @param difficulty the difficulty of the remaining fixtures
+     * @param gameweek the gameweek, from the next gameweek of the fixture difficulty on
+     * @return the expected points, or 0 if the player has no fixture or no known position
+     */
+    public static double projectGameweek(ElementData element, FixtureDifficulty difficulty, int gameweek) {
+        return projectGameweek(element, ScoringRules.forElementType(element.elementType()), difficulty, gameweek);
+    }
+
+    /**
+     * Projects a player's expected points in one gameweek with the scoring rules of a position.
+     *
+     * @param element the typed data of the player
+     * @param rules the scoring rules of the player's position, or null if the position is unknown
+     * @param difficulty the difficulty of the remaining fixtures
+     * @param gameweek the gameweek, from the next gameweek of the fixture difficulty on
+     * @return the expected points, or 0 if the player has no fixture or no known position
+     */
+    public static double projectGameweek(ElementData element, ScoringRules rules, FixtureDifficulty difficulty, int gameweek) {
+        int fixtures = difficulty.getFixtureCount(element.team(), gameweek, 1);
+        if (rules == null || fixtures == 0) {
+            return 0;
+        }
+        double attack = 1 + ATTACK_WEIGHT * (AVERAGE_RATING - difficulty.getAttackDifficulty(element.team(), gameweek, 1));
+        double defence = 1 + CLEAN_SHEET_WEIGHT * (AVERAGE_RATING - difficulty.getDefenceDifficulty(element.team(), gameweek, 1));
+        double perFixture = ScoringRules.APPEARANCE_POINTS
+                + element.expectedGoalsPer90() * rules.getGoalPoints() * attack
+                + element.expectedAssistsPer90() * ScoringRules.ASSIST_POINTS * attack
+                + Math.min(element.cleanSheetsPer90() * defence, 1.0) * rules.getCleanSheetPoints();
+        return fixtures * perFixture * playingTime(element, difficulty.getNextGW() - 1) * availability(element, gameweek - difficulty.getNextGW());
+    }
+
+    /**
+     * Estimates the share of a match a player plays, from their minutes over the gameweeks played so far.
+     * Before the first gameweek every player is expected to play the whole match.
+     *
+     * @param element the typed data of the player
+     * @param gameweeksPlayed the number of gameweeks played so far
+     * @return the share from 0 to 1
+     */
+    static double playingTime(ElementData element, int gameweeksPlayed) {
+        if (gameweeksPlayed <= 0) {
+            return 1.0;
+        }
+        return Math.min(element.minutes() / (double) (MATCH_MINUTES * gameweeksPlayed), 1.0);
+    }
+
+    /**
+     * Estimates the chance that a player is available, from the chance of playing next round.
+     *
+     * @param element the typed data of the player
+     * @param weeksAhead the number of gameweeks after the next one
+     * @return the chance from 0 to 1
+     */
+    private static double availability(ElementData element, int weeksAhead) {
+        Integer chance = element.chanceOfPlayingNextRound();
+        if (chance == null) {
+            return 1.0;
+        }
+        return 1.0 - (1.0 - chance / 100.0) * Math.pow(RECOVERY, Math.max(weeksAhead, 0));
+    }
+
+    // Getters
+    public synchronized int getRecomputed() { return this.recomputed; }
+}
@@ -0,0 +1,38 @@
+package FPLManager.model;
+
+/**
+ * The FPL scoring rules that differ by position: the points for a goal and for a clean sheet.
+ * Every position gets the same points for playing and for an assist.
+ */
+public enum ScoringRules {
+    GOALKEEPER(6, 4),
+    DEFENDER(6, 4),
+    MIDFIELDER(5, 1),
+    FORWARD(4, 0);
+
+    public static final int APPEARANCE_POINTS = 2;
+    public static final int ASSIST_POINTS = 3;
+
+    private final int goalPoints;
+    private final int cleanSheetPoints;
+
+    ScoringRules(int goalPoints, int cleanSheetPoints) {
+        this.goalPoints = goalPoints;
+        this.cleanSheetPoints = cleanSheetPoints;
+    }
+
+    /**
+     * Returns the scoring rules of a position.
+     *
+     * @param elementType the position, from 1 (goalkeeper) to 4 (forward)
+     * @return the scoring rules, or null if the position is unknown
+     */
+    public static ScoringRules forElementType(int elementType) {
+        ScoringRules[] rules = values();
+        return elementType >= 1 && elementType <= rules.length ? rules[elementType - 1] : null;
+    }
+
+    // Getters
+    public int getGoalPoints() { return this.goalPoints; }
+    public int getCleanSheetPoints() { return this.cleanSheetPoints; }
+}
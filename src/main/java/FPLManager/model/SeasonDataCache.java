@@ -0,0 +1,328 @@
+package FPLManager.model;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * A cache of the season-wide FPL data that is identical for every manager within a gameweek:
+ * the 'events/', 'bootstrap-static/' and 'fixtures/' payloads.
+ * Cached data is evicted at the gameweek deadline computed by {@link DeadlineHandler},
+ * or when the configured time to live runs out, whichever comes first.
+ * The cache is thread safe, and concurrent lookups share a single load.
+ */
+public class SeasonDataCache {
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private static SeasonDataCache sharedCache;
+
+    private final FPLTransport transport;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ProjectionEngine projectionEngine = new ProjectionEngine();
+    private SeasonData data;
+    private CompletableFuture<SeasonData> loading;
+    private FixtureIndex fixtureIndex;
+
+    /**
+     * The season-wide data loaded at one point in time.
+     */
+    public static class SeasonData {
+        private final int nextGW;
+        private final List<Map<String, Object>> nextGWInfo;
+        private final Map<Integer, ElementData> elements;
+        private final Map<Integer, TeamData> teams;
+        private final FixtureIndex remainingFixtures;
+        private final Instant deadline;
+        private final Instant expiresAt;
+        private final ProjectionEngine projectionEngine;
+        private PlayerTable playerTable;
+        private PlayerExplorer playerExplorer;
+        private FixtureDifficulty fixtureDifficulty;
+
+        private SeasonData(int nextGW, List<Map<String, Object>> nextGWInfo, Map<Integer, ElementData> elements,
+                Map<Integer, TeamData> teams, FixtureIndex remainingFixtures, ProjectionEngine projectionEngine, Instant loadedAt, Duration ttl) {
+            this.nextGW = nextGW;
+            this.nextGWInfo = nextGWInfo;
+            this.elements = elements;
+            this.teams = teams;
+            this.remainingFixtures = remainingFixtures;
+            this.projectionEngine = projectionEngine;
+            this.deadline = new DeadlineHandler(nextGWInfo).getDeadline();
+            Instant ttlExpiry = loadedAt.plus(ttl);
+            this.expiresAt = (this.deadline != null && this.deadline.isAfter(loadedAt) && this.deadline.isBefore(ttlExpiry)) ? this.deadline : ttlExpiry;
+        }
+
+        /**
+         * Constructs a copy of loaded data with newer players and teams, which keeps the expiry of the copied data.
+         *
+         * @param previous the data to copy
+         * @param elements the new data of all players
+         * @param teams the new data of all teams
+         */
+        private SeasonData(SeasonData previous, Map<Integer, ElementData> elements, Map<Integer, TeamData> teams) {
+            this.nextGW = previous.nextGW;
+            this.nextGWInfo = previous.nextGWInfo;
+            this.elements = elements;
+            this.teams = teams;
+            this.remainingFixtures = previous.remainingFixtures;
+            this.projectionEngine = previous.projectionEngine;
+            this.deadline = previous.deadline;
+            this.expiresAt = previous.expiresAt;
+        }
+
+        /**
+         * Checks whether every payload was loaded, so the data is worth caching.
+         *
+         * @return true if the data is complete
+         */
+        private boolean isComplete() {
+            return this.nextGW != -1 && this.nextGWInfo != null && this.elements != null && this.remainingFixtures != null;
+        }
+
+        /**
+         * Returns the columnar table of all players, building it on first use.
+         *
+         * @return the player table
+         */
+        public synchronized PlayerTable getPlayerTable() {
+            if (this.playerTable == null) {
+                this.playerTable = new PlayerTable(this.elements.values());
+            }
+            return this.playerTable;
+        }
+
+        /**
+         * Returns the sort and filter index of all players, building it on first use.
+         *
+         * @return the player explorer
+         */
+        public synchronized PlayerExplorer getPlayerExplorer() {
+            if (this.playerExplorer == null) {
+                this.playerExplorer = new PlayerExplorer(getPlayerTable());
+            }
+            return this.playerExplorer;
+        }
+
+        /**
+         * Returns the difficulty ratings of the remaining fixtures, computing them on first use.
+         *
+         * @return the fixture difficulty, or null if the teams or fixtures are missing
+         */
+        public synchronized FixtureDifficulty getFixtureDifficulty() {
+            if (this.fixtureDifficulty == null && this.remainingFixtures != null && !this.teams.isEmpty()) {
+                this.fixtureDifficulty = new FixtureDifficulty(this.remainingFixtures, this.teams);
+            }
+            return this.fixtureDifficulty;
+        }
+
+        /**
+         * Returns the expected points of all players in the remaining gameweeks.
+         * The projection engine is shared by every load of the cache, so only players whose data changed since
+         * the last projection are projected again.
+         *
+         * @return the projections, or null if the teams or fixtures are missing
+         */
+        public ProjectionEngine.Projections getProjections() {
+            FixtureDifficulty difficulty = getFixtureDifficulty();
+            return difficulty != null ? this.projectionEngine.project(this.elements.values(), difficulty) : null;
+        }
+
+        // Getters
+        public int getNextGW() { return this.nextGW; }
+        public List<Map<String, Object>> getNextGWInfo() { return this.nextGWInfo; }
+        public Map<Integer, ElementData> getElements() { return this.elements; }
+        public Map<Integer, TeamData> getTeams() { return this.teams; }
+        public FixtureIndex getRemainingFixtures() { return this.remainingFixtures; }
+        public Instant getDeadline() { return this.deadline; }
+        public Instant getExpiresAt() { return this.expiresAt; }
+    }
+
+    /**
+     * Constructs a cache that loads through the given transport.
+     *
+     * @param transport the transport used for the requests
+     * @param ttl the maximum time data is kept, e.g. until the next price change window
+     */
+    public SeasonDataCache(FPLTransport transport, Duration ttl) {
+        this(transport, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a cache that loads through the given transport and tells time with the given clock.
+     *
+     * @param transport the transport used for the requests
+     * @param ttl the maximum time data is kept, e.g. until the next price change window
+     * @param clock the clock used for eviction
+     */
+    public SeasonDataCache(FPLTransport transport, Duration ttl, Clock clock) {
+        this.transport = transport;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the process-wide cache on the default transport, creating it on first use.
+     *
+     * @return the shared cache
+     */
+    public static synchronized SeasonDataCache getShared() {
+        if (sharedCache == null) {
+            sharedCache = new SeasonDataCache(FPLTransport.getDefault(), DEFAULT_TTL);
+        }
+        return sharedCache;
+    }
+
+    /**
+     * Returns the cached data, starting a load if it is missing or expired.
+     *
+     * @return a future holding the season data
+     */
+    public synchronized CompletableFuture<SeasonData> getAsync() {
+        if (this.data != null && this.clock.instant().isBefore(this.data.getExpiresAt())) {
+            return CompletableFuture.completedFuture(this.data);
+        }
+        if (this.loading == null) {
+            CompletableFuture<SeasonData> future = load();
+            this.loading = future;
+            future.whenComplete((result, e) -> loaded(future, result));
+        }
+        return this.loading;
+    }
+
+    /**
+     * Returns the cached data, loading it if it is missing or expired.
+     *
+     * @return the season data
+     * @throws IllegalStateException if the loading is interrupted or fails
+     */
+    public SeasonData get() {
+        try {
+            return getAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Loading of season data was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Loading of season data failed", e.getCause());
+        }
+    }
+
+    /**
+     * Evicts the cached data, so the next lookup loads it again.
+     * A load already in flight is dropped too, since it may have been requested before the data changed.
+     * With a disk cache on the transport, the next load revalidates the payloads with conditional requests.
+     */
+    public synchronized void invalidate() {
+        this.data = null;
+        this.loading = null;
+    }
+
+    /**
+     * Replaces the players and teams of the cached data with a newer 'bootstrap-static/' payload that was fetched elsewhere,
+     * e.g. by the {@link LivePoller}, so the next lookup sees it without requesting it again.
+     * Nothing is replaced if no data is cached, since the next lookup loads everything anyway, or if nothing changed,
+     * so the player table and projections built from the cached data are kept.
+     *
+     * @param elements the new data of all players, keyed by player ID
+     * @param teams the new data of all teams, keyed by team ID
+     * @return true if the cached data was replaced
+     */
+    public synchronized boolean update(Map<Integer, ElementData> elements, Map<Integer, TeamData> teams) {
+        if (this.data == null || (this.data.elements.equals(elements) && this.data.teams.equals(teams))) {
+            return false;
+        }
+        this.data = new SeasonData(this.data, elements, teams);
+        return true;
+    }
+
+    /**
+     * Stores the result of a finished load, unless parts of it are missing or the load was dropped by {@link #invalidate()}.
+     *
+     * @param future the finished load
+     * @param result the loaded data, or null if the load failed
+     */
+    private synchronized void loaded(CompletableFuture<SeasonData> future, SeasonData result) {
+        if (this.loading != future) {
+            return;
+        }
+        this.loading = null;
+        if (result != null && result.isComplete()) {
+            this.data = result;
+        }
+    }
+
+    /**
+     * Loads the season-wide payloads concurrently.
+     * The next gameweek's fixtures are taken from 'fixtures/' rather than requested separately.
+     *
+     * @return a future holding the loaded data
+     */
+    private CompletableFuture<SeasonData> load() {
+        Instant loadedAt = this.clock.instant();
+        CompletableFuture<List<Map<String, Object>>> events = this.transport.getJsonAsync("events/", new TypeReference<List<Map<String, Object>>>() {});
+        Map<Integer, TeamData> teams = new HashMap<>();
+        CompletableFuture<Map<Integer, ElementData>> elements = this.transport.readStreamAsync("bootstrap-static/",
+                parser -> FPLAPI.readAllElements(parser, this.transport, teams));
+        CompletableFuture<List<Map<String, Object>>> fixtures = this.transport.getJsonAsync("fixtures/", new TypeReference<List<Map<String, Object>>>() {});
+
+        return CompletableFuture.allOf(events, elements, fixtures).thenApply(ignored -> {
+            int nextGW = FPLAPI.findNextGW(events.join());
+            List<Map<String, Object>> allFixtures = fixtures.join();
+            return new SeasonData(nextGW, findGWFixtures(allFixtures, nextGW), elements.join(), teams,
+                    indexFixtures(allFixtures, nextGW), this.projectionEngine, loadedAt, this.ttl);
+        });
+    }
+
+    /**
+     * Indexes the season's fixtures. After the first load, the existing index is refreshed in place,
+     * so players built from earlier data see rescheduled fixtures too.
+     *
+     * @param allFixtures the parsed 'fixtures/' response
+     * @param nextGW the next gameweek
+     * @return the fixture index, or null if the fixtures are missing
+     */
+    private synchronized FixtureIndex indexFixtures(List<Map<String, Object>> allFixtures, int nextGW) {
+        if (allFixtures == null) {
+            return null;
+        }
+        if (this.fixtureIndex == null) {
+            this.fixtureIndex = FPLAPI.buildFixtureIndex(allFixtures, nextGW);
+        } else {
+            this.fixtureIndex.refresh(allFixtures, nextGW);
+        }
+        return this.fixtureIndex;
+    }
+
+    /**
+     * Finds the fixtures of a gameweek, ordered by kick-off like the 'fixtures/?event=' endpoint.
+     *
+     * @param allFixtures the parsed 'fixtures/' response
+     * @param gameweek the gameweek
+     * @return the fixtures of the gameweek, or null if the fixtures are missing
+     */
+    private static List<Map<String, Object>> findGWFixtures(List<Map<String, Object>> allFixtures, int gameweek) {
+        if (allFixtures == null) {
+            return null;
+        }
+        List<Map<String, Object>> gwFixtures = new ArrayList<>();
+        for (Map<String, Object> fixture : allFixtures) {
+            if (Integer.valueOf(gameweek).equals(fixture.get("event"))) {
+                gwFixtures.add(fixture);
+            }
+        }
+        gwFixtures.sort(Comparator.comparing(fixture -> (String) fixture.get("kickoff_time"), Comparator.nullsLast(Comparator.naturalOrder())));
+        return gwFixtures;
+    }
+
+    // Getters
+    public FPLTransport getTransport() { return this.transport; }
+    public Duration getTtl() { return this.ttl; }
+}
@@ -0,0 +1,120 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * An archive of recorded FPL API responses, for replaying the API without network access.
+ * The archive is a zip file with one directory per recorded gameweek, named after the next gameweek at the time
+ * of recording, e.g. "gw10/", holding the responses as they were before that gameweek's deadline.
+ * An endpoint such as "entry/3907402/event/9/picks/" is stored deflated as "gw10/entry_3907402_event_9_picks.json".
+ * The archive is thread safe, so the endpoints of a snapshot can be read concurrently.
+ */
+public class SnapshotArchive implements AutoCloseable {
+    public static final String GAMEWEEK_PREFIX = "gw";
+    public static final String EXTENSION = ".json";
+
+    private final ZipFile zipFile;
+    private final SortedSet<Integer> gameweeks = new TreeSet<>();
+
+    /**
+     * Opens a recorded archive.
+     *
+     * @param path the path of the archive
+     * @throws IOException if the archive cannot be opened
+     */
+    public SnapshotArchive(Path path) throws IOException {
+        this.zipFile = new ZipFile(path.toFile());
+        Enumeration<? extends ZipEntry> entries = this.zipFile.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            int slash = name.indexOf('/');
+            if (name.startsWith(GAMEWEEK_PREFIX) && slash > GAMEWEEK_PREFIX.length()) {
+                try {
+                    this.gameweeks.add(Integer.parseInt(name.substring(GAMEWEEK_PREFIX.length(), slash)));
+                } catch (NumberFormatException e) {
+                    System.err.println("Error: snapshot entry outside a gameweek directory skipped - " + name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes an archive of recorded responses, replacing any file at the path.
+     *
+     * @param path the path of the archive
+     * @param snapshots the recorded response bodies by gameweek, keyed by endpoint
+     * @throws IOException if the archive cannot be written
+     */
+    public static void write(Path path, Map<Integer, Map<String, byte[]>> snapshots) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (Map.Entry<Integer, Map<String, byte[]>> snapshot : snapshots.entrySet()) {
+                for (Map.Entry<String, byte[]> response : snapshot.getValue().entrySet()) {
+                    zipOutputStream.putNextEntry(new ZipEntry(entryName(snapshot.getKey(), response.getKey())));
+                    zipOutputStream.write(response.getValue());
+                    zipOutputStream.closeEntry();
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the recorded response of an endpoint.
+     *
+     * @param gameweek the recorded gameweek
+     * @param endpoint the API endpoint, e.g. "bootstrap-static/"
+     * @return the response body
+     * @throws IOException if the endpoint was not recorded for the gameweek, or cannot be read
+     */
+    public InputStream open(int gameweek, String endpoint) throws IOException {
+        ZipEntry entry = this.zipFile.getEntry(entryName(gameweek, endpoint));
+        if (entry == null) {
+            throw new IOException("Endpoint not recorded for gameweek " + gameweek + ": " + endpoint);
+        }
+        return this.zipFile.getInputStream(entry);
+    }
+
+    /**
+     * Returns the latest recorded gameweek.
+     *
+     * @return the latest gameweek
+     * @throws IllegalStateException if the archive holds no gameweeks
+     */
+    public int getLatestGameweek() {
+        if (this.gameweeks.isEmpty()) {
+            throw new IllegalStateException("Snapshot archive holds no gameweeks: " + this.zipFile.getName());
+        }
+        return this.gameweeks.last();
+    }
+
+    /**
+     * Returns the name of an endpoint's entry in the archive.
+     *
+     * @param gameweek the recorded gameweek
+     * @param endpoint the API endpoint
+     * @return the entry name
+     */
+    static String entryName(int gameweek, String endpoint) {
+        return GAMEWEEK_PREFIX + gameweek + "/" + endpoint.replaceAll("[^A-Za-z0-9-]+", "_").replaceAll("^_|_$", "") + EXTENSION;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.zipFile.close();
+    }
+
+    // Getters
+    public SortedSet<Integer> getGameweeks() { return Collections.unmodifiableSortedSet(this.gameweeks); }
+}
@@ -0,0 +1,98 @@
+package FPLManager.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The data of a manager replayed from a recorded {@link SnapshotArchive}, for running without network access.
+ * Any recorded gameweek can be replayed, which shows the manager as they were before that gameweek's deadline.
+ * The recorded responses are parsed exactly like live ones, so a replayed manager matches the recorded one.
+ */
+public class SnapshotDataRetriever implements IDataRetriever {
+    private final SnapshotArchive archive;
+    private final int gameweek;
+    private final Duration latency;
+    private final FPLAPI data;
+
+    /**
+     * Replays a manager from the latest recorded gameweek.
+     *
+     * @param archive the archive of recorded responses
+     * @param managerID the ID of the manager
+     */
+    public SnapshotDataRetriever(SnapshotArchive archive, int managerID) {
+        this(archive, managerID, archive.getLatestGameweek(), Duration.ZERO);
+    }
+
+    /**
+     * Replays a manager from a recorded gameweek.
+     *
+     * @param archive the archive of recorded responses
+     * @param managerID the ID of the manager
+     * @param gameweek the recorded gameweek to replay
+     */
+    public SnapshotDataRetriever(SnapshotArchive archive, int managerID, int gameweek) {
+        this(archive, managerID, gameweek, Duration.ZERO);
+    }
+
+    /**
+     * Replays a manager from a recorded gameweek, delaying every recorded response, e.g. to reproduce slow loads.
+     *
+     * @param archive the archive of recorded responses
+     * @param managerID the ID of the manager
+     * @param gameweek the recorded gameweek to replay
+     * @param latency the delay of every response
+     * @throws IllegalArgumentException if the gameweek was not recorded
+     * @throws IllegalStateException if the manager was not recorded for the gameweek
+     */
+    public SnapshotDataRetriever(SnapshotArchive archive, int managerID, int gameweek, Duration latency) {
+        if (!archive.getGameweeks().contains(gameweek)) {
+            throw new IllegalArgumentException("Gameweek " + gameweek + " is not recorded, recorded are " + archive.getGameweeks());
+        }
+        this.archive = archive;
+        this.gameweek = gameweek;
+        this.latency = latency;
+        this.data = new FPLAPI(managerID, new SnapshotTransport(archive, gameweek, latency));
+    }
+
+    /**
+     * Replays the same gameweek again. Recorded data never changes, so this is the same data.
+     *
+     * @return this snapshot
+     */
+    @Override
+    public SnapshotDataRetriever reload() {
+        return this;
+    }
+
+    // Getters
+    public SnapshotArchive getArchive() { return this.archive; }
+    public int getGameweek() { return this.gameweek; }
+    public Duration getLatency() { return this.latency; }
+    @Override
+    public int getManagerID() { return this.data.getManagerID(); }
+    @Override
+    public String getTeamName() { return this.data.getTeamName(); }
+    @Override
+    public ArrayList<Integer> getTeamPlayers() { return this.data.getTeamPlayers(); }
+    @Override
+    public ArrayList<Integer> getMultipliers() { return this.data.getMultipliers(); }
+    @Override
+    public int getBank() { return this.data.getBank(); }
+    @Override
+    public int getNextGW() { return this.data.getNextGW(); }
+    @Override
+    public Map<Integer, ElementData> getPlayerData() { return this.data.getPlayerData(); }
+    @Override
+    public List<Map<String, Object>> getNextGWInfo() { return this.data.getNextGWInfo(); }
+    @Override
+    public ArrayList<Integer> getTransferHistory() { return this.data.getTransferHistory(); }
+    @Override
+    public Map<String, Object> getChips() { return this.data.getChips(); }
+    @Override
+    public FixtureIndex getRemainingFixtures() { return this.data.getRemainingFixtures(); }
+    @Override
+    public FixtureDifficulty getFixtureDifficulty() { return this.data.getFixtureDifficulty(); }
+}
@@ -0,0 +1,52 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the response bodies read by an {@link FPLTransport}, so a live session can be saved as a {@link SnapshotArchive}.
+ * Attach a recorder with {@link FPLTransport#setRecorder(SnapshotRecorder)}, load the managers to record,
+ * and write the recorded bodies under the next gameweek of the session.
+ * The latest body of every endpoint is kept. The recorder is thread safe, so concurrent loads can be recorded.
+ */
+public class SnapshotRecorder {
+    private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Records the body of a response, replacing any earlier body of the endpoint.
+     *
+     * @param endpoint the API endpoint, e.g. "bootstrap-static/"
+     * @param body the response body
+     */
+    public void record(String endpoint, byte[] body) {
+        this.responses.put(endpoint, body);
+    }
+
+    /**
+     * Writes the recorded responses as one gameweek of an archive, replacing any file at the path.
+     *
+     * @param path the path of the archive
+     * @param gameweek the next gameweek at the time of recording
+     * @throws IOException if the archive cannot be written
+     * @throws IllegalStateException if nothing was recorded
+     */
+    public void write(Path path, int gameweek) throws IOException {
+        if (this.responses.isEmpty()) {
+            throw new IllegalStateException("No responses recorded for gameweek " + gameweek);
+        }
+        SnapshotArchive.write(path, Map.of(gameweek, new TreeMap<>(this.responses)));
+    }
+
+    /**
+     * Forgets every recorded response.
+     */
+    public void clear() {
+        this.responses.clear();
+    }
+
+    // Getters
+    public Map<String, byte[]> getResponses() { return Map.copyOf(this.responses); }
+}
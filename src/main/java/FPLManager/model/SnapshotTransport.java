@@ -0,0 +1,59 @@
+package FPLManager.model;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * A transport that answers requests from one gameweek of a {@link SnapshotArchive} instead of the network.
+ * Every request can be delayed by a fixed latency, to replay slow responses deterministically.
+ * Like the HTTP transport, failures are logged and read as null.
+ */
+class SnapshotTransport extends FPLTransport {
+    private final SnapshotArchive archive;
+    private final int gameweek;
+    private final Duration latency;
+
+    /**
+     * Constructs a transport over a recorded gameweek.
+     *
+     * @param archive the archive of recorded responses
+     * @param gameweek the recorded gameweek
+     * @param latency the delay of every request
+     */
+    SnapshotTransport(SnapshotArchive archive, int gameweek, Duration latency) {
+        super("snapshot:" + SnapshotArchive.GAMEWEEK_PREFIX + gameweek + "/");
+        this.archive = archive;
+        this.gameweek = gameweek;
+        this.latency = latency;
+    }
+
+    @Override
+    public <T> T readStream(String requestString, StreamReader<T> streamReader) {
+        try {
+            if (!this.latency.isZero()) {
+                Thread.sleep(this.latency);
+            }
+            try (InputStream inputStream = this.archive.open(this.gameweek, requestString);
+                 JsonParser parser = getObjectMapper().createParser(inputStream)) {
+                return streamReader.read(parser);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Interrupted snapshot request in readStream(): " + getBaseUrl() + requestString);
+            return null;
+        } catch (Exception e) {
+            System.err.println("Error with snapshot request in readStream(): " + getBaseUrl() + requestString + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads a recorded response on a virtual thread, so the reader may block while waiting for other requests.
+     */
+    @Override
+    public <T> CompletableFuture<T> readStreamAsync(String requestString, StreamReader<T> streamReader) {
+        return CompletableFuture.supplyAsync(() -> readStream(requestString, streamReader), task -> Thread.ofVirtual().start(task));
+    }
+}
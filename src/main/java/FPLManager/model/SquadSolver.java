@@ -0,0 +1,300 @@
+package FPLManager.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the squad of fifteen with the most expected points over a horizon of gameweeks, e.g. for a wildcard or free hit.
+ * The squad has {@value #GOALKEEPERS} goalkeepers, {@value #DEFENDERS} defenders, {@value #MIDFIELDERS} midfielders
+ * and {@value #FORWARDS} forwards, costs at most the budget and has at most {@value TransferOptimizer#MAX_PER_CLUB}
+ * players per club.
+ * <p>
+ * The squad is filled one slot at a time with a beam search: every partial squad is extended by the candidates of the
+ * next slot, best expected points first, and only the most promising partial squads are kept for the next slot.
+ * A partial squad is ranked by its points plus an estimate of the rest: the best player of each remaining slot's position
+ * that costs at most the remaining budget per slot. Partial squads that could not be completed even with the cheapest
+ * players are dropped. Within a position, players are picked in candidate order so every squad is built only once.
+ * <p>
+ * The search is limited by a number of expanded partial squads rather than by wall-clock time,
+ * so a limit always gives the same squad and takes about the same time on a given machine.
+ */
+public class SquadSolver {
+    public static final int GOALKEEPERS = 2;
+    public static final int DEFENDERS = 5;
+    public static final int MIDFIELDERS = 5;
+    public static final int FORWARDS = 3;
+    public static final int SQUAD_SIZE = GOALKEEPERS + DEFENDERS + MIDFIELDERS + FORWARDS;
+    public static final int DEFAULT_BUDGET = 1000;
+    public static final int DEFAULT_BEAM_WIDTH = 256;
+    public static final long DEFAULT_NODE_LIMIT = 2_000_000;
+
+    private static final int POSITIONS = 4;
+    private static final int[] SLOT_POSITIONS = slotPositions();
+
+    private final ProjectionEngine.Projections projections;
+    private final int fromGW;
+    private final int gameweeks;
+    private final Map<Integer, ElementData> pool;
+    private final ElementData[][] candidates = new ElementData[POSITIONS + 1][];
+    private final double[][] candidateValues = new double[POSITIONS + 1][];
+    private final double[][] bestValueAtCost = new double[POSITIONS + 1][];
+    private final int[] minCostFrom = new int[SQUAD_SIZE + 1];
+    private final int clubCount;
+
+    /**
+     * A squad found by the solver.
+     */
+    public static class Squad {
+        private final List<ElementData> players;
+        private final double points;
+        private final int cost;
+        private final long nodes;
+        private final boolean limitReached;
+
+        private Squad(List<ElementData> players, double points, int cost, long nodes, boolean limitReached) {
+            this.players = Collections.unmodifiableList(players);
+            this.points = points;
+            this.cost = cost;
+            this.nodes = nodes;
+            this.limitReached = limitReached;
+        }
+
+        // Getters
+        public List<ElementData> getPlayers() { return this.players; }
+        public double getPoints() { return this.points; }
+        public int getCost() { return this.cost; }
+        public long getNodes() { return this.nodes; }
+        public boolean isLimitReached() { return this.limitReached; }
+    }
+
+    /**
+     * A partial squad, with the candidate index picked for each slot filled so far.
+     */
+    private static class Node {
+        private final int[] picks;
+        private final byte[] clubs;
+        private final int cost;
+        private final double points;
+        private final double score;
+
+        private Node(int[] picks, byte[] clubs, int cost, double points, double score) {
+            this.picks = picks;
+            this.clubs = clubs;
+            this.cost = cost;
+            this.points = points;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Constructs a solver over a pool of players, valuing every player by their expected points over the horizon.
+     *
+     * @param pool the typed data of every player that can be picked, keyed by player ID
+     * @param projections the expected points of the players
+     * @param gameweeks the number of gameweeks in the horizon, starting with the next one
+     * @throws IllegalArgumentException if the horizon is empty
+     */
+    public SquadSolver(Map<Integer, ElementData> pool, ProjectionEngine.Projections projections, int gameweeks) {
+        if (gameweeks < 1) {
+            throw new IllegalArgumentException("The horizon must be at least one gameweek");
+        }
+        this.pool = pool;
+        this.projections = projections;
+        this.fromGW = projections.getNextGW();
+        this.gameweeks = gameweeks;
+
+        List<List<ElementData>> byPosition = new ArrayList<>();
+        for (int position = 0; position <= POSITIONS; position++) {
+            byPosition.add(new ArrayList<>());
+        }
+        int maxClub = 0;
+        int maxCost = 0;
+        for (ElementData element : pool.values()) {
+            if (element.elementType() >= 1 && element.elementType() <= POSITIONS) {
+                byPosition.get(element.elementType()).add(element);
+                maxClub = Math.max(maxClub, element.team());
+                maxCost = Math.max(maxCost, element.nowCost());
+            }
+        }
+        this.clubCount = maxClub + 1;
+
+        int[][] cheapest = new int[POSITIONS + 1][];
+        for (int position = 1; position <= POSITIONS; position++) {
+            List<ElementData> sorted = byPosition.get(position);
+            sorted.sort(Comparator.comparingDouble(this::value).reversed().thenComparingInt(ElementData::id));
+            this.candidates[position] = sorted.toArray(new ElementData[0]);
+            this.candidateValues[position] = sorted.stream().mapToDouble(this::value).toArray();
+            cheapest[position] = sorted.stream().mapToInt(ElementData::nowCost).sorted().toArray();
+
+            // The best value of the position at each cost and below.
+            double[] best = new double[maxCost + 1];
+            Arrays.fill(best, Double.NEGATIVE_INFINITY);
+            for (ElementData element : sorted) {
+                best[element.nowCost()] = Math.max(best[element.nowCost()], value(element));
+            }
+            for (int cost = 1; cost <= maxCost; cost++) {
+                best[cost] = Math.max(best[cost], best[cost - 1]);
+            }
+            this.bestValueAtCost[position] = best;
+        }
+
+        // The cheapest way to fill the slots from each slot on, ignoring clubs.
+        int[] remaining = new int[POSITIONS + 1];
+        for (int slot = SQUAD_SIZE - 1; slot >= 0; slot--) {
+            int position = SLOT_POSITIONS[slot];
+            int[] prices = cheapest[position];
+            int price = remaining[position] < prices.length ? prices[remaining[position]] : Integer.MAX_VALUE / (SQUAD_SIZE + 1);
+            remaining[position]++;
+            this.minCostFrom[slot] = this.minCostFrom[slot + 1] + price;
+        }
+    }
+
+    /**
+     * Builds the best squad for a manager's wildcard or free hit, with the value of their squad and bank as budget.
+     *
+     * @param manager the manager
+     * @return the squad, or null if no squad fits the budget
+     */
+    public Squad solve(Manager manager) {
+        int budget = manager.getBank();
+        for (int playerID : manager.getTeamPlayersID()) {
+            ElementData element = this.pool.get(playerID);
+            budget += element != null ? element.nowCost() : 0;
+        }
+        return solve(budget, DEFAULT_BEAM_WIDTH, DEFAULT_NODE_LIMIT);
+    }
+
+    /**
+     * Builds the best squad within a budget, with the default beam width and node limit.
+     *
+     * @param budget the budget, in tenths of a million
+     * @return the squad, or null if no squad fits the budget
+     */
+    public Squad solve(int budget) {
+        return solve(budget, DEFAULT_BEAM_WIDTH, DEFAULT_NODE_LIMIT);
+    }
+
+    /**
+     * Builds the best squad within a budget.
+     * A wider beam finds better squads and takes longer. Once the node limit is reached, every partial squad left
+     * is only extended by its best valid candidate, so the limit bounds the time without losing the result.
+     *
+     * @param budget the budget, in tenths of a million
+     * @param beamWidth the number of partial squads kept after each slot
+     * @param nodeLimit the number of partial squads that may be expanded
+     * @return the squad, or null if no squad fits the budget
+     * @throws IllegalArgumentException if the beam width or node limit is not positive
+     */
+    public Squad solve(int budget, int beamWidth, long nodeLimit) {
+        if (beamWidth < 1 || nodeLimit < 1) {
+            throw new IllegalArgumentException("Beam width and node limit must be positive");
+        }
+        List<Node> beam = new ArrayList<>();
+        beam.add(new Node(new int[0], new byte[this.clubCount], 0, 0, 0));
+        long nodes = 0;
+        boolean limitReached = false;
+
+        for (int slot = 0; slot < SQUAD_SIZE && !beam.isEmpty(); slot++) {
+            int position = SLOT_POSITIONS[slot];
+            int laterInPosition = laterSlots(slot, position);
+            long allowance = Math.max((nodeLimit - nodes) / (SQUAD_SIZE - slot), 0);
+            long perNode = Math.max(allowance / beam.size(), 1);
+
+            List<Node> children = new ArrayList<>();
+            for (Node node : beam) {
+                int start = slot > 0 && SLOT_POSITIONS[slot - 1] == position ? node.picks[slot - 1] + 1 : 0;
+                long expanded = 0;
+                for (int c = start; c < this.candidates[position].length - laterInPosition && expanded < perNode; c++) {
+                    ElementData element = this.candidates[position][c];
+                    int cost = node.cost + element.nowCost();
+                    if (node.clubs[element.team()] >= TransferOptimizer.MAX_PER_CLUB || cost + this.minCostFrom[slot + 1] > budget) {
+                        continue;
+                    }
+                    int[] picks = Arrays.copyOf(node.picks, slot + 1);
+                    picks[slot] = c;
+                    byte[] clubs = node.clubs.clone();
+                    clubs[element.team()]++;
+                    double points = node.points + this.candidateValues[position][c];
+                    children.add(new Node(picks, clubs, cost, points, points + estimate(slot + 1, budget - cost)));
+                    expanded++;
+                }
+                nodes += expanded;
+            }
+            limitReached |= nodes >= nodeLimit;
+            children.sort(Comparator.comparingDouble((Node node) -> node.score).reversed().thenComparing(node -> node.picks, Arrays::compare));
+            beam = children.size() > beamWidth ? new ArrayList<>(children.subList(0, beamWidth)) : children;
+        }
+
+        if (beam.isEmpty()) {
+            return null;
+        }
+        Node best = beam.get(0);
+        for (Node node : beam) {
+            if (node.points > best.points) {
+                best = node;
+            }
+        }
+        List<ElementData> players = new ArrayList<>();
+        for (int slot = 0; slot < SQUAD_SIZE; slot++) {
+            players.add(this.candidates[SLOT_POSITIONS[slot]][best.picks[slot]]);
+        }
+        return new Squad(players, best.points, best.cost, nodes, limitReached);
+    }
+
+    /**
+     * Estimates the points of the slots from a slot on, spreading the remaining budget evenly over them.
+     *
+     * @param slot the first slot to fill
+     * @param budget the remaining budget
+     * @return the estimated points
+     */
+    private double estimate(int slot, int budget) {
+        int slots = SQUAD_SIZE - slot;
+        if (slots == 0) {
+            return 0;
+        }
+        double estimate = 0;
+        for (int s = slot; s < SQUAD_SIZE; s++) {
+            double[] best = this.bestValueAtCost[SLOT_POSITIONS[s]];
+            double value = best[Math.min(budget / slots, best.length - 1)];
+            estimate += Double.isInfinite(value) ? 0 : value;
+        }
+        return estimate;
+    }
+
+    private static int laterSlots(int slot, int position) {
+        int count = 0;
+        for (int s = slot + 1; s < SQUAD_SIZE; s++) {
+            if (SLOT_POSITIONS[s] == position) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int[] slotPositions() {
+        int[] quotas = {0, GOALKEEPERS, DEFENDERS, MIDFIELDERS, FORWARDS};
+        int[] slots = new int[SQUAD_SIZE];
+        int slot = 0;
+        for (int position = 1; position <= POSITIONS; position++) {
+            for (int i = 0; i < quotas[position]; i++) {
+                slots[slot++] = position;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns a player's expected points over the horizon.
+     *
+     * @param element the typed data of the player
+     * @return the expected points
+     */
+    private double value(ElementData element) {
+        return this.projections.getTotal(element.id(), this.fromGW, this.gameweeks);
+    }
+}
@@ -0,0 +1,27 @@
+package FPLManager.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The typed data of one team in the 'bootstrap-static/' response, limited to the strength ratings
+ * used for fixture difficulty. The strengths are on the API's own scale, roughly 1000 to 1400.
+ *
+ * @param id the ID of the team
+ * @param name the name of the team
+ * @param shortName the three-letter name of the team
+ * @param strengthAttackHome the attacking strength at home
+ * @param strengthAttackAway the attacking strength away
+ * @param strengthDefenceHome the defensive strength at home
+ * @param strengthDefenceAway the defensive strength away
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TeamData(
+        @JsonProperty("id") int id,
+        @JsonProperty("name") String name,
+        @JsonProperty("short_name") String shortName,
+        @JsonProperty("strength_attack_home") int strengthAttackHome,
+        @JsonProperty("strength_attack_away") int strengthAttackAway,
+        @JsonProperty("strength_defence_home") int strengthDefenceHome,
+        @JsonProperty("strength_defence_away") int strengthDefenceAway) {
+}
@@ -0,0 +1,418 @@
+package FPLManager.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suggests the transfers that gain a squad the most expected points over a horizon of gameweeks.
+ * Every transfer swaps a squad player for a player of the same position, which keeps the position quotas,
+ * and a set of transfers must fit the money in the bank and keep at most {@value #MAX_PER_CLUB} players per club.
+ * Both limits apply to the squad after all the transfers, so a set may buy a player before selling the one that makes room.
+ * Transfers beyond the free ones cost {@value #HIT_COST} points each.
+ * <p>
+ * The candidates of every position are sorted by their expected points once, so the search can stop scanning
+ * a position as soon as even the best remaining swaps could not beat the best set found so far (branch and bound).
+ * The sets starting with each first transfer are searched in parallel and share the best bound.
+ * Plans whose gains tie are ranked by the IDs of the players sold and bought, so the result does not depend on the thread timing.
+ * Players are sold at their current price, as the purchase prices behind the FPL selling price are not loaded.
+ */
+public class TransferOptimizer {
+    public static final int HIT_COST = 4;
+    public static final int MAX_PER_CLUB = 3;
+    public static final int MAX_TRANSFERS = 3;
+
+    private static final int POSITIONS = 4;
+    private static final double EPSILON = 1e-9;
+
+    private final Map<Integer, ElementData> pool;
+    private final ProjectionEngine.Projections projections;
+    private final int fromGW;
+    private final int gameweeks;
+    private final ElementData[][] candidates = new ElementData[POSITIONS + 1][];
+    private final double[][] candidateValues = new double[POSITIONS + 1][];
+
+    /**
+     * One player sold for another.
+     */
+    public static class Transfer {
+        private final ElementData playerOut;
+        private final ElementData playerIn;
+        private final double pointsGain;
+
+        private Transfer(ElementData playerOut, ElementData playerIn, double pointsGain) {
+            this.playerOut = playerOut;
+            this.playerIn = playerIn;
+            this.pointsGain = pointsGain;
+        }
+
+        // Getters
+        public ElementData getPlayerOut() { return this.playerOut; }
+        public ElementData getPlayerIn() { return this.playerIn; }
+        public double getPointsGain() { return this.pointsGain; }
+    }
+
+    /**
+     * A set of transfers made before the same deadline.
+     */
+    public static class TransferPlan {
+        private final List<Transfer> transfers;
+        private final double pointsGain;
+        private final int hitCost;
+        private final int bank;
+
+        private TransferPlan(List<Transfer> transfers, double pointsGain, int hitCost, int bank) {
+            this.transfers = Collections.unmodifiableList(transfers);
+            this.pointsGain = pointsGain;
+            this.hitCost = hitCost;
+            this.bank = bank;
+        }
+
+        /**
+         * Returns the expected points gained after paying for the transfers beyond the free ones.
+         *
+         * @return the net gain
+         */
+        public double getNetGain() { return this.pointsGain - this.hitCost; }
+
+        // Getters
+        public List<Transfer> getTransfers() { return this.transfers; }
+        public double getPointsGain() { return this.pointsGain; }
+        public int getHitCost() { return this.hitCost; }
+        public int getBank() { return this.bank; }
+    }
+
+    /**
+     * Constructs an optimizer over a pool of players, valuing every player by their expected points over the horizon.
+     *
+     * @param pool the typed data of every player that can be bought, keyed by player ID
+     * @param projections the expected points of the players
+     * @param gameweeks the number of gameweeks in the horizon, starting with the next one
+     * @throws IllegalArgumentException if the horizon is empty
+     */
+    public TransferOptimizer(Map<Integer, ElementData> pool, ProjectionEngine.Projections projections, int gameweeks) {
+        if (gameweeks < 1) {
+            throw new IllegalArgumentException("The horizon must be at least one gameweek");
+        }
+        this.pool = pool;
+        this.projections = projections;
+        this.fromGW = projections.getNextGW();
+        this.gameweeks = gameweeks;
+
+        List<List<ElementData>> byPosition = new ArrayList<>();
+        for (int position = 0; position <= POSITIONS; position++) {
+            byPosition.add(new ArrayList<>());
+        }
+        for (ElementData element : pool.values()) {
+            if (element.elementType() >= 1 && element.elementType() <= POSITIONS) {
+                byPosition.get(element.elementType()).add(element);
+            }
+        }
+        for (int position = 0; position <= POSITIONS; position++) {
+            List<ElementData> sorted = byPosition.get(position);
+            sorted.sort(Comparator.comparingDouble(this::value).reversed().thenComparingInt(ElementData::id));
+            this.candidates[position] = sorted.toArray(new ElementData[0]);
+            this.candidateValues[position] = sorted.stream().mapToDouble(this::value).toArray();
+        }
+    }
+
+    /**
+     * Finds the best transfers for a manager's squad, using their bank and free transfers.
+     *
+     * @param manager the manager
+     * @param maxTransfers the largest number of transfers to consider, from 1 to {@value #MAX_TRANSFERS}
+     * @return the best plan for every number of transfers, best net gain first
+     */
+    public List<TransferPlan> optimize(Manager manager, int maxTransfers) {
+        return optimize(manager.getTeamPlayersID(), manager.getBank(), manager.getAvailableTransfers(), maxTransfers);
+    }
+
+    /**
+     * Finds the best transfers for a squad.
+     * Picks outside the four squad positions, such as an assistant manager, are never sold.
+     *
+     * @param squad the IDs of the squad's players
+     * @param bank the money in the bank, in tenths of a million
+     * @param freeTransfers the number of free transfers
+     * @param maxTransfers the largest number of transfers to consider, from 1 to {@value #MAX_TRANSFERS}
+     * @return the best plan for every number of transfers that has a valid plan, best net gain first
+     * @throws IllegalArgumentException if the number of transfers is out of range or a squad player is not in the pool
+     */
+    public List<TransferPlan> optimize(List<Integer> squad, int bank, int freeTransfers, int maxTransfers) {
+        if (maxTransfers < 1 || maxTransfers > MAX_TRANSFERS) {
+            throw new IllegalArgumentException("Transfers must be between 1 and " + MAX_TRANSFERS + ": " + maxTransfers);
+        }
+        List<ElementData> players = new ArrayList<>();
+        for (Integer id : squad) {
+            ElementData player = this.pool.get(id);
+            if (player == null) {
+                throw new IllegalArgumentException("Squad player " + id + " is not in the pool");
+            }
+            if (player.elementType() >= 1 && player.elementType() <= POSITIONS) {
+                players.add(player);
+            }
+        }
+        ElementData[] outs = players.toArray(new ElementData[0]);
+        List<TransferPlan> plans = new ArrayList<>();
+        for (int transfers = 1; transfers <= Math.min(maxTransfers, outs.length); transfers++) {
+            TransferPlan plan = new Search(outs, bank, transfers, HIT_COST * Math.max(transfers - freeTransfers, 0)).run();
+            if (plan != null) {
+                plans.add(plan);
+            }
+        }
+        plans.sort(Comparator.comparingDouble(TransferPlan::getNetGain).reversed());
+        return plans;
+    }
+
+    /**
+     * Returns a player's expected points over the horizon.
+     *
+     * @param element the typed data of the player
+     * @return the expected points
+     */
+    private double value(ElementData element) {
+        return this.projections.getTotal(element.id(), this.fromGW, this.gameweeks);
+    }
+
+    /**
+     * The search for the best plan with a fixed number of transfers.
+     */
+    private class Search {
+        private final ElementData[] outs;
+        private final double[] outValues;
+        private final int bank;
+        private final int transfers;
+        private final int hitCost;
+        private final Set<Integer> owned = new HashSet<>();
+        private final int[] clubs;
+        private final int overflow;
+        private final double[] bestSwap;
+        private final int[] maxSell;
+        private volatile double bestGain = Double.NEGATIVE_INFINITY;
+        private TransferPlan best;
+
+        /**
+         * The transfers chosen so far on one branch of the search.
+         */
+        private class State {
+            private final ElementData[] playersOut = new ElementData[transfers];
+            private final ElementData[] playersIn = new ElementData[transfers];
+            private final double[] gains = new double[transfers];
+            private final int[] clubs = Search.this.clubs.clone();
+            private int overflow = Search.this.overflow;
+            private int bank = Search.this.bank;
+            private double gain;
+        }
+
+        Search(ElementData[] outs, int bank, int transfers, int hitCost) {
+            this.outs = outs;
+            this.bank = bank;
+            this.transfers = transfers;
+            this.hitCost = hitCost;
+            this.outValues = Arrays.stream(outs).mapToDouble(TransferOptimizer.this::value).toArray();
+
+            int maxClub = 0;
+            for (ElementData element : TransferOptimizer.this.pool.values()) {
+                maxClub = Math.max(maxClub, element.team());
+            }
+            this.clubs = new int[maxClub + 1];
+            int overflow = 0;
+            for (ElementData out : outs) {
+                this.owned.add(out.id());
+                if (++this.clubs[out.team()] > MAX_PER_CLUB) {
+                    overflow++;
+                }
+            }
+            this.overflow = overflow;
+
+            // The best gain of any single swap from each squad position on, and the most money freed by one sale.
+            this.bestSwap = new double[outs.length + 1];
+            this.maxSell = new int[outs.length + 1];
+            this.bestSwap[outs.length] = Double.NEGATIVE_INFINITY;
+            for (int i = outs.length - 1; i >= 0; i--) {
+                this.bestSwap[i] = Math.max(this.bestSwap[i + 1], bestCandidateValue(outs[i].elementType()) - this.outValues[i]);
+                this.maxSell[i] = Math.max(this.maxSell[i + 1], outs[i].nowCost());
+            }
+        }
+
+        /**
+         * Searches the plans starting with each first transfer in parallel.
+         *
+         * @return the best plan, or null if no plan fits the budget and club limits
+         */
+        TransferPlan run() {
+            List<int[]> firstChoices = new ArrayList<>();
+            for (int i = 0; i <= this.outs.length - this.transfers; i++) {
+                int position = this.outs[i].elementType();
+                for (int c = 0; c < candidates[position].length; c++) {
+                    firstChoices.add(new int[] {i, c});
+                }
+            }
+            firstChoices.parallelStream().forEach(choice -> {
+                State state = new State();
+                if (tryTransfer(state, 0, choice[0], choice[1])) {
+                    search(state, 1, choice[0] + 1);
+                }
+            });
+            return this.best;
+        }
+
+        /**
+         * Extends the transfers of a branch, choosing the squad players to sell in squad order so every set is searched once.
+         *
+         * @param state the transfers chosen so far
+         * @param depth the number of transfers chosen so far
+         * @param firstOut the first squad position that may be sold next
+         */
+        private void search(State state, int depth, int firstOut) {
+            if (depth == this.transfers) {
+                offer(state);
+                return;
+            }
+            int remaining = this.transfers - depth;
+            for (int i = firstOut; i <= this.outs.length - remaining; i++) {
+                if (isBeaten(state.gain + remaining * this.bestSwap[i])) {
+                    return;
+                }
+                int position = this.outs[i].elementType();
+                for (int c = 0; c < candidates[position].length; c++) {
+                    if (isBeaten(bound(state, remaining, i, c))) {
+                        break;
+                    }
+                    if (tryTransfer(state, depth, i, c)) {
+                        search(state, depth + 1, i + 1);
+                        undoTransfer(state, depth);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Bounds the gain of any plan that makes a transfer next, from the best remaining swaps.
+         */
+        private double bound(State state, int remaining, int out, int candidate) {
+            double gain = state.gain + candidateValues[this.outs[out].elementType()][candidate] - this.outValues[out];
+            return remaining > 1 ? gain + (remaining - 1) * this.bestSwap[out + 1] : gain;
+        }
+
+        /**
+         * Checks whether a branch bounded by a gain can neither beat nor tie the best plan so far.
+         */
+        private boolean isBeaten(double bound) {
+            return bound < this.bestGain - EPSILON;
+        }
+
+        /**
+         * Makes a transfer on a branch if the branch can still be valid and beat or tie the best plan.
+         * A club may go over its limit and the bank below zero for now, as long as the remaining sales can make up for it.
+         *
+         * @return true if the transfer was made
+         */
+        private boolean tryTransfer(State state, int depth, int out, int candidate) {
+            int remaining = this.transfers - depth;
+            if (isBeaten(bound(state, remaining, out, candidate))) {
+                return false;
+            }
+            ElementData playerOut = this.outs[out];
+            ElementData playerIn = candidates[playerOut.elementType()][candidate];
+            if (this.owned.contains(playerIn.id()) || isBought(state, depth, playerIn)) {
+                return false;
+            }
+            int overflowAfter = state.overflow - (state.clubs[playerOut.team()] > MAX_PER_CLUB ? 1 : 0);
+            int clubCount = state.clubs[playerIn.team()] - (playerIn.team() == playerOut.team() ? 1 : 0);
+            if (clubCount >= MAX_PER_CLUB) {
+                overflowAfter++;
+            }
+            if (overflowAfter > remaining - 1) {
+                return false;
+            }
+            int bankAfter = state.bank + playerOut.nowCost() - playerIn.nowCost();
+            if (bankAfter + (remaining - 1) * this.maxSell[out + 1] < 0) {
+                return false;
+            }
+            double gain = candidateValues[playerOut.elementType()][candidate] - this.outValues[out];
+            state.playersOut[depth] = playerOut;
+            state.playersIn[depth] = playerIn;
+            state.gains[depth] = gain;
+            state.clubs[playerOut.team()]--;
+            state.clubs[playerIn.team()]++;
+            state.overflow = overflowAfter;
+            state.bank = bankAfter;
+            state.gain += gain;
+            return true;
+        }
+
+        private void undoTransfer(State state, int depth) {
+            if (state.clubs[state.playersIn[depth].team()]-- > MAX_PER_CLUB) {
+                state.overflow--;
+            }
+            if (++state.clubs[state.playersOut[depth].team()] > MAX_PER_CLUB) {
+                state.overflow++;
+            }
+            state.bank += state.playersIn[depth].nowCost() - state.playersOut[depth].nowCost();
+            state.gain -= state.gains[depth];
+        }
+
+        private boolean isBought(State state, int depth, ElementData player) {
+            for (int i = 0; i < depth; i++) {
+                if (state.playersIn[i].id() == player.id()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Keeps a complete plan if it fits the budget and club limits and beats the best plan so far,
+         * or ties it and sells and buys players with lower IDs.
+         */
+        private synchronized void offer(State state) {
+            if (state.bank < 0 || state.overflow > 0 || state.gain < this.bestGain - EPSILON) {
+                return;
+            }
+            if (state.gain <= this.bestGain + EPSILON && comparePlayers(state, this.best) >= 0) {
+                return;
+            }
+            List<Transfer> plan = new ArrayList<>();
+            for (int i = 0; i < this.transfers; i++) {
+                plan.add(new Transfer(state.playersOut[i], state.playersIn[i], state.gains[i]));
+            }
+            this.best = new TransferPlan(plan, state.gain, this.hitCost, state.bank);
+            this.bestGain = state.gain;
+        }
+
+        /**
+         * Compares the players of a branch with those of a plan, transfer by transfer, the player sold before the player bought.
+         */
+        private int comparePlayers(State state, TransferPlan plan) {
+            for (int i = 0; i < this.transfers; i++) {
+                Transfer transfer = plan.getTransfers().get(i);
+                int compared = Integer.compare(state.playersOut[i].id(), transfer.getPlayerOut().id());
+                if (compared == 0) {
+                    compared = Integer.compare(state.playersIn[i].id(), transfer.getPlayerIn().id());
+                }
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the expected points of the best player of a position that is not in the squad.
+         */
+        private double bestCandidateValue(int position) {
+            for (int c = 0; c < candidates[position].length; c++) {
+                if (!this.owned.contains(candidates[position][c].id())) {
+                    return candidateValues[position][c];
+                }
+            }
+            return Double.NEGATIVE_INFINITY;
+        }
+    }
+}
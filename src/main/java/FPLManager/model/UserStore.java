@@ -0,0 +1,270 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.TreeMap;
+
+/**
+ * The registry of saved teams, mapping team names to FPL team IDs.
+ * The teams are kept in an append-only log of "name,id" lines in the application's data directory,
+ * which is memory-mapped and indexed once on startup, so lookups never touch the disk.
+ * A later line for the same team name replaces the earlier one, and the log is compacted
+ * when it holds more replaced lines than live ones.
+ * The store is thread safe.
+ */
+public class UserStore {
+    public static final String LOG_FILE_NAME = "users.log";
+
+    private static final char SEPARATOR = ',';
+    private static final char PREFIX_END = Character.MAX_VALUE;
+
+    private static UserStore sharedStore;
+
+    private final Path logFile;
+    private final Map<String, Integer> byName = new HashMap<>();
+    private final TreeMap<String, String> byLowerName = new TreeMap<>();
+    private int logRecords;
+
+    /**
+     * Constructs a store backed by the given log file, loading the teams saved there.
+     * A missing log is created, seeded with the teams from the bundled 'users.txt'.
+     *
+     * @param logFile the log file, or null to keep the teams in memory only
+     * @throws IOException if the log cannot be created or read
+     */
+    public UserStore(Path logFile) throws IOException {
+        this.logFile = logFile;
+        if (logFile == null) {
+            return;
+        }
+        if (Files.notExists(logFile)) {
+            Files.createDirectories(logFile.toAbsolutePath().getParent());
+            Files.createFile(logFile);
+            importBundledUsers();
+        }
+        load();
+        if (this.logRecords > 2 * this.byName.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the process-wide store in the application's data directory, opening it on first use.
+     * If the log cannot be opened, the store keeps the teams in memory only.
+     *
+     * @return the shared store
+     */
+    public static synchronized UserStore getShared() {
+        if (sharedStore == null) {
+            try {
+                sharedStore = new UserStore(DataManager.getDataDirectory().resolve(LOG_FILE_NAME));
+            } catch (IOException e) {
+                System.err.println("Error: user store could not be opened, saved teams will not persist - " + e.getMessage());
+                try {
+                    sharedStore = new UserStore(null);
+                } catch (IOException unreachable) {
+                    throw new IllegalStateException(unreachable);
+                }
+            }
+        }
+        return sharedStore;
+    }
+
+    /**
+     * Reads the log through a memory mapping and indexes every line.
+     *
+     * @throws IOException if the log cannot be read
+     */
+    private void load() throws IOException {
+        try (FileChannel channel = FileChannel.open(this.logFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int lineStart = 0;
+            int separator = -1;
+            for (int i = 0; i < buffer.limit(); i++) {
+                byte b = buffer.get(i);
+                if (b == SEPARATOR) {
+                    separator = i;
+                } else if (b == '\n') {
+                    indexLine(buffer, lineStart, separator, i);
+                    lineStart = i + 1;
+                    separator = -1;
+                }
+            }
+            if (lineStart < buffer.limit()) {
+                indexLine(buffer, lineStart, separator, buffer.limit());
+            }
+        }
+    }
+
+    /**
+     * Indexes one "name,id" line of the log. Lines that are not well formed are skipped.
+     *
+     * @param buffer the mapped log
+     * @param start the offset of the line
+     * @param separator the offset of the last separator in the line, or -1 if there is none
+     * @param end the offset of the end of the line
+     */
+    private void indexLine(ByteBuffer buffer, int start, int separator, int end) {
+        if (separator <= start) {
+            return;
+        }
+        int teamID = 0;
+        for (int i = separator + 1; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '\r' || b == ' ') {
+                continue;
+            }
+            if (b < '0' || b > '9') {
+                return;
+            }
+            teamID = teamID * 10 + (b - '0');
+        }
+        byte[] name = new byte[separator - start];
+        buffer.get(start, name);
+        index(new String(name, StandardCharsets.UTF_8).trim(), teamID);
+        this.logRecords++;
+    }
+
+    /**
+     * Copies the teams from the bundled 'users.txt', used before the store existed, into the log.
+     *
+     * @throws IOException if the log cannot be written
+     */
+    private void importBundledUsers() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/FPLManager/data/users.txt")) {
+            if (inputStream == null) {
+                return;
+            }
+            try (Scanner scanner = new Scanner(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+                 Writer writer = Files.newBufferedWriter(this.logFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+                while (scanner.hasNextLine()) {
+                    String[] parts = scanner.nextLine().split(",");
+                    if (parts.length == 2 && parts[1].trim().matches("\\d+")) {
+                        writer.write(parts[0].trim() + SEPARATOR + parts[1].trim() + "\n");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves a team, replacing any earlier team with the same name.
+     *
+     * @param teamName the name of the team
+     * @param teamID the ID of the team
+     * @throws IllegalArgumentException if the name is blank or contains a comma or a line break
+     * @throws IOException if the team cannot be written to the log
+     */
+    public synchronized void add(String teamName, int teamID) throws IOException {
+        if (teamName == null || teamName.isBlank() || teamName.indexOf(SEPARATOR) >= 0 || teamName.indexOf('\n') >= 0 || teamName.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Invalid team name: " + teamName);
+        }
+        if (teamID < 0) {
+            throw new IllegalArgumentException("Invalid team ID: " + teamID);
+        }
+        String name = teamName.trim();
+        if (this.logFile != null) {
+            Files.writeString(this.logFile, name + SEPARATOR + teamID + "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            this.logRecords++;
+        }
+        index(name, teamID);
+    }
+
+    /**
+     * Adds a team to the in-memory indexes.
+     *
+     * @param teamName the name of the team
+     * @param teamID the ID of the team
+     */
+    private void index(String teamName, int teamID) {
+        this.byName.put(teamName, teamID);
+        this.byLowerName.put(lowerKey(teamName), teamName);
+    }
+
+    /**
+     * Finds the ID of a saved team.
+     *
+     * @param teamName the exact name of the team
+     * @return the ID of the team, or -1 if not found
+     */
+    public synchronized int find(String teamName) {
+        if (teamName == null) {
+            return -1;
+        }
+        return this.byName.getOrDefault(teamName.trim(), -1);
+    }
+
+    /**
+     * Finds the saved team names starting with a prefix, ignoring case.
+     *
+     * @param prefix the start of the team name
+     * @param limit the maximum number of names returned
+     * @return the matching names, in case-insensitive alphabetical order
+     */
+    public synchronized List<String> search(String prefix, int limit) {
+        String lowerPrefix = prefix.trim().toLowerCase(Locale.ROOT);
+        List<String> names = new ArrayList<>();
+        for (String name : this.byLowerName.subMap(lowerPrefix, true, lowerPrefix + PREFIX_END, false).values()) {
+            if (names.size() == limit) {
+                break;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    /**
+     * Rewrites the log with only the live teams, dropping replaced lines.
+     * The new log is written next to the old one and moved over it atomically.
+     *
+     * @throws IOException if the log cannot be rewritten
+     */
+    public synchronized void compact() throws IOException {
+        if (this.logFile == null) {
+            return;
+        }
+        Path tempFile = Files.createTempFile(this.logFile.toAbsolutePath().getParent(), LOG_FILE_NAME, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            for (String name : this.byLowerName.values()) {
+                writer.write(name + SEPARATOR + this.byName.get(name) + "\n");
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, this.logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.logRecords = this.byName.size();
+    }
+
+    /**
+     * Builds the key of a team in the case-insensitive index.
+     * The exact name is appended, so names differing only in case are kept apart.
+     *
+     * @param teamName the name of the team
+     * @return the index key
+     */
+    private static String lowerKey(String teamName) {
+        return teamName.toLowerCase(Locale.ROOT) + '\0' + teamName;
+    }
+
+    // Getters
+    public Path getLogFile() { return this.logFile; }
+    public synchronized int size() { return this.byName.size(); }
+    public synchronized int getLogRecords() { return this.logRecords; }
+}
@@ -0,0 +1,117 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinarySnapshotTest {
+    private static final int MANAGER_ID = 3907402;
+
+    @TempDir
+    Path tempDir;
+
+    private StubFPLServer server;
+    private SeasonDataCache cache;
+    private FPLAPI api;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        cache = new SeasonDataCache(new FPLTransport(server.getBaseUrl()), Duration.ofHours(1));
+        api = new FPLAPI(MANAGER_ID, cache);
+        file = tempDir.resolve(MANAGER_ID + BinarySnapshot.FILE_EXTENSION);
+        BinarySnapshot.write(file, api, cache.get(), new DataManager().getTeams());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testSnapshotMatchesLoadedData() throws IOException {
+        BinarySnapshot snapshot = BinarySnapshot.read(file);
+
+        assertEquals(MANAGER_ID, snapshot.getManagerID());
+        assertEquals(api.getTeamName(), snapshot.getTeamName());
+        assertEquals(api.getNextGW(), snapshot.getNextGW());
+        assertEquals(api.getBank(), snapshot.getBank());
+        assertEquals(api.getTeamPlayers(), snapshot.getTeamPlayers());
+        assertEquals(api.getMultipliers(), snapshot.getMultipliers());
+        assertEquals(api.getPlayerData(), snapshot.getPlayerData());
+        assertEquals(api.getTransferHistory(), snapshot.getTransferHistory());
+        assertEquals(api.getChips(), snapshot.getChips());
+        assertEquals(cache.get().getElements(), snapshot.getPlayerPool());
+        assertEquals(cache.get().getTeams(), snapshot.getTeams());
+        assertEquals(new DataManager().getTeams(), snapshot.getClubs());
+        assertEquals(api.getRemainingFixtures(), snapshot.getRemainingFixtures());
+        assertEquals(api.getFixtureDifficulty(), snapshot.getFixtureDifficulty());
+
+        DataManager dataManager = new DataManager();
+        Manager live = new Manager(MANAGER_ID, api, dataManager);
+        Manager saved = new Manager(MANAGER_ID, snapshot, dataManager);
+        assertEquals(live.getGWDeadline(), saved.getGWDeadline());
+        assertEquals(live.getAvailableTransfers(), saved.getAvailableTransfers());
+        assertEquals(live.getChipsAvailable(), saved.getChipsAvailable());
+    }
+
+    @Test
+    void testRowLookupsReadInPlace() throws IOException {
+        BinarySnapshot snapshot = BinarySnapshot.read(file);
+
+        assertEquals(cache.get().getElements().size(), snapshot.getElementCount());
+        for (ElementData element : cache.get().getElements().values()) {
+            int row = snapshot.findElement(element.id());
+            assertEquals(element.id(), snapshot.getElementID(row));
+            assertEquals(element.elementType(), snapshot.getElementType(row));
+            assertEquals(element.team(), snapshot.getTeam(row));
+            assertEquals(element.nowCost(), snapshot.getNowCost(row));
+            assertEquals(element.expectedGoalsPer90(), snapshot.getExpectedGoalsPer90(row), 0);
+            assertEquals(element, snapshot.getElement(row));
+        }
+        assertEquals(-1, snapshot.findElement(0));
+        assertEquals(-1, snapshot.findElement(Integer.MAX_VALUE));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getNowCost(snapshot.getElementCount()));
+    }
+
+    @Test
+    void testOnlyCompleteLoadsAreSaved() throws IOException {
+        assertTrue(api.isComplete());
+        assertSame(cache.get(), api.getSeasonData());
+
+        BinarySnapshot shown = BinarySnapshot.read(file);
+        server.override("entry/" + MANAGER_ID + "/history/", "[]".getBytes(StandardCharsets.UTF_8));
+        FPLAPI partial = new FPLAPI(MANAGER_ID, cache);
+        assertFalse(partial.isComplete());
+
+        BinarySnapshot.write(file, api, api.getSeasonData(), new DataManager().getTeams());
+        assertEquals(api.getTeamPlayers(), shown.getTeamPlayers());
+        assertEquals(api.getChips(), BinarySnapshot.read(file).getChips());
+    }
+
+    @Test
+    void testUnknownVersionIsRejected() throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(4, BinarySnapshot.VERSION + 1);
+        Files.write(file, bytes);
+        assertThrows(IllegalStateException.class, () -> BinarySnapshot.read(file));
+
+        Files.write(file, new byte[] {'{', '}'});
+        assertThrows(IllegalStateException.class, () -> BinarySnapshot.read(file));
+    }
+}
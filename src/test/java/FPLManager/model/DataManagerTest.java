@@ -9,18 +9,21 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class DataManagerTest {
     private DataManager dataManager;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
-    void setUp() {
-        dataManager = new DataManager();
+    void setUp() throws IOException {
+        dataManager = new DataManager(new UserStore(tempDir.resolve(UserStore.LOG_FILE_NAME)));
     }
 
     @Test
@@ -37,7 +40,7 @@ public class DataManagerTest {
         int teamId = 123;
         dataManager.addUser(teamName, teamId);
 
-        Path usersFilePath = Paths.get("src/main/resources/FPLManager/data/users.txt");
+        Path usersFilePath = tempDir.resolve(UserStore.LOG_FILE_NAME);
         try {
             String fileContent = new String(Files.readAllBytes(usersFilePath));
             assertTrue(fileContent.contains(teamName + "," + teamId));
@@ -59,6 +62,22 @@ public class DataManagerTest {
         assertEquals(-1, notFoundId);
     }
 
+    @Test
+    void testTeamsDoNotOpenUserStore() {
+        String dataDir = System.getProperty("fplmanager.dataDir");
+        System.setProperty("fplmanager.dataDir", tempDir.resolve("data").toString());
+        try {
+            assertFalse(new DataManager().getTeams().isEmpty());
+            assertFalse(Files.exists(tempDir.resolve("data")));
+        } finally {
+            if (dataDir != null) {
+                System.setProperty("fplmanager.dataDir", dataDir);
+            } else {
+                System.clearProperty("fplmanager.dataDir");
+            }
+        }
+    }
+
     @Test
     void testGetTeams() {
         ArrayList<ArrayList<String>> teams = dataManager.getTeams();
@@ -0,0 +1,196 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EffectiveOwnershipTest {
+    private static final int ENTRIES = 230;
+    private static final int FIRST_ENTRY = 5001;
+    private static final int GAMEWEEK = 9;
+
+    private StubFPLServer server;
+    private SeasonDataCache cache;
+    private int[] elements;
+    private Map<Integer, int[]> picksByEntry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        cache = new SeasonDataCache(new FPLTransport(server.getBaseUrl()), Duration.ofHours(1));
+        elements = cache.get().getElements().keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        picksByEntry = new HashMap<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            int entry = FIRST_ENTRY + i;
+            int[] picks = new int[1 + 2 * 15];
+            StringBuilder json = new StringBuilder("{\"active_chip\":null,\"picks\":[");
+            for (int p = 0; p < 15; p++) {
+                int element = elements[(i * 3 + p * 2) % elements.length];
+                int multiplier = p >= 11 ? 0 : p == 0 ? (i % 10 == 0 ? 3 : 2) : 1;
+                picks[1 + 2 * p] = element;
+                picks[2 + 2 * p] = multiplier;
+                json.append(p > 0 ? "," : "").append("{\"element\":").append(element).append(",\"position\":").append(p + 1)
+                        .append(",\"multiplier\":").append(multiplier).append("}");
+            }
+            json.append("],\"entry_history\":{\"event\":").append(GAMEWEEK).append(",\"event_transfers_cost\":0}}");
+            picksByEntry.put(entry, picks);
+            server.override("entry/" + entry + "/event/" + GAMEWEEK + "/picks/", json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        int pages = (ENTRIES + LeagueLoader.PAGE_SIZE - 1) / LeagueLoader.PAGE_SIZE;
+        for (int page = 1; page <= pages; page++) {
+            StringBuilder json = new StringBuilder("{\"league\":{\"id\":314,\"name\":\"Overall\"},\"standings\":{\"has_next\":")
+                    .append(page < pages).append(",\"page\":").append(page).append(",\"results\":[");
+            for (int i = (page - 1) * LeagueLoader.PAGE_SIZE; i < Math.min(ENTRIES, page * LeagueLoader.PAGE_SIZE); i++) {
+                json.append(i % LeagueLoader.PAGE_SIZE > 0 ? "," : "").append("{\"entry\":").append(FIRST_ENTRY + i)
+                        .append(",\"entry_name\":\"Team ").append(i).append("\",\"rank\":").append(i + 1)
+                        .append(",\"total\":").append(900 - i).append(",\"event_total\":40}");
+            }
+            server.override("leagues-classic/" + EffectiveOwnership.OVERALL_LEAGUE_ID + "/standings/?page_standings=" + page,
+                    json.append("]}}").toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testTopSampleMatchesPicks() {
+        EffectiveOwnership.Sample sample = new EffectiveOwnership(cache, 2, 8).sampleTop(120);
+
+        assertEquals(120, sample.getEntries());
+        assertEquals(0, sample.getFailed());
+        assertEquals(1, server.getHits("leagues-classic/314/standings/?page_standings=3"));
+        assertEquals(0, server.getHits("leagues-classic/314/standings/?page_standings=4"));
+        assertEquals(0, server.getHits("entry/" + (FIRST_ENTRY + 120) + "/event/" + GAMEWEEK + "/picks/"));
+
+        Map<Integer, int[]> expected = new HashMap<>();
+        for (int i = 0; i < 120; i++) {
+            int[] picks = picksByEntry.get(FIRST_ENTRY + i);
+            for (int p = 1; p < picks.length; p += 2) {
+                int[] counts = expected.computeIfAbsent(picks[p], id -> new int[3]);
+                counts[0]++;
+                counts[1] += picks[p + 1];
+                counts[2] += picks[p + 1] >= 2 ? 1 : 0;
+            }
+        }
+        for (int element : elements) {
+            int[] counts = expected.getOrDefault(element, new int[3]);
+            assertEquals(counts[0] * 100.0 / 120, sample.getOwnership(element), 1e-9);
+            assertEquals(counts[1] * 100.0 / 120, sample.getEffectiveOwnership(element), 1e-9);
+            assertEquals(counts[2] * 100.0 / 120, sample.getCaptaincy(element), 1e-9);
+        }
+        assertEquals(0, sample.getEffectiveOwnership(Integer.MAX_VALUE), 0);
+    }
+
+    @Test
+    void testRankBandAndWorkersMatchSequentialCount() {
+        EffectiveOwnership sampler = new EffectiveOwnership(cache, 3, 5);
+        server.override("entry/" + (FIRST_ENTRY + 150) + "/event/" + GAMEWEEK + "/picks/", "[]".getBytes(StandardCharsets.UTF_8));
+        EffectiveOwnership.Sample band = sampler.sampleRankBand(EffectiveOwnership.OVERALL_LEAGUE_ID, 101, 200, GAMEWEEK);
+
+        assertEquals(0, server.getHits("leagues-classic/314/standings/?page_standings=2"));
+        assertEquals(99, band.getEntries());
+        assertEquals(1, band.getFailed());
+
+        List<int[]> picks = new ArrayList<>();
+        EffectiveOwnership.Sample sequential = new EffectiveOwnership.Sample();
+        for (int i = 100; i < 200; i++) {
+            if (i != 150) {
+                picks.add(picksByEntry.get(FIRST_ENTRY + i));
+                sequential.add(picksByEntry.get(FIRST_ENTRY + i));
+            }
+        }
+        EffectiveOwnership.Sample parallel = EffectiveOwnership.count(picks);
+        for (int element : elements) {
+            assertEquals(sequential.getEffectiveOwnership(element), band.getEffectiveOwnership(element), 1e-9);
+            assertEquals(sequential.getEffectiveOwnership(element), parallel.getEffectiveOwnership(element), 1e-9);
+            assertEquals(sequential.getStartedCount(element), parallel.getStartedCount(element));
+        }
+        assertEquals(ENTRIES - 1, sampler.sampleLeague(EffectiveOwnership.OVERALL_LEAGUE_ID, GAMEWEEK).getEntries());
+        assertThrows(IllegalArgumentException.class, () -> sampler.sampleRankBand(EffectiveOwnership.OVERALL_LEAGUE_ID, 10, 9, GAMEWEEK));
+    }
+
+    @Test
+    void testInterruptStopsWorkers() throws InterruptedException {
+        EffectiveOwnership sampler = new EffectiveOwnership(cache, 2, 4);
+        int[] entryIDs = IntStream.range(FIRST_ENTRY, FIRST_ENTRY + ENTRIES).toArray();
+        server.setDelay(100);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread sampling = Thread.ofPlatform().start(() -> {
+            try {
+                sampler.sample(entryIDs, GAMEWEEK);
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+
+        Thread.sleep(250);
+        sampling.interrupt();
+        sampling.join(2000);
+        assertFalse(sampling.isAlive());
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertTrue(interrupted.get());
+
+        int hits = server.getTotalHits();
+        Thread.sleep(300);
+        assertEquals(hits, server.getTotalHits());
+        assertTrue(hits < ENTRIES / 4);
+    }
+
+    @Test
+    void testTemplateAndDifferentials() {
+        EffectiveOwnership.Sample sample = new EffectiveOwnership(cache).sampleTop(ENTRIES);
+        Map<Integer, ElementData> pool = cache.get().getElements();
+
+        List<ElementData> template = sample.getTemplate(pool);
+        int[] positions = new int[5];
+        for (int i = 0; i < template.size(); i++) {
+            ElementData element = template.get(i);
+            positions[element.elementType()]++;
+            if (i > 0 && template.get(i - 1).elementType() == element.elementType()) {
+                assertTrue(sample.getOwnedCount(template.get(i - 1).id()) >= sample.getOwnedCount(element.id()));
+            }
+            for (ElementData other : pool.values()) {
+                if (other.elementType() == element.elementType() && !template.contains(other)) {
+                    assertTrue(sample.getOwnedCount(other.id()) <= sample.getOwnedCount(element.id()));
+                }
+            }
+        }
+        assertTrue(positions[1] <= SquadSolver.GOALKEEPERS && positions[2] <= SquadSolver.DEFENDERS);
+        assertTrue(positions[3] <= SquadSolver.MIDFIELDERS && positions[4] <= SquadSolver.FORWARDS);
+
+        List<Integer> team = new ArrayList<>();
+        for (int element : elements) {
+            team.add(element);
+        }
+        List<Integer> differentials = sample.getDifferentials(team, 30);
+        for (int element : elements) {
+            assertEquals(sample.getEffectiveOwnership(element) <= 30, differentials.contains(element));
+        }
+        for (int i = 1; i < differentials.size(); i++) {
+            assertTrue(sample.getEffectiveOwnership(differentials.get(i - 1)) <= sample.getEffectiveOwnership(differentials.get(i)));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class FPLAPITest {
+    private static final int MANAGER_ID = 3907402;
+
+    private StubFPLServer server;
+    private FPLTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        transport = new FPLTransport(server.getBaseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testConcurrentLoadMatchesSequentialLoad() {
+        FPLAPI sequential = new FPLAPI(MANAGER_ID, transport, false);
+        FPLAPI concurrent = new FPLAPI(MANAGER_ID, transport, true);
+
+        assertEquals(10, concurrent.getNextGW());
+        assertEquals("Aibo FC", concurrent.getTeamName());
+        assertEquals(15, concurrent.getTeamPlayers().size());
+        assertEquals(15, concurrent.getPlayerData().size());
+        assertEquals(sequential.getTeamPlayers(), concurrent.getTeamPlayers());
+        assertEquals(sequential.getMultipliers(), concurrent.getMultipliers());
+        assertEquals(List.of(1, 1, 1, 1, 1, 1, 1, 1, 1, 2, 1, 0, 0, 0, 0), concurrent.getMultipliers());
+        assertEquals(sequential.getPlayerData(), concurrent.getPlayerData());
+        assertEquals(sequential.getNextGWInfo(), concurrent.getNextGWInfo());
+        assertEquals(sequential.getTransferHistory(), concurrent.getTransferHistory());
+        assertEquals(sequential.getChips(), concurrent.getChips());
+        assertEquals(sequential.getRemainingFixtures(), concurrent.getRemainingFixtures());
+    }
+
+    @Test
+    void testConcurrentLoadOverlapsRequests() {
+        server.setDelay(150);
+
+        long start = System.nanoTime();
+        new FPLAPI(MANAGER_ID, transport, false);
+        long sequentialMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        new FPLAPI(MANAGER_ID, transport, true);
+        long concurrentMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(sequentialMillis >= 8 * 150, "Sequential load took " + sequentialMillis + " ms");
+        assertTrue(concurrentMillis < sequentialMillis / 2, "Concurrent load took " + concurrentMillis + " ms");
+    }
+
+    @Test
+    void testCachedLoadReportsProgress() {
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofHours(1));
+        List<String> endpoints = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        List<Integer> playersLoaded = new ArrayList<>();
+
+        FPLAPI api = new FPLAPI(MANAGER_ID, cache, new FPLAPI.Listener() {
+            @Override
+            public synchronized void loaded(String endpoint, int loaded, int total) {
+                endpoints.add(endpoint);
+                counts.add(loaded);
+                assertEquals(FPLAPI.CACHED_ENDPOINTS, total);
+            }
+
+            @Override
+            public synchronized void playersLoaded(FPLAPI data) {
+                playersLoaded.add(Manager.createTeamPlayers(data, new DataManager()).size());
+            }
+        });
+
+        assertEquals(List.of(1, 2, 3, 4, 5), counts);
+        assertTrue(endpoints.contains(FPLAPI.SEASON_DATA));
+        assertTrue(endpoints.contains("entry/" + MANAGER_ID + "/event/9/picks/"));
+        assertTrue(endpoints.indexOf(FPLAPI.SEASON_DATA) < endpoints.indexOf("entry/" + MANAGER_ID + "/event/9/picks/"));
+        assertEquals(List.of(15), playersLoaded);
+        assertEquals("Aibo FC", api.getTeamName());
+
+        FixtureDifficulty streamed = new FPLAPI(MANAGER_ID, transport).getFixtureDifficulty();
+        assertEquals(streamed.getAttackDifficulty(1, 10, 5), api.getFixtureDifficulty().getAttackDifficulty(1, 10, 5), 1e-9);
+    }
+
+    @Test
+    void testInterruptCancelsLoad() {
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofHours(1));
+
+        Thread.currentThread().interrupt();
+        assertThrows(IllegalStateException.class, () -> new FPLAPI(MANAGER_ID, cache, (endpoint, loaded, total) -> {}));
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void testMissingPicksFailsConcurrentLoad() {
+        server.override("entry/" + MANAGER_ID + "/event/9/picks/", "[]".getBytes(StandardCharsets.UTF_8));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new FPLAPI(MANAGER_ID, transport));
+        assertEquals("Cant find team", e.getMessage());
+    }
+
+    @Test
+    void testInterruptCancelsPendingRequests() throws InterruptedException {
+        server.setDelay(300);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Thread loader = new Thread(() -> {
+            try {
+                new FPLAPI(MANAGER_ID, transport);
+            } catch (RuntimeException e) {
+                failure.set(e);
+            }
+        });
+        loader.start();
+        Thread.sleep(100);
+        loader.interrupt();
+        loader.join();
+
+        Thread.sleep(600);
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertEquals(0, server.getHits("entry/" + MANAGER_ID + "/event/9/picks/"));
+        assertEquals(0, server.getHits("fixtures/?event=10"));
+    }
+
+    @Test
+    void testStreamedPlayerDataMatchesFullParse() throws IOException {
+        FPLAPI api = new FPLAPI(MANAGER_ID, transport);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Object> bootstrap = objectMapper.readValue(StubFPLServer.readResource("bootstrap-static/"), new TypeReference<Map<String, Object>>() {});
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> elements = (List<Map<String, Object>>) bootstrap.get("elements");
+        Map<Integer, ElementData> expected = new HashMap<>();
+        for (Map<String, Object> element : elements) {
+            if (api.getTeamPlayers().contains(element.get("id"))) {
+                expected.put((Integer) element.get("id"), objectMapper.convertValue(element, ElementData.class));
+            }
+        }
+        assertEquals(expected, api.getPlayerData());
+        assertEquals("Saliba", expected.get(api.getTeamPlayers().get(2)).secondName());
+    }
+}
@@ -0,0 +1,51 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class FPLTransportTest {
+    private StubFPLServer server;
+    private FPLTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        transport = new FPLTransport(server.getBaseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testReaderIsReusedPerType() {
+        assertSame(transport.readerFor(new TypeReference<List<Map<String, Object>>>() {}),
+                transport.readerFor(new TypeReference<List<Map<String, Object>>>() {}));
+    }
+
+    @Test
+    void testGetJson() {
+        List<Map<String, Object>> events = transport.getJson("events/", new TypeReference<List<Map<String, Object>>>() {});
+        assertEquals(38, events.size());
+        Map<String, Object> entry = transport.getJsonAsync("entry/3907402/", new TypeReference<Map<String, Object>>() {}).join();
+        assertEquals("Aibo FC", entry.get("name"));
+    }
+
+    @Test
+    void testGetJsonReturnsNullForMissingEndpoint() {
+        assertNull(transport.getJson("entry/1/", new TypeReference<Map<String, Object>>() {}));
+        assertNull(transport.getJsonAsync("entry/1/", new TypeReference<Map<String, Object>>() {}).join());
+    }
+}
@@ -0,0 +1,75 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FixtureDifficultyTest {
+    private Map<Integer, TeamData> teams;
+    private FixtureIndex index;
+    private FixtureDifficulty difficulty;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StubFPLServer.RecordedSeason season = StubFPLServer.readSeason();
+        teams = season.getTeams();
+        index = season.getFixtureIndex();
+        difficulty = season.getFixtureDifficulty();
+    }
+
+    @Test
+    void testTeamsAreReadWithElements() {
+        assertEquals(20, teams.size());
+        assertEquals("ARS", teams.get(1).shortName());
+        assertTrue(teams.get(1).strengthAttackHome() > 0);
+    }
+
+    @Test
+    void testWindowsMatchSingleGameweeks() {
+        for (int team = 1; team <= index.getTeamCount(); team++) {
+            double attackSum = 0;
+            double defenceSum = 0;
+            int fixtures = 0;
+            for (int gw = 10; gw < 16; gw++) {
+                int count = difficulty.getFixtureCount(team, gw, 1);
+                assertEquals(index.getFixtureCount(team, gw), count);
+                if (count > 0) {
+                    attackSum += difficulty.getAttackDifficulty(team, gw, 1) * count;
+                    defenceSum += difficulty.getDefenceDifficulty(team, gw, 1) * count;
+                    fixtures += count;
+                }
+            }
+            assertEquals(fixtures, difficulty.getFixtureCount(team, 10, 6));
+            assertEquals(attackSum / fixtures, difficulty.getAttackDifficulty(team, 10, 6), 1e-9);
+            assertEquals(defenceSum / fixtures, difficulty.getDefenceDifficulty(team, 10, 6), 1e-9);
+        }
+    }
+
+    @Test
+    void testBlankAndDoubleGameweeks() {
+        assertEquals(0, difficulty.getFixtureCount(1, 12, 1));
+        assertTrue(Double.isNaN(difficulty.getAttackDifficulty(1, 12, 1)));
+        assertEquals(0, FixtureDifficulty.toRating(difficulty.getAttackDifficulty(1, 12, 1)));
+        assertEquals(2, difficulty.getFixtureCount(1, 14, 1));
+        assertEquals(difficulty.getFixtureCount(1, 10, 5), difficulty.getFixtureCount(1, 10, 2) + difficulty.getFixtureCount(1, 12, 3));
+    }
+
+    @Test
+    void testRatingsStayOnScale() {
+        for (int team = 1; team <= index.getTeamCount(); team++) {
+            for (int gw = 1; gw <= FixtureIndex.GAMEWEEKS; gw++) {
+                double rating = difficulty.getDifficulty(team, 3, gw, 1);
+                if (!Double.isNaN(rating)) {
+                    assertTrue(rating >= FixtureDifficulty.MIN_RATING && rating <= FixtureDifficulty.MAX_RATING, "Rating " + rating);
+                }
+            }
+        }
+        assertEquals(difficulty.getDefenceDifficulty(5, 10, 3), difficulty.getUpcomingDifficulty(5, 2, 3), 1e-9);
+        assertEquals(difficulty.getAttackDifficulty(5, 10, 3), difficulty.getUpcomingDifficulty(5, 4, 3), 1e-9);
+    }
+}
@@ -0,0 +1,104 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FixtureIndexTest {
+    private ArrayList<ArrayList<String>> teams;
+    private List<Map<String, Object>> allFixtures;
+    private FixtureIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StubFPLServer.RecordedSeason season = StubFPLServer.readSeason();
+        teams = season.getClubs();
+        allFixtures = season.getFixtures();
+        index = season.getFixtureIndex();
+    }
+
+    @Test
+    void testLabelsMatchFullScan() {
+        for (int team = 1; team <= teams.size(); team++) {
+            for (int gw = 10; gw <= FixtureIndex.GAMEWEEKS; gw++) {
+                List<String> expected = new ArrayList<>();
+                for (Map<String, Object> fixture : allFixtures) {
+                    if (Integer.valueOf(gw).equals(fixture.get("event"))) {
+                        if (fixture.get("team_h").equals(team)) {
+                            expected.add(teams.get((int) fixture.get("team_a") - 1).get(1) + "(H)");
+                        } else if (fixture.get("team_a").equals(team)) {
+                            expected.add(teams.get((int) fixture.get("team_h") - 1).get(1) + "(A)");
+                        }
+                    }
+                }
+                assertEquals(String.join(", ", expected), index.getLabel(team, gw));
+                assertEquals(expected.isEmpty() ? null : expected, index.getFixtures(team).get(gw));
+            }
+        }
+    }
+
+    @Test
+    void testBlankAndDoubleGameweek() {
+        assertEquals(0, index.getFixtureCount(1, 12));
+        assertFalse(index.getFixtures(1).containsKey(12));
+        assertEquals(2, index.getFixtureCount(1, 14));
+        assertEquals(2, index.getLabel(1, 14).split(", ").length);
+        assertFalse(index.getFixtures(1).containsKey(9));
+        assertSame(index.getFixtures(1), index.getFixtures(1));
+    }
+
+    @Test
+    void testRefreshMovesRescheduledFixture() {
+        Map<String, Object> moved = null;
+        for (Map<String, Object> fixture : allFixtures) {
+            if (Integer.valueOf(20).equals(fixture.get("event")) && (fixture.get("team_h").equals(1) || fixture.get("team_a").equals(1))) {
+                moved = fixture;
+            }
+        }
+        boolean home = moved.get("team_h").equals(1);
+        int opponent = (int) (home ? moved.get("team_a") : moved.get("team_h"));
+        int unaffected = opponent == 2 ? 3 : 2;
+        Map<Integer, List<String>> before = index.getFixtures(1);
+        Map<Integer, List<String>> unaffectedBefore = index.getFixtures(unaffected);
+
+        List<Map<String, Object>> rescheduled = new ArrayList<>(allFixtures);
+        Map<String, Object> copy = new HashMap<>(moved);
+        copy.put("event", 22);
+        rescheduled.set(rescheduled.indexOf(moved), copy);
+
+        assertEquals(1, index.refresh(rescheduled, 10));
+        assertEquals(0, index.getFixtureCount(1, 20));
+        assertEquals(0, index.getFixtureCount(opponent, 20));
+        assertEquals(2, index.getFixtureCount(1, 22));
+        assertTrue(index.getLabel(opponent, 22).contains(teams.get(0).get(1) + (home ? "(A)" : "(H)")));
+        assertNotSame(before, index.getFixtures(1));
+        assertSame(unaffectedBefore, index.getFixtures(unaffected));
+        FixtureIndex rebuilt = new FixtureIndex(rescheduled, 10, teams);
+        for (int team = 1; team <= teams.size(); team++) {
+            for (int gw = 10; gw <= FixtureIndex.GAMEWEEKS; gw++) {
+                assertEquals(rebuilt.getFixtureCount(team, gw), index.getFixtureCount(team, gw));
+            }
+        }
+
+        assertEquals(0, index.refresh(rescheduled, 10));
+    }
+
+    @Test
+    void testRefreshAdvancesNextGameweek() {
+        assertTrue(index.getFixtures(1).containsKey(10));
+        index.refresh(allFixtures, 11);
+        assertFalse(index.getFixtures(1).containsKey(10));
+        assertEquals(11, index.getNextGW());
+    }
+}
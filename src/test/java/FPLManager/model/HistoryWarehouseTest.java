@@ -0,0 +1,146 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class HistoryWarehouseTest {
+    private static final int SEASON = 2025;
+    private static final int TOTAL_MANAGERS = 1_000_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testIngestsElementSummaryHistory() throws IOException {
+        List<GameweekHistory> history;
+        int lastFinishedGW;
+        try (StubFPLServer server = new StubFPLServer()) {
+            FPLTransport transport = new FPLTransport(server.getBaseUrl());
+            history = HistoryWarehouse.fetchHistory(transport, 5);
+            lastFinishedGW = HistoryWarehouse.findLastFinishedGW(transport.getJson("events/", new TypeReference<List<Map<String, Object>>>() {}));
+        }
+        assertEquals(5, history.size());
+        assertEquals(9, lastFinishedGW);
+
+        HistoryWarehouse warehouse = new HistoryWarehouse(tempDir);
+        assertEquals(4, warehouse.ingestHistories(SEASON, List.of(history), lastFinishedGW, TOTAL_MANAGERS));
+        assertEquals(List.of(1, 2, 3, 4), new ArrayList<>(warehouse.getGameweeks(SEASON)));
+
+        double[] form = warehouse.getForm(SEASON, 4, 3);
+        assertEquals((2 + 9 + 3 + 1) / 3.0, form[5], 1e-9);
+        int[] prices = warehouse.getPriceTrajectory(SEASON, 5);
+        assertEquals(40, prices[1]);
+        assertEquals(41, prices[3]);
+        assertEquals(0, prices[5]);
+        assertEquals(13.0f - 10.0f, warehouse.getOwnershipDelta(SEASON, 1, 3)[5], 1e-4);
+        assertEquals(5000 - 2000 + 8000 - 1000, warehouse.getTransferBalance(SEASON, 1, 2)[5]);
+    }
+
+    @Test
+    void testIngestionOnlyAppendsNewGameweeks() throws IOException {
+        HistoryWarehouse warehouse = new HistoryWarehouse(tempDir);
+        assertEquals(5, warehouse.ingestHistories(SEASON, syntheticHistories(30, 5), FixtureIndex.GAMEWEEKS, TOTAL_MANAGERS));
+        Path first = tempDir.resolve(SEASON + "/gw1.col");
+        Files.setLastModifiedTime(first, FileTime.fromMillis(0));
+        double[] form = warehouse.getForm(SEASON, 5, 5);
+
+        assertEquals(2, warehouse.ingestHistories(SEASON, syntheticHistories(30, 7), FixtureIndex.GAMEWEEKS, TOTAL_MANAGERS));
+        assertEquals(0, warehouse.ingestHistories(SEASON, syntheticHistories(30, 7), FixtureIndex.GAMEWEEKS, TOTAL_MANAGERS));
+        assertEquals(0, Files.getLastModifiedTime(first).toMillis());
+        assertArrayEquals(form, warehouse.getForm(SEASON, 5, 5));
+
+        HistoryWarehouse reopened = new HistoryWarehouse(tempDir);
+        assertEquals(warehouse.getGameweeks(SEASON), reopened.getGameweeks(SEASON));
+        assertArrayEquals(warehouse.getForm(SEASON, 7, 3), reopened.getForm(SEASON, 7, 3));
+        assertArrayEquals(warehouse.getPriceTrajectory(SEASON, 12), reopened.getPriceTrajectory(SEASON, 12));
+        for (int id = 1; id <= 30; id++) {
+            assertEquals((6 * id + 7 * id) / 2.0, reopened.getForm(SEASON, 7, 2)[id], 1e-9);
+            assertEquals(40 + id + 7, reopened.getPriceTrajectory(SEASON, id)[7]);
+        }
+    }
+
+    @Test
+    void testSeasonsAndSnapshotsArePartitioned() throws IOException {
+        Map<Integer, ElementData> elements;
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        try (JsonParser parser = transport.getObjectMapper().createParser(StubFPLServer.readResource("bootstrap-static/"))) {
+            elements = FPLAPI.readAllElements(parser, transport);
+        }
+        HistoryWarehouse warehouse = new HistoryWarehouse(tempDir);
+        warehouse.ingestHistories(SEASON - 1, syntheticHistories(30, 38), FixtureIndex.GAMEWEEKS, TOTAL_MANAGERS);
+        assertFalse(warehouse.ingestSnapshot(SEASON, 10, 9, elements.values()));
+        assertTrue(warehouse.ingestSnapshot(SEASON, 9, 9, elements.values()));
+        assertFalse(warehouse.ingestSnapshot(SEASON, 9, 9, elements.values()));
+
+        assertEquals(List.of(SEASON - 1, SEASON), new ArrayList<>(warehouse.getSeasons()));
+        assertEquals(List.of(9), new ArrayList<>(warehouse.getGameweeks(SEASON)));
+        double[] form = warehouse.getForm(SEASON, 9, 5);
+        for (ElementData element : elements.values()) {
+            assertEquals(element.eventPoints(), form[element.id()], 1e-9);
+            assertEquals(element.nowCost(), warehouse.getPriceTrajectory(SEASON, element.id())[9]);
+            assertEquals(0, warehouse.getOwnershipDelta(SEASON, 9, 9)[element.id()], 0);
+        }
+        assertEquals(12 * 39 / 2.0, warehouse.getForm(SEASON - 1, 38, 38)[12], 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> warehouse.getOwnershipDelta(SEASON, 8, 9));
+        assertThrows(IllegalArgumentException.class, () -> warehouse.ingestSnapshot(SEASON, 39, 39, elements.values()));
+    }
+
+    @Test
+    void testPartialGameweeksAreCompleted() throws IOException {
+        HistoryWarehouse warehouse = new HistoryWarehouse(tempDir);
+        List<List<GameweekHistory>> partial = syntheticHistories(30, 6);
+        partial.set(6, List.of());
+        partial.get(0).remove(4);
+
+        assertEquals(5, warehouse.ingestHistories(SEASON, partial, 5, TOTAL_MANAGERS));
+        assertEquals(List.of(1, 2, 3, 4, 5), new ArrayList<>(warehouse.getGameweeks(SEASON)));
+        assertTrue(Double.isNaN(warehouse.getForm(SEASON, 5, 5)[7]));
+        assertTrue(Double.isNaN(warehouse.getForm(SEASON, 5, 1)[1]));
+
+        List<List<GameweekHistory>> complete = syntheticHistories(30, 6);
+        complete.get(0).add(new GameweekHistory(1, 5, 10, 47, 1005, 5, 1));
+        assertEquals(6, warehouse.ingestHistories(SEASON, complete, 6, TOTAL_MANAGERS));
+        assertEquals(0, warehouse.ingestHistories(SEASON, complete, 6, TOTAL_MANAGERS));
+        assertEquals(0, warehouse.ingestHistories(SEASON, partial, 6, TOTAL_MANAGERS));
+
+        HistoryWarehouse reopened = new HistoryWarehouse(tempDir);
+        for (int id = 1; id <= 30; id++) {
+            assertEquals(id * 6, reopened.getForm(SEASON, 6, 1)[id], 1e-9);
+            assertEquals(40 + id + 3, reopened.getPriceTrajectory(SEASON, id)[3]);
+        }
+        assertEquals(5 + 10, reopened.getForm(SEASON, 5, 1)[1], 1e-9);
+        assertEquals((7 + 14 + 21 + 28 + 35) / 5.0, reopened.getForm(SEASON, 5, 5)[7], 1e-9);
+    }
+
+    /**
+     * Builds the histories of players who score their ID times the gameweek and cost 4.0 plus their ID plus the gameweek.
+     */
+    private static List<List<GameweekHistory>> syntheticHistories(int players, int gameweeks) {
+        List<List<GameweekHistory>> histories = new ArrayList<>();
+        for (int id = 1; id <= players; id++) {
+            List<GameweekHistory> history = new ArrayList<>();
+            for (int gw = 1; gw <= gameweeks; gw++) {
+                history.add(new GameweekHistory(id, gw, id * gw, 40 + id + gw, 1000 * id + gw, gw, id));
+            }
+            histories.add(history);
+        }
+        return histories;
+    }
+}
@@ -0,0 +1,120 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class HttpDiskCacheTest {
+    @TempDir
+    Path cacheDirectory;
+
+    private StubFPLServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        server.setValidators(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private FPLTransport newTransport() throws IOException {
+        HttpDiskCache diskCache = new HttpDiskCache(cacheDirectory, HttpDiskCache.DEFAULT_MAX_BYTES);
+        return new FPLTransport(server.getBaseUrl(), FPLTransport.DEFAULT_CONNECT_TIMEOUT, FPLTransport.DEFAULT_REQUEST_TIMEOUT, diskCache);
+    }
+
+    @Test
+    void testUnchangedResponseIsRevalidated() throws IOException {
+        FPLTransport transport = newTransport();
+        List<Map<String, Object>> first = transport.getJson("fixtures/", new TypeReference<List<Map<String, Object>>>() {});
+        List<Map<String, Object>> second = transport.getJsonAsync("fixtures/", new TypeReference<List<Map<String, Object>>>() {}).join();
+
+        assertEquals(2, server.getHits("fixtures/"));
+        assertEquals(1, server.getNotModified());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testColdStartLoadsFromDisk() throws IOException {
+        Map<Integer, ElementData> expected = new FPLAPI(3907402, newTransport()).getPlayerData();
+
+        FPLAPI restarted = new FPLAPI(3907402, newTransport());
+        assertEquals(expected, restarted.getPlayerData());
+        assertEquals(8, server.getNotModified());
+    }
+
+    @Test
+    void testEvictedResponseIsRefetched() throws IOException {
+        FPLTransport transport = newTransport();
+        List<Map<String, Object>> first = transport.getJson("fixtures/", new TypeReference<List<Map<String, Object>>>() {});
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+
+        List<Map<String, Object>> second = transport.getJsonAsync("fixtures/", new TypeReference<List<Map<String, Object>>>() {}).join();
+        assertEquals(first, second);
+        assertEquals(3, server.getHits("fixtures/"));
+        assertEquals(1, server.getNotModified());
+
+        List<Map<String, Object>> third = transport.getJson("fixtures/", new TypeReference<List<Map<String, Object>>>() {});
+        assertEquals(first, third);
+        assertEquals(2, server.getNotModified());
+    }
+
+    @Test
+    void testChangedResponseIsRefetched() throws IOException {
+        FPLTransport transport = newTransport();
+        transport.getJson("entry/3907402/", new TypeReference<Map<String, Object>>() {});
+        server.override("entry/3907402/", "{\"name\":\"Renamed FC\"}".getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Object> entry = transport.getJson("entry/3907402/", new TypeReference<Map<String, Object>>() {});
+        assertEquals("Renamed FC", entry.get("name"));
+        assertEquals(0, server.getNotModified());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() throws IOException {
+        HttpDiskCache diskCache = new HttpDiskCache(cacheDirectory, 30);
+        store(diskCache, "a/", "0123456789");
+        store(diskCache, "b/", "0123456789");
+        store(diskCache, "c/", "0123456789");
+        diskCache.open("a/").close();
+        store(diskCache, "d/", "0123456789");
+
+        assertEquals(3, diskCache.size());
+        assertNotNull(diskCache.lookup("a/"));
+        assertNull(diskCache.lookup("b/"));
+
+        HttpDiskCache reopened = new HttpDiskCache(cacheDirectory, 30);
+        assertEquals(30, reopened.getTotalBytes());
+        assertNull(reopened.lookup("b/"));
+    }
+
+    private void store(HttpDiskCache diskCache, String endpoint, String body) throws IOException {
+        try (InputStream stored = diskCache.store(endpoint, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), "\"" + endpoint + "\"", null)) {
+            assertEquals(body, new String(stored.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
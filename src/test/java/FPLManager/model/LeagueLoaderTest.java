@@ -0,0 +1,160 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LeagueLoaderTest {
+    private static final int LEAGUE_ID = 1234;
+    private static final int ENTRIES = 120;
+    private static final int FIRST_ENTRY = 1001;
+    private static final int GAMEWEEK = 9;
+
+    private StubFPLServer server;
+    private SeasonDataCache cache;
+    private Map<Integer, int[]> picksByEntry;
+    private Map<Integer, Integer> transferCosts;
+    private int[] livePoints;
+    private int[] totals;
+    private int[] eventTotals;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        cache = new SeasonDataCache(new FPLTransport(server.getBaseUrl()), Duration.ofHours(1));
+        int[] elements = cache.get().getElements().keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        Random random = new Random(24);
+
+        livePoints = new int[elements[elements.length - 1] + 1];
+        StringBuilder live = new StringBuilder("{\"elements\":[");
+        for (int i = 0; i < elements.length; i++) {
+            livePoints[elements[i]] = random.nextInt(16) - 1;
+            live.append(i > 0 ? "," : "").append("{\"id\":").append(elements[i])
+                    .append(",\"stats\":{\"minutes\":90,\"total_points\":").append(livePoints[elements[i]]).append("},\"explain\":[]}");
+        }
+        server.override("event/" + GAMEWEEK + "/live/", live.append("]}").toString().getBytes(StandardCharsets.UTF_8));
+
+        picksByEntry = new HashMap<>();
+        transferCosts = new HashMap<>();
+        totals = new int[ENTRIES];
+        eventTotals = new int[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            int entry = FIRST_ENTRY + i;
+            totals[i] = 900 - i * 3;
+            eventTotals[i] = 40;
+            int[] picks = new int[2 * 15];
+            StringBuilder json = new StringBuilder("{\"active_chip\":null,\"picks\":[");
+            for (int p = 0; p < 15; p++) {
+                int element = elements[(i * 7 + p * 2) % elements.length];
+                int multiplier = p >= 11 ? 0 : p == 0 ? (i % 10 == 0 ? 3 : 2) : 1;
+                picks[2 * p] = element;
+                picks[2 * p + 1] = multiplier;
+                json.append(p > 0 ? "," : "").append("{\"element\":").append(element).append(",\"position\":").append(p + 1)
+                        .append(",\"multiplier\":").append(multiplier).append(",\"is_captain\":").append(p == 0).append("}");
+            }
+            int cost = i % 6 == 0 ? 4 : 0;
+            json.append("],\"entry_history\":{\"event\":").append(GAMEWEEK).append(",\"points\":40,\"event_transfers_cost\":").append(cost).append("}}");
+            picksByEntry.put(entry, picks);
+            transferCosts.put(entry, cost);
+            server.override("entry/" + entry + "/event/" + GAMEWEEK + "/picks/", json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        int pages = (ENTRIES + LeagueLoader.PAGE_SIZE - 1) / LeagueLoader.PAGE_SIZE;
+        for (int page = 1; page <= pages; page++) {
+            StringBuilder json = new StringBuilder("{\"league\":{\"id\":" + LEAGUE_ID + ",\"name\":\"Office League\"},\"standings\":{\"has_next\":")
+                    .append(page < pages).append(",\"page\":").append(page).append(",\"results\":[");
+            for (int i = (page - 1) * LeagueLoader.PAGE_SIZE; i < Math.min(ENTRIES, page * LeagueLoader.PAGE_SIZE); i++) {
+                json.append(i % LeagueLoader.PAGE_SIZE > 0 ? "," : "").append("{\"entry\":").append(FIRST_ENTRY + i)
+                        .append(",\"entry_name\":\"Team ").append(i).append("\",\"player_name\":\"Manager ").append(i)
+                        .append("\",\"rank\":").append(i + 1).append(",\"last_rank\":").append(i + 1)
+                        .append(",\"total\":").append(totals[i]).append(",\"event_total\":").append(eventTotals[i]).append("}");
+            }
+            server.override("leagues-classic/" + LEAGUE_ID + "/standings/?page_standings=" + page, json.append("]}}").toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testLiveStandingsMatchPicks() {
+        LeagueLoader.Standings standings = new LeagueLoader(cache, 2, 8).load(LEAGUE_ID);
+
+        assertEquals("Office League", standings.getLeagueName());
+        assertEquals(GAMEWEEK, standings.getGameweek());
+        assertEquals(ENTRIES, standings.getEntryCount());
+        assertEquals(ENTRIES, standings.getScored());
+        assertEquals(0, standings.getFailed());
+        assertEquals(1, server.getHits("leagues-classic/" + LEAGUE_ID + "/standings/?page_standings=4"));
+        assertEquals(0, server.getHits("leagues-classic/" + LEAGUE_ID + "/standings/?page_standings=5"));
+        assertEquals(1, server.getHits("event/" + GAMEWEEK + "/live/"));
+
+        Map<Integer, Integer> ownership = new HashMap<>();
+        for (int[] picks : picksByEntry.values()) {
+            for (int p = 0; p < picks.length; p += 2) {
+                ownership.merge(picks[p], picks[p + 1], Integer::sum);
+            }
+        }
+        for (int position = 0; position < ENTRIES; position++) {
+            int entry = standings.getEntryID(position);
+            int i = entry - FIRST_ENTRY;
+            int[] picks = picksByEntry.get(entry);
+            int expected = -transferCosts.get(entry);
+            for (int p = 0; p < picks.length; p += 2) {
+                expected += livePoints[picks[p]] * picks[p + 1];
+            }
+            assertEquals(expected, standings.getLivePoints(position));
+            assertEquals(totals[i] - eventTotals[i] + expected, standings.getLiveTotal(position));
+            assertEquals(i + 1, standings.getRank(position));
+            assertEquals(standings.getRank(position) - standings.getLiveRank(position), standings.getRankDelta(position));
+            if (position > 0) {
+                assertTrue(standings.getLiveTotal(position - 1) >= standings.getLiveTotal(position));
+                boolean tied = standings.getLiveTotal(position - 1) == standings.getLiveTotal(position);
+                assertEquals(tied ? standings.getLiveRank(position - 1) : position + 1, standings.getLiveRank(position));
+            }
+        }
+        for (Map.Entry<Integer, Integer> element : ownership.entrySet()) {
+            assertEquals(element.getValue() * 100.0 / ENTRIES, standings.getEffectiveOwnership(element.getKey()), 1e-9);
+        }
+        assertEquals(0, standings.getEffectiveOwnership(Integer.MAX_VALUE), 0);
+    }
+
+    @Test
+    void testFailedPicksKeepOfficialPoints() {
+        server.override("entry/" + (FIRST_ENTRY + 5) + "/event/" + GAMEWEEK + "/picks/", "[]".getBytes(StandardCharsets.UTF_8));
+        LeagueLoader.Standings standings = new LeagueLoader(cache).load(LEAGUE_ID, GAMEWEEK);
+
+        assertEquals(ENTRIES - 1, standings.getScored());
+        assertEquals(1, standings.getFailed());
+        List<Integer> failedPositions = new ArrayList<>();
+        for (int position = 0; position < ENTRIES; position++) {
+            if (standings.getEntryID(position) == FIRST_ENTRY + 5) {
+                failedPositions.add(position);
+                assertEquals(eventTotals[5], standings.getLivePoints(position));
+                assertEquals(totals[5], standings.getLiveTotal(position));
+            }
+        }
+        assertEquals(1, failedPositions.size());
+    }
+
+    @Test
+    void testMissingLeagueFails() {
+        assertThrows(IllegalStateException.class, () -> new LeagueLoader(cache).load(LEAGUE_ID + 1, GAMEWEEK));
+        assertThrows(IllegalArgumentException.class, () -> new LeagueLoader(cache, 0, 1));
+    }
+}
@@ -0,0 +1,119 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class LivePollerTest {
+    private static final Instant DEADLINE = Instant.parse("2025-10-15T10:00:00Z");
+
+    private StubFPLServer server;
+    private SeasonDataCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        cache = new SeasonDataCache(new FPLTransport(server.getBaseUrl()), Duration.ofDays(1), Clock.fixed(DEADLINE.minus(Duration.ofDays(2)), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private LivePoller pollerAt(Instant now) {
+        return new LivePoller(cache, Duration.ofMinutes(1), Duration.ofMinutes(15), 50_000, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testChangesArePublished() throws IOException {
+        LivePoller poller = pollerAt(DEADLINE.minus(Duration.ofDays(2)));
+        List<PlayerChangeEvent> published = new ArrayList<>();
+        poller.subscribe(published::addAll);
+        assertTrue(poller.poll().isEmpty());
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode bootstrap = mapper.readTree(StubFPLServer.readResource("bootstrap-static/"));
+        for (JsonNode element : bootstrap.get("elements")) {
+            ObjectNode node = (ObjectNode) element;
+            switch (element.get("id").asInt()) {
+                case 14 -> node.put("now_cost", element.get("now_cost").asInt() + 1);
+                case 17 -> node.put("now_cost", element.get("now_cost").asInt() - 1);
+                case 26 -> node.put("chance_of_playing_next_round", 25);
+                case 20 -> node.put("transfers_in_event", element.get("transfers_out_event").asInt() + 120_000);
+                case 23 -> node.put("event_points", element.get("event_points").asInt() + 3);
+                default -> { }
+            }
+        }
+        server.override("bootstrap-static/", mapper.writeValueAsBytes(bootstrap));
+
+        List<PlayerChangeEvent> events = poller.poll();
+        assertEquals(published, events);
+        assertEquals(4, events.size());
+        for (PlayerChangeEvent event : events) {
+            switch (event.getPlayerID()) {
+                case 14 -> assertEquals(PlayerChangeEvent.Type.PRICE_RISE, event.getType());
+                case 17 -> assertEquals(PlayerChangeEvent.Type.PRICE_FALL, event.getType());
+                case 26 -> assertEquals(25, event.getNewValue());
+                case 20 -> assertEquals(120_000, event.getNewValue());
+                default -> throw new AssertionError("Unexpected event: " + event);
+            }
+        }
+        assertTrue(poller.poll().isEmpty());
+    }
+
+    @Test
+    void testPolledPayloadReplacesCachedPlayers() throws IOException {
+        SeasonDataCache.SeasonData loaded = cache.get();
+        LivePoller poller = pollerAt(DEADLINE.minus(Duration.ofDays(2)));
+        assertTrue(poller.poll().isEmpty());
+        assertSame(loaded, cache.get());
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode bootstrap = mapper.readTree(StubFPLServer.readResource("bootstrap-static/"));
+        int eventPoints = 0;
+        for (JsonNode element : bootstrap.get("elements")) {
+            if (element.get("id").asInt() == 23) {
+                eventPoints = element.get("event_points").asInt() + 3;
+                ((ObjectNode) element).put("event_points", eventPoints);
+            }
+        }
+        server.override("bootstrap-static/", mapper.writeValueAsBytes(bootstrap));
+
+        assertTrue(poller.poll().isEmpty());
+        SeasonDataCache.SeasonData updated = cache.get();
+        assertNotSame(loaded, updated);
+        assertEquals(eventPoints, updated.getElements().get(23).eventPoints());
+        assertEquals(loaded.getNextGW(), updated.getNextGW());
+        assertEquals(loaded.getExpiresAt(), updated.getExpiresAt());
+        assertSame(loaded.getRemainingFixtures(), updated.getRemainingFixtures());
+        assertEquals(3, server.getHits("bootstrap-static/"));
+    }
+
+    @Test
+    void testIntervalAdaptsToCalendar() {
+        assertEquals(Duration.ofMinutes(15), pollerAt(Instant.parse("2025-10-13T12:00:00Z")).nextInterval());
+        assertEquals(Duration.ofMinutes(1), pollerAt(DEADLINE.minus(Duration.ofHours(1))).nextInterval());
+        assertEquals(Duration.ofMinutes(10), pollerAt(DEADLINE.minus(Duration.ofHours(3)).minus(Duration.ofMinutes(10))).nextInterval());
+        // 00:30 UTC is 01:30 in London during British Summer Time
+        assertEquals(Duration.ofMinutes(1), pollerAt(Instant.parse("2025-10-13T00:20:00Z")).nextInterval());
+        assertEquals(Duration.ofMinutes(5), pollerAt(Instant.parse("2025-10-12T23:55:00Z")).nextInterval());
+    }
+}
@@ -0,0 +1,66 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ManagerBatchLoaderTest {
+    private StubFPLServer server;
+    private SeasonDataCache cache;
+    private List<Manager> loaded;
+    private List<Integer> failed;
+    private ManagerBatchLoader.Listener listener;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        cache = new SeasonDataCache(new FPLTransport(server.getBaseUrl()), Duration.ofHours(1));
+        loaded = new CopyOnWriteArrayList<>();
+        failed = new CopyOnWriteArrayList<>();
+        listener = new ManagerBatchLoader.Listener() {
+            @Override
+            public void loaded(Manager manager) { loaded.add(manager); }
+            @Override
+            public void failed(int managerID, Exception e) { failed.add(managerID); }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testFailedManagerDoesNotAbortBatch() {
+        ManagerBatchLoader loader = new ManagerBatchLoader(cache, 4);
+        ManagerBatchLoader.BatchResult result = loader.load(List.of(3907402, 1, 3907402, 3907402), listener);
+
+        assertEquals(3, result.getLoaded());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, loaded.size());
+        assertEquals(List.of(1), failed);
+        assertEquals("Aibo FC", loaded.get(0).getName());
+        assertEquals(15, loaded.get(0).getTeamPlayers().size());
+        assertEquals(1, server.getHits("bootstrap-static/"));
+        assertTrue(result.getManagersPerSecond() > 0);
+    }
+
+    @Test
+    void testConcurrencyIsBounded() {
+        server.setDelay(20);
+        ManagerBatchLoader loader = new ManagerBatchLoader(cache, 2);
+        ManagerBatchLoader.BatchResult result = loader.load(Collections.nCopies(10, 3907402), listener);
+
+        assertEquals(10, result.getLoaded());
+        assertTrue(server.getMaxInFlight() <= 2 * 4, "Requests in flight: " + server.getMaxInFlight());
+    }
+}
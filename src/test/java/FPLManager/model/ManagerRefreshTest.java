@@ -0,0 +1,116 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ManagerRefreshTest {
+    private static final int MANAGER_ID = 3907402;
+
+    private StubFPLServer server;
+    private FPLTransport transport;
+    private DataManager dataManager;
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        transport = new FPLTransport(server.getBaseUrl());
+        dataManager = new DataManager();
+        mapper = new ObjectMapper();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private Player findPlayer(Manager manager, int playerID) {
+        return manager.getTeamPlayers().stream().filter(player -> player.getID() == playerID).findFirst().orElseThrow();
+    }
+
+    @Test
+    void testOnlyChangedPlayersAreRebuilt() throws IOException {
+        Manager manager = new Manager(MANAGER_ID, new FPLAPI(MANAGER_ID, transport), dataManager);
+        assertEquals(15, manager.getChangedPlayerIDs().size());
+
+        JsonNode bootstrap = mapper.readTree(StubFPLServer.readResource("bootstrap-static/"));
+        for (JsonNode element : bootstrap.get("elements")) {
+            if (element.get("id").asInt() == 14) {
+                ((ObjectNode) element).put("now_cost", element.get("now_cost").asInt() + 1);
+            }
+            if (element.get("id").asInt() == 26) {
+                ((ObjectNode) element).put("chance_of_playing_next_round", 25);
+            }
+        }
+        server.override("bootstrap-static/", mapper.writeValueAsBytes(bootstrap));
+
+        Manager refreshed = manager.refresh(new FPLAPI(MANAGER_ID, transport));
+        assertEquals(Set.of(14, 26), refreshed.getChangedPlayerIDs());
+        assertNotSame(findPlayer(manager, 14), findPlayer(refreshed, 14));
+        assertEquals(findPlayer(manager, 14).getPrice() + 0.1, findPlayer(refreshed, 14).getPrice(), 1e-9);
+        assertEquals(25, findPlayer(refreshed, 26).getChanceOfPlaying());
+        assertSame(findPlayer(manager, 20), findPlayer(refreshed, 20));
+        assertEquals(15, refreshed.getTeamPlayers().size());
+    }
+
+    @Test
+    void testTransferredInPlayerIsBuilt() throws IOException {
+        Manager manager = new Manager(MANAGER_ID, new FPLAPI(MANAGER_ID, transport), dataManager);
+
+        String picksEndpoint = "entry/" + MANAGER_ID + "/event/9/picks/";
+        JsonNode picks = mapper.readTree(StubFPLServer.readResource(picksEndpoint));
+        for (JsonNode pick : picks.get("picks")) {
+            if (pick.get("element").asInt() == 14) {
+                ((ObjectNode) pick).put("element", 32);
+            }
+        }
+        server.override(picksEndpoint, mapper.writeValueAsBytes(picks));
+
+        Manager refreshed = manager.refresh(new FPLAPI(MANAGER_ID, transport));
+        assertEquals(Set.of(32), refreshed.getChangedPlayerIDs());
+        assertEquals(15, refreshed.getTeamPlayers().size());
+        assertSame(findPlayer(manager, 20), findPlayer(refreshed, 20));
+    }
+
+    @Test
+    void testRefreshRevalidatesCachedSeasonData() throws IOException {
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofHours(1));
+        Manager manager = new Manager(MANAGER_ID, new FPLAPI(MANAGER_ID, cache), dataManager);
+        Player player = findPlayer(manager, 14);
+
+        overrideElement14(player.getPointsLastRound() + 3, (int) Math.round(player.getPrice() * 10) + 1);
+        Manager refreshed = manager.refresh();
+        assertEquals(player.getPointsLastRound() + 3, findPlayer(refreshed, 14).getPointsLastRound());
+        assertEquals(player.getPrice() + 0.1, findPlayer(refreshed, 14).getPrice(), 1e-9);
+
+        overrideElement14(player.getPointsLastRound() + 5, (int) Math.round(player.getPrice() * 10) + 2);
+        Manager refreshedAgain = refreshed.refresh();
+        assertEquals(Set.of(14), refreshedAgain.getChangedPlayerIDs());
+        assertEquals(player.getPointsLastRound() + 5, findPlayer(refreshedAgain, 14).getPointsLastRound());
+        assertEquals(player.getPrice() + 0.2, findPlayer(refreshedAgain, 14).getPrice(), 1e-9);
+        assertEquals(3, server.getHits("bootstrap-static/"));
+    }
+
+    private void overrideElement14(int eventPoints, int nowCost) throws IOException {
+        JsonNode bootstrap = mapper.readTree(StubFPLServer.readResource("bootstrap-static/"));
+        for (JsonNode element : bootstrap.get("elements")) {
+            if (element.get("id").asInt() == 14) {
+                ((ObjectNode) element).put("event_points", eventPoints).put("now_cost", nowCost);
+            }
+        }
+        server.override("bootstrap-static/", mapper.writeValueAsBytes(bootstrap));
+    }
+}
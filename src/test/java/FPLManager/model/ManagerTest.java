@@ -4,16 +4,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ManagerTest {
     
     private Manager manager;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
-    void setUp() {
-        manager = new Manager(3907402);
+    void setUp() throws IOException {
+        try (SnapshotArchive archive = new SnapshotArchive(StubFPLServer.writeSnapshotArchive(tempDir.resolve("snapshot.zip")))) {
+            manager = new Manager(3907402, new SnapshotDataRetriever(archive, 3907402), new DataManager());
+        }
     }
 
     @Test
@@ -0,0 +1,69 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+public class PlayerExplorerTest {
+    private Map<Integer, ElementData> elements;
+    private PlayerExplorer explorer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        try (JsonParser parser = transport.getObjectMapper().createParser(StubFPLServer.readResource("bootstrap-static/"))) {
+            elements = FPLAPI.readAllElements(parser, transport);
+        }
+        explorer = new PlayerExplorer(new PlayerTable(elements.values()));
+    }
+
+    @Test
+    void testFiltersMatchScan() {
+        BitSet mask = explorer.filter(3, 1, 50, 80);
+
+        BitSet expected = new BitSet();
+        for (ElementData element : elements.values()) {
+            if (element.elementType() == 3 && element.team() == 1 && element.nowCost() >= 50 && element.nowCost() <= 80) {
+                expected.set(element.id());
+            }
+        }
+        assertEquals(expected, mask);
+        assertEquals(elements.size(), explorer.filter(PlayerExplorer.ANY, PlayerExplorer.ANY, 0, Integer.MAX_VALUE).cardinality());
+        assertEquals(0, explorer.filter(9, PlayerExplorer.ANY, 0, Integer.MAX_VALUE).cardinality());
+    }
+
+    @Test
+    void testPagesFollowSortOrder() {
+        BitSet mask = explorer.position(4);
+        List<PlayerTable.Row> first = explorer.page(mask, PlayerExplorer.SortKey.XG_90, true, 0, 5);
+        List<PlayerTable.Row> second = explorer.page(mask, PlayerExplorer.SortKey.XG_90, true, 5, 5);
+
+        assertEquals(5, first.size());
+        assertTrue(first.get(4).getXG90() >= second.get(0).getXG90());
+        for (int i = 1; i < first.size(); i++) {
+            assertTrue(first.get(i - 1).getXG90() >= first.get(i).getXG90());
+            assertEquals(4, first.get(i).getElementType());
+        }
+
+        List<PlayerTable.Row> cheapest = explorer.page(explorer.all(), PlayerExplorer.SortKey.PRICE, false, 0, 1);
+        int minCost = elements.values().stream().mapToInt(ElementData::nowCost).min().orElseThrow();
+        assertEquals(minCost, cheapest.get(0).getNowCost());
+    }
+
+    @Test
+    void testMasksAreCopies() {
+        BitSet mask = explorer.team(1);
+        int count = mask.cardinality();
+        mask.clear();
+        assertEquals(count, explorer.team(1).cardinality());
+    }
+}
@@ -0,0 +1,88 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+public class PlayerTableTest {
+    private Map<Integer, ElementData> elements;
+    private PlayerTable table;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+        try (JsonParser parser = transport.getObjectMapper().createParser(StubFPLServer.readResource("bootstrap-static/"))) {
+            elements = FPLAPI.readAllElements(parser, transport);
+        }
+        table = new PlayerTable(elements.values());
+    }
+
+    @Test
+    void testRowsMatchElementData() {
+        assertEquals(elements.size(), table.size());
+        for (ElementData element : elements.values()) {
+            PlayerTable.Row row = table.row(element.id());
+            assertEquals(element.elementType(), row.getElementType());
+            assertEquals(element.team(), row.getTeamID());
+            assertEquals(element.nowCost(), row.getNowCost());
+            assertEquals(element.webName(), row.getWebName());
+            assertEquals((float) element.expectedGoalsPer90(), row.getXG90());
+            assertEquals(element.chanceOfPlayingNextRound(), row.toElementData().chanceOfPlayingNextRound());
+        }
+        assertFalse(table.contains(0));
+        assertFalse(table.contains(table.getMaxID() + 1));
+        assertThrows(IllegalArgumentException.class, () -> table.row(1));
+    }
+
+    @Test
+    void testSelectAndSortMatchesStreams() {
+        int maxCost = 70;
+        int[] expected = elements.values().stream()
+                .filter(element -> element.elementType() == 3 && element.nowCost() <= maxCost)
+                .sorted(Comparator.comparingDouble((ElementData element) -> -(float) element.expectedGoalsPer90())
+                        .thenComparingInt(ElementData::id))
+                .mapToInt(ElementData::id)
+                .toArray();
+        assertTrue(expected.length > 1);
+
+        int[] ids = new int[table.size()];
+        int count = table.select(3, maxCost, ids);
+        PlayerTable.sortDescending(ids, count, table.getXG90());
+
+        int[] actual = new int[count];
+        System.arraycopy(ids, 0, actual, 0, count);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testColumnsAreCopies() {
+        int id = table.getIDs()[0];
+        int[] nowCost = table.getNowCost();
+        float[] xG90 = table.getXG90();
+        nowCost[id] = -1;
+        xG90[id] = -1;
+
+        assertEquals(elements.get(id).nowCost(), table.row(id).getNowCost());
+        assertEquals(elements.get(id).nowCost(), table.getNowCost()[id]);
+        assertEquals((float) elements.get(id).expectedGoalsPer90(), table.row(id).getXG90());
+    }
+
+    @Test
+    void testRowWrapsPlayerOfMatchingPosition() {
+        int id = table.getIDs()[0];
+        Player player = table.row(id).toPlayer(10, null, new DataManager());
+        assertEquals(Player.getPosition(elements.get(id).elementType()), player.getClass().getSimpleName());
+        assertEquals(elements.get(id).nowCost() / 10.0, player.getPrice());
+    }
+}
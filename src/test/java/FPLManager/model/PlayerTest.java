@@ -7,16 +7,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class PlayerTest {
     
     private DataManager testDataManager;
     private Map<String, Object> testPlayerData;
-    private Map<Integer, List<Map<String, Object>>> testFixtureData;
+    private List<Map<String, Object>> testFixtureData;
     private Player testPlayer;
 
     @BeforeEach
@@ -32,7 +33,7 @@ public class PlayerTest {
         };
 
         testPlayerData = new HashMap<>();
-        testFixtureData = new TreeMap<>();
+        testFixtureData = new ArrayList<>();
 
         testPlayerData.put("first_name", "John");
         testPlayerData.put("second_name", "Doe");
@@ -49,14 +50,16 @@ public class PlayerTest {
         testPlayerData.put("clean_sheets_per_90", 0.2);
         testPlayerData.put("team", 1);
 
-        List<Map<String, Object>> fixturesGW38 = new ArrayList<>();
         Map<String, Object> fixture1 = new HashMap<>();
-        fixture1.put("HomeTeam", 1);
-        fixture1.put("AwayTeam", 2);
-        fixturesGW38.add(fixture1);
-        testFixtureData.put(38, fixturesGW38);
-
-        testPlayer = new Defender(1, 37, testPlayerData, testFixtureData, testDataManager) {
+        fixture1.put("id", 1);
+        fixture1.put("event", 38);
+        fixture1.put("team_h", 1);
+        fixture1.put("team_a", 2);
+        testFixtureData.add(fixture1);
+        FixtureIndex testFixtureIndex = new FixtureIndex(testFixtureData, 37, testDataManager.getTeams());
+
+        ElementData testElementData = new ObjectMapper().convertValue(testPlayerData, ElementData.class);
+        testPlayer = new Defender(1, 37, testElementData, testFixtureIndex, testDataManager) {
         };
     }
 
@@ -105,9 +108,16 @@ public class PlayerTest {
         assertEquals("Unknown", Player.getPositionFromPlayerData(new HashMap<>(), "element_type"));
     }
 
+    @Test
+    void testGetPosition() {
+        assertEquals("Goalkeeper", Player.getPosition(1));
+        assertEquals("Forward", Player.getPosition(4));
+        assertEquals("Unknown", Player.getPosition(0));
+    }
+
     @Test
     void testDummyRootPlayer() {
-        Player rootPlayer = new Player(-1, 0, new HashMap<>(), new TreeMap<>(), testDataManager) {
+        Player rootPlayer = new Player(-1, 0, null, null, testDataManager) {
         };
         assertEquals("Root", rootPlayer.getName());
         assertEquals(0, rootPlayer.getChanceOfPlaying());
@@ -0,0 +1,101 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProjectionEngineTest {
+    private Map<Integer, ElementData> elements;
+    private FixtureDifficulty difficulty;
+    private ProjectionEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StubFPLServer.RecordedSeason season = StubFPLServer.readSeason();
+        elements = season.getElements();
+        difficulty = season.getFixtureDifficulty();
+        engine = new ProjectionEngine();
+    }
+
+    @Test
+    void testSubclassesProjectWithPositionRules() {
+        DataManager dataManager = new DataManager();
+        for (ElementData element : elements.values()) {
+            Player player = Player.create(element.id(), 10, element, null, dataManager);
+            assertSame(ScoringRules.forElementType(element.elementType()), player.getScoringRules());
+            assertEquals(ProjectionEngine.projectGameweek(element, difficulty, 11), player.getExpectedPoints(difficulty, 11), 1e-12);
+        }
+        assertNull(new DummyPlayer().getScoringRules());
+        assertEquals(0, new DummyPlayer().getExpectedPoints(difficulty, 11), 0);
+        assertSame(ScoringRules.GOALKEEPER, ScoringRules.forElementType(1));
+        assertSame(ScoringRules.FORWARD, ScoringRules.forElementType(4));
+        assertNull(ScoringRules.forElementType(0));
+        assertNull(ScoringRules.forElementType(5));
+        assertEquals(6, ScoringRules.DEFENDER.getGoalPoints());
+        assertEquals(0, ScoringRules.FORWARD.getCleanSheetPoints());
+    }
+
+    @Test
+    void testProjectionsFollowFixtures() {
+        ProjectionEngine.Projections projections = engine.project(elements.values(), difficulty);
+
+        assertEquals(10, projections.getNextGW());
+        for (ElementData element : elements.values()) {
+            for (int gw = 10; gw < 16; gw++) {
+                assertEquals(ProjectionEngine.projectGameweek(element, difficulty, gw), projections.getPoints(element.id(), gw), 1e-12);
+            }
+            if (element.team() == 1 && element.chanceOfPlayingNextRound() == null) {
+                assertEquals(0, projections.getPoints(element.id(), 12));
+                assertTrue(projections.getPoints(element.id(), 14) > projections.getPoints(element.id(), 13));
+            }
+        }
+        assertEquals(0, projections.getPoints(elements.keySet().iterator().next(), 9));
+    }
+
+    @Test
+    void testOnlyChangedPlayersAreRecomputed() {
+        ProjectionEngine.Projections first = engine.project(elements.values(), difficulty);
+        assertEquals(elements.size(), engine.getRecomputed());
+        assertSame(first, engine.project(elements.values(), difficulty));
+        assertEquals(0, engine.getRecomputed());
+
+        ElementData player = elements.values().stream().filter(e -> e.chanceOfPlayingNextRound() == null).findFirst().orElseThrow();
+        elements.put(player.id(), new ElementData(player.id(), player.firstName(), player.secondName(), player.webName(),
+                player.elementType(), player.team(), player.nowCost(), player.costChangeEvent(), player.eventPoints(), 0,
+                player.pointsPerGame(), player.selectedByPercent(), player.transfersInEvent(), player.transfersOutEvent(),
+                player.expectedGoalsPer90(), player.expectedAssistsPer90(), player.cleanSheetsPer90(), player.minutes()));
+        ProjectionEngine.Projections second = engine.project(elements.values(), difficulty);
+
+        assertEquals(1, engine.getRecomputed());
+        assertEquals(0, second.getPoints(player.id(), 10));
+        assertEquals(first.getPoints(player.id(), 11) / 2, second.getPoints(player.id(), 11), 1e-9);
+    }
+
+    @Test
+    void testLowMinutesDiscountProjection() {
+        ElementData starter = elements.values().stream().filter(e -> e.elementType() == 4 && e.chanceOfPlayingNextRound() == null
+                && difficulty.getFixtureCount(e.team(), 11, 1) == 1).findFirst().orElseThrow();
+        int fullSeason = ProjectionEngine.MATCH_MINUTES * (difficulty.getNextGW() - 1);
+        ElementData regular = withMinutes(starter, 1.5, fullSeason);
+        ElementData substitute = withMinutes(starter, 1.5, fullSeason / 9);
+
+        double regularPoints = ProjectionEngine.projectGameweek(regular, difficulty, 11);
+        assertTrue(regularPoints > ScoringRules.APPEARANCE_POINTS + 1.5 * ScoringRules.FORWARD.getGoalPoints() * 0.5);
+        assertEquals(regularPoints / 9, ProjectionEngine.projectGameweek(substitute, difficulty, 11), 1e-9);
+        assertEquals(0, ProjectionEngine.projectGameweek(withMinutes(starter, 1.5, 0), difficulty, 11), 0);
+    }
+
+    private static ElementData withMinutes(ElementData element, double xG90, int minutes) {
+        return new ElementData(element.id(), element.firstName(), element.secondName(), element.webName(), element.elementType(), element.team(),
+                element.nowCost(), element.costChangeEvent(), element.eventPoints(), element.chanceOfPlayingNextRound(), element.pointsPerGame(),
+                element.selectedByPercent(), element.transfersInEvent(), element.transfersOutEvent(),
+                xG90, element.expectedAssistsPer90(), element.cleanSheetsPer90(), minutes);
+    }
+}
@@ -0,0 +1,102 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SeasonDataCacheTest {
+    private static final Instant DEADLINE = Instant.parse("2025-10-15T10:00:00Z");
+
+    private StubFPLServer server;
+    private FPLTransport transport;
+    private TestClock clock;
+
+    private static class TestClock extends Clock {
+        private Instant now;
+
+        TestClock(Instant now) { this.now = now; }
+        void advance(Duration duration) { this.now = this.now.plus(duration); }
+
+        @Override
+        public Instant instant() { return this.now; }
+        @Override
+        public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubFPLServer();
+        transport = new FPLTransport(server.getBaseUrl());
+        clock = new TestClock(DEADLINE.minus(Duration.ofDays(2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testLookupsShareSeasonData() {
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofHours(1), clock);
+        FPLAPI first = new FPLAPI(3907402, cache);
+        FPLAPI second = new FPLAPI(3907402, cache);
+
+        assertEquals(1, server.getHits("bootstrap-static/"));
+        assertEquals(1, server.getHits("fixtures/"));
+        assertEquals(1, server.getHits("events/"));
+        assertEquals(0, server.getHits("fixtures/?event=10"));
+        assertEquals(2, server.getHits("entry/3907402/"));
+
+        FPLAPI uncached = new FPLAPI(3907402, transport);
+        assertEquals(uncached.getNextGW(), first.getNextGW());
+        assertEquals(uncached.getPlayerData(), first.getPlayerData());
+        assertEquals(uncached.getNextGWInfo(), first.getNextGWInfo());
+        assertEquals(uncached.getRemainingFixtures(), first.getRemainingFixtures());
+        assertSame(first.getRemainingFixtures(), second.getRemainingFixtures());
+    }
+
+    @Test
+    void testDataExpiresAfterTtl() {
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofMinutes(30), clock);
+        cache.get();
+        clock.advance(Duration.ofMinutes(29));
+        cache.get();
+        assertEquals(1, server.getHits("bootstrap-static/"));
+
+        clock.advance(Duration.ofMinutes(2));
+        cache.get();
+        assertEquals(2, server.getHits("bootstrap-static/"));
+    }
+
+    @Test
+    void testDataExpiresAtDeadline() {
+        clock = new TestClock(DEADLINE.minus(Duration.ofHours(1)));
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofDays(1), clock);
+        assertEquals(DEADLINE, cache.get().getExpiresAt());
+
+        clock.advance(Duration.ofMinutes(61));
+        cache.get();
+        assertEquals(2, server.getHits("bootstrap-static/"));
+    }
+
+    @Test
+    void testInvalidate() {
+        SeasonDataCache cache = new SeasonDataCache(transport, Duration.ofHours(1), clock);
+        cache.get();
+        cache.invalidate();
+        cache.get();
+        assertEquals(2, server.getHits("fixtures/"));
+    }
+}
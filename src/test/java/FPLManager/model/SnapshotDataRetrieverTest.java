@@ -0,0 +1,130 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SnapshotDataRetrieverTest {
+    private static final int MANAGER_ID = 3907402;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReplayMatchesLiveLoad() throws IOException {
+        DataManager dataManager = new DataManager();
+        Manager live;
+        try (StubFPLServer server = new StubFPLServer()) {
+            live = new Manager(MANAGER_ID, new FPLAPI(MANAGER_ID, new FPLTransport(server.getBaseUrl())), dataManager);
+        }
+        try (SnapshotArchive archive = new SnapshotArchive(StubFPLServer.writeSnapshotArchive(tempDir.resolve("snapshot.zip")))) {
+            Manager replayed = new Manager(MANAGER_ID, new SnapshotDataRetriever(archive, MANAGER_ID), dataManager);
+
+            assertEquals(live.getName(), replayed.getName());
+            assertEquals(live.getNextGW(), replayed.getNextGW());
+            assertEquals(live.getTeamPlayersID(), replayed.getTeamPlayersID());
+            assertEquals(live.getBank(), replayed.getBank());
+            assertEquals(live.getAvailableTransfers(), replayed.getAvailableTransfers());
+            assertEquals(live.getFixtureDifficulty(), replayed.getFixtureDifficulty());
+
+            Manager refreshed = replayed.refresh();
+            assertTrue(refreshed.getChangedPlayerIDs().isEmpty());
+            assertSame(replayed.getTeamPlayers().get(0), refreshed.getTeamPlayers().get(0));
+        }
+    }
+
+    @Test
+    void testRecordedSessionReplays() throws IOException {
+        DataManager dataManager = new DataManager();
+        SnapshotRecorder recorder = new SnapshotRecorder();
+        Manager live;
+        FPLAPI reloaded;
+        try (StubFPLServer server = new StubFPLServer()) {
+            FPLTransport transport = new FPLTransport(server.getBaseUrl());
+            transport.setRecorder(recorder);
+            FPLAPI api = new FPLAPI(MANAGER_ID, transport, false);
+            live = new Manager(MANAGER_ID, api, dataManager);
+            transport.setRecorder(null);
+            reloaded = api.reload();
+        }
+        assertFalse(reloaded.isConcurrent());
+        assertEquals(StubFPLServer.readSnapshot().keySet(), recorder.getResponses().keySet());
+
+        Path path = tempDir.resolve("recorded.zip");
+        recorder.write(path, live.getNextGW());
+        try (SnapshotArchive archive = new SnapshotArchive(path)) {
+            Manager replayed = new Manager(MANAGER_ID, new SnapshotDataRetriever(archive, MANAGER_ID), dataManager);
+
+            assertEquals(live.getNextGW(), archive.getLatestGameweek());
+            assertEquals(live.getName(), replayed.getName());
+            assertEquals(live.getTeamPlayersID(), replayed.getTeamPlayersID());
+            assertEquals(live.getBank(), replayed.getBank());
+            assertEquals(live.getFixtureDifficulty(), replayed.getFixtureDifficulty());
+        }
+        recorder.clear();
+        assertThrows(IllegalStateException.class, () -> recorder.write(path, 10));
+    }
+
+    @Test
+    void testTimeTravelToEarlierGameweek() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Map<String, Object>> events = mapper.readValue(StubFPLServer.readResource("events/"), new TypeReference<List<Map<String, Object>>>() {});
+        for (Map<String, Object> event : events) {
+            event.put("is_next", Integer.valueOf(9).equals(event.get("id")));
+        }
+        Map<String, Object> picks = mapper.readValue(StubFPLServer.readResource("entry/3907402/event/9/picks/"), new TypeReference<Map<String, Object>>() {});
+        List<?> picksList = (List<?>) picks.get("picks");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> firstPick = (Map<String, Object>) picksList.get(0);
+        firstPick.put("element", 1);
+
+        Map<String, byte[]> earlier = new HashMap<>(StubFPLServer.readSnapshot());
+        earlier.put("events/", mapper.writeValueAsBytes(events));
+        earlier.put("entry/3907402/event/8/picks/", mapper.writeValueAsBytes(picks));
+        earlier.put("fixtures/?event=9", StubFPLServer.readResource("fixtures/?event=10"));
+        Path path = tempDir.resolve("season.zip");
+        SnapshotArchive.write(path, Map.of(9, earlier, StubFPLServer.RECORDED_GAMEWEEK, StubFPLServer.readSnapshot()));
+
+        try (SnapshotArchive archive = new SnapshotArchive(path)) {
+            assertEquals(new TreeSet<>(List.of(9, 10)), new TreeSet<>(archive.getGameweeks()));
+            assertEquals(10, archive.getLatestGameweek());
+
+            SnapshotDataRetriever past = new SnapshotDataRetriever(archive, MANAGER_ID, 9);
+            SnapshotDataRetriever latest = new SnapshotDataRetriever(archive, MANAGER_ID);
+            assertEquals(9, past.getNextGW());
+            assertEquals(10, latest.getNextGW());
+            assertEquals(1, past.getTeamPlayers().get(0).intValue());
+            assertEquals(new ArrayList<>(latest.getTeamPlayers().subList(1, 15)), new ArrayList<>(past.getTeamPlayers().subList(1, 15)));
+            assertThrows(IllegalArgumentException.class, () -> new SnapshotDataRetriever(archive, MANAGER_ID, 5));
+        }
+    }
+
+    @Test
+    void testLatencyDelaysReplay() throws IOException {
+        try (SnapshotArchive archive = new SnapshotArchive(StubFPLServer.writeSnapshotArchive(tempDir.resolve("snapshot.zip")))) {
+            long start = System.nanoTime();
+            SnapshotDataRetriever slow = new SnapshotDataRetriever(archive, MANAGER_ID, StubFPLServer.RECORDED_GAMEWEEK, Duration.ofMillis(50));
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals("Aibo FC", slow.getTeamName());
+            assertTrue(elapsed >= Duration.ofMillis(100).toNanos(), "The dependent requests wait for each other");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SquadSolverTest {
+    private static final int HORIZON = 5;
+
+    private Map<Integer, ElementData> elements;
+    private ProjectionEngine.Projections projections;
+    private SquadSolver solver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StubFPLServer.RecordedSeason season = StubFPLServer.readSeason();
+        elements = season.getElements();
+        projections = new ProjectionEngine().project(elements.values(), season.getFixtureDifficulty());
+        solver = new SquadSolver(elements, projections, HORIZON);
+    }
+
+    @Test
+    void testMatchesExhaustiveSearch() {
+        for (int budget : new int[] {1200, 1300, 2000}) {
+            SquadSolver.Squad squad = solver.solve(budget);
+            assertEquals(exhaustiveBest(budget), squad.getPoints(), 1e-9);
+            assertTrue(isValid(squad, budget));
+        }
+    }
+
+    @Test
+    void testNodeLimitIsDeterministic() {
+        SquadSolver.Squad first = solver.solve(1300, 4, 20);
+        SquadSolver.Squad second = solver.solve(1300, 4, 20);
+
+        assertTrue(first.isLimitReached());
+        assertTrue(isValid(first, 1300));
+        assertEquals(first.getPlayers(), second.getPlayers());
+        assertTrue(first.getPoints() <= solver.solve(1300).getPoints() + 1e-9);
+    }
+
+    @Test
+    void testInfeasibleBudget() {
+        int[] quotas = {0, SquadSolver.GOALKEEPERS, SquadSolver.DEFENDERS, SquadSolver.MIDFIELDERS, SquadSolver.FORWARDS};
+        int cheapest = 0;
+        for (int position = 1; position <= 4; position++) {
+            int type = position;
+            cheapest += elements.values().stream().filter(e -> e.elementType() == type).mapToInt(ElementData::nowCost).sorted().limit(quotas[position]).sum();
+        }
+        assertTrue(isValid(solver.solve(cheapest), cheapest));
+        assertNull(solver.solve(cheapest - 1));
+    }
+
+    private boolean isValid(SquadSolver.Squad squad, int budget) {
+        int[] positions = new int[5];
+        Map<Integer, Integer> clubs = new HashMap<>();
+        for (ElementData player : squad.getPlayers()) {
+            positions[player.elementType()]++;
+            clubs.merge(player.team(), 1, Integer::sum);
+        }
+        return squad.getPlayers().stream().distinct().count() == SquadSolver.SQUAD_SIZE
+                && positions[1] == SquadSolver.GOALKEEPERS && positions[2] == SquadSolver.DEFENDERS
+                && positions[3] == SquadSolver.MIDFIELDERS && positions[4] == SquadSolver.FORWARDS
+                && squad.getCost() == squad.getPlayers().stream().mapToInt(ElementData::nowCost).sum()
+                && squad.getCost() <= budget
+                && clubs.values().stream().allMatch(count -> count <= TransferOptimizer.MAX_PER_CLUB);
+    }
+
+    /**
+     * Finds the best points of any valid squad by trying every combination of each position.
+     */
+    private double exhaustiveBest(int budget) {
+        List<List<List<ElementData>>> combinations = new ArrayList<>();
+        int[] quotas = {0, SquadSolver.GOALKEEPERS, SquadSolver.DEFENDERS, SquadSolver.MIDFIELDERS, SquadSolver.FORWARDS};
+        for (int position = 1; position <= 4; position++) {
+            int type = position;
+            List<ElementData> players = elements.values().stream().filter(e -> e.elementType() == type).toList();
+            List<List<ElementData>> picks = new ArrayList<>();
+            choose(players, quotas[position], 0, new ArrayList<>(), picks);
+            combinations.add(picks);
+        }
+        return best(combinations, 0, new ArrayList<>(), budget);
+    }
+
+    private double best(List<List<List<ElementData>>> combinations, int position, List<ElementData> squad, int budget) {
+        if (position == combinations.size()) {
+            Map<Integer, Integer> clubs = new HashMap<>();
+            int cost = 0;
+            double points = 0;
+            for (ElementData player : squad) {
+                clubs.merge(player.team(), 1, Integer::sum);
+                cost += player.nowCost();
+                points += projections.getTotal(player.id(), projections.getNextGW(), HORIZON);
+            }
+            boolean valid = cost <= budget && clubs.values().stream().allMatch(count -> count <= TransferOptimizer.MAX_PER_CLUB);
+            return valid ? points : Double.NEGATIVE_INFINITY;
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (List<ElementData> picks : combinations.get(position)) {
+            squad.addAll(picks);
+            best = Math.max(best, best(combinations, position + 1, squad, budget));
+            squad.subList(squad.size() - picks.size(), squad.size()).clear();
+        }
+        return best;
+    }
+
+    private static void choose(List<ElementData> players, int count, int start, List<ElementData> picked, List<List<ElementData>> result) {
+        if (picked.size() == count) {
+            result.add(new ArrayList<>(picked));
+            return;
+        }
+        for (int i = start; i < players.size(); i++) {
+            picked.add(players.get(i));
+            choose(players, count, i + 1, picked, result);
+            picked.remove(picked.size() - 1);
+        }
+    }
+}
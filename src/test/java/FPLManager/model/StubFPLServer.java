@@ -0,0 +1,223 @@
+package FPLManager.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local stand-in for the FPL API that serves the recorded payloads in 'src/test/resources/FPLManager/api'.
+ * An endpoint such as "entry/3907402/event/9/picks/" is served from "entry_3907402_event_9_picks.json".
+ * With validators enabled, responses carry an ETag and a Last-Modified date, and matching conditional requests get a 304.
+ */
+public class StubFPLServer implements AutoCloseable {
+    public static final List<String> RECORDED_ENDPOINTS = List.of("events/", "bootstrap-static/", "fixtures/", "fixtures/?event=10",
+            "entry/3907402/", "entry/3907402/event/9/picks/", "entry/3907402/transfers/", "entry/3907402/history/");
+    public static final int RECORDED_GAMEWEEK = 10;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> overrides = new ConcurrentHashMap<>();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile boolean validators;
+
+    /**
+     * The season-wide data of the recorded payloads, read without a server: every player and team,
+     * and the season's fixtures with their index and difficulty from gameweek {@value #RECORDED_GAMEWEEK} on.
+     */
+    public static class RecordedSeason {
+        private final Map<Integer, ElementData> elements;
+        private final Map<Integer, TeamData> teams;
+        private final ArrayList<ArrayList<String>> clubs;
+        private final List<Map<String, Object>> fixtures;
+        private final FixtureIndex fixtureIndex;
+        private final FixtureDifficulty fixtureDifficulty;
+
+        private RecordedSeason() throws IOException {
+            FPLTransport transport = new FPLTransport(FPLTransport.DEFAULT_BASE_URL);
+            this.teams = new HashMap<>();
+            try (JsonParser parser = transport.getObjectMapper().createParser(readResource("bootstrap-static/"))) {
+                this.elements = FPLAPI.readAllElements(parser, transport, this.teams);
+            }
+            this.clubs = new ArrayList<>();
+            for (int id = 1; this.teams.containsKey(id); id++) {
+                this.clubs.add(new ArrayList<>(List.of(this.teams.get(id).name(), this.teams.get(id).shortName())));
+            }
+            this.fixtures = transport.getObjectMapper().readValue(readResource("fixtures/"), new TypeReference<List<Map<String, Object>>>() {});
+            this.fixtureIndex = new FixtureIndex(this.fixtures, RECORDED_GAMEWEEK, this.clubs);
+            this.fixtureDifficulty = new FixtureDifficulty(this.fixtureIndex, this.teams);
+        }
+
+        // Getters
+        public Map<Integer, ElementData> getElements() { return this.elements; }
+        public Map<Integer, TeamData> getTeams() { return this.teams; }
+        public ArrayList<ArrayList<String>> getClubs() { return this.clubs; }
+        public List<Map<String, Object>> getFixtures() { return this.fixtures; }
+        public FixtureIndex getFixtureIndex() { return this.fixtureIndex; }
+        public FixtureDifficulty getFixtureDifficulty() { return this.fixtureDifficulty; }
+    }
+
+    public StubFPLServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.createContext("/api/", this::handle);
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    /**
+     * Serves a request from the overrides, or from the recorded payloads.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+        try {
+            respond(exchange);
+        } finally {
+            this.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Writes the response for a request.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void respond(HttpExchange exchange) throws IOException {
+        String endpoint = exchange.getRequestURI().getRawPath().substring("/api/".length());
+        if (exchange.getRequestURI().getRawQuery() != null) {
+            endpoint += "?" + exchange.getRequestURI().getRawQuery();
+        }
+        this.hits.computeIfAbsent(endpoint, k -> new AtomicInteger()).incrementAndGet();
+        sleep();
+
+        byte[] body = this.overrides.containsKey(endpoint) ? this.overrides.get(endpoint) : readResource(endpoint);
+        if (body == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        if (this.validators) {
+            String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.getResponseHeaders().add("Last-Modified", "Wed, 01 Oct 2025 10:00:00 GMT");
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                this.notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * Reads the recorded payload for an endpoint.
+     *
+     * @param endpoint the API endpoint
+     * @return the payload, or null if none is recorded
+     * @throws IOException if the resource cannot be read
+     */
+    public static byte[] readResource(String endpoint) throws IOException {
+        try (InputStream inputStream = StubFPLServer.class.getResourceAsStream("/FPLManager/api/" + resourceName(endpoint))) {
+            return inputStream == null ? null : inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * Reads the season-wide data of the recorded payloads. Every call reads them again, so tests may change the result.
+     *
+     * @return the recorded season
+     * @throws IOException if a resource cannot be read
+     */
+    public static RecordedSeason readSeason() throws IOException {
+        return new RecordedSeason();
+    }
+
+    /**
+     * Reads every recorded payload, keyed by endpoint, as a snapshot of gameweek {@value #RECORDED_GAMEWEEK}.
+     *
+     * @return the payloads
+     * @throws IOException if a resource cannot be read
+     */
+    public static Map<String, byte[]> readSnapshot() throws IOException {
+        Map<String, byte[]> snapshot = new HashMap<>();
+        for (String endpoint : RECORDED_ENDPOINTS) {
+            snapshot.put(endpoint, readResource(endpoint));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes the recorded payloads to a snapshot archive.
+     *
+     * @param path the path of the archive
+     * @return the path of the archive
+     * @throws IOException if the archive cannot be written
+     */
+    public static Path writeSnapshotArchive(Path path) throws IOException {
+        SnapshotArchive.write(path, Map.of(RECORDED_GAMEWEEK, readSnapshot()));
+        return path;
+    }
+
+    /**
+     * Maps an endpoint to the file name of its recorded payload.
+     *
+     * @param endpoint the API endpoint
+     * @return the file name
+     */
+    public static String resourceName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9-]+", "_").replaceAll("^_|_$", "") + ".json";
+    }
+
+    private void sleep() {
+        if (this.delayMillis > 0) {
+            try {
+                Thread.sleep(this.delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void setDelay(long delayMillis) { this.delayMillis = delayMillis; }
+    public void setValidators(boolean validators) { this.validators = validators; }
+    public int getNotModified() { return this.notModified.get(); }
+    public int getMaxInFlight() { return this.maxInFlight.get(); }
+    public void override(String endpoint, byte[] body) { this.overrides.put(endpoint, body); }
+    public int getHits(String endpoint) { return this.hits.containsKey(endpoint) ? this.hits.get(endpoint).get() : 0; }
+    public int getTotalHits() { return this.hits.values().stream().mapToInt(AtomicInteger::get).sum(); }
+    public String getBaseUrl() { return "http://127.0.0.1:" + this.server.getAddress().getPort() + "/api/"; }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+}
@@ -0,0 +1,181 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TransferOptimizerTest {
+    private static final int HORIZON = 5;
+
+    private Map<Integer, ElementData> elements;
+    private ProjectionEngine.Projections projections;
+    private List<Integer> squad;
+    private TransferOptimizer optimizer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StubFPLServer.RecordedSeason season = StubFPLServer.readSeason();
+        elements = season.getElements();
+        projections = new ProjectionEngine().project(elements.values(), season.getFixtureDifficulty());
+
+        Map<String, Object> picks = new ObjectMapper().readValue(StubFPLServer.readResource("entry/3907402/event/9/picks/"), new TypeReference<Map<String, Object>>() {});
+        squad = new ArrayList<>();
+        for (Object pick : (List<?>) picks.get("picks")) {
+            squad.add((Integer) ((Map<?, ?>) pick).get("element"));
+        }
+        optimizer = new TransferOptimizer(elements, projections, HORIZON);
+    }
+
+    @Test
+    void testMatchesExhaustiveSearch() {
+        for (int bank : new int[] {0, 15, 200}) {
+            List<TransferOptimizer.TransferPlan> plans = optimizer.optimize(squad, bank, 1, 3);
+            for (int transfers = 1; transfers <= 3; transfers++) {
+                int count = transfers;
+                double gain = plans.stream().filter(plan -> plan.getTransfers().size() == count)
+                        .mapToDouble(TransferOptimizer.TransferPlan::getPointsGain).findFirst().orElse(Double.NEGATIVE_INFINITY);
+                assertEquals(exhaustiveBest(bank, transfers, 0, new ArrayList<>(), new ArrayList<>()), gain, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testAssistantManagerIsNeverSold() {
+        ElementData any = elements.get(squad.get(0));
+        ElementData manager = new ElementData(9999, "Assistant", "Manager", "Manager", 5, any.team(), 15, 0, 0, null, "0.0", "0.0", 0, 0, 0, 0, 0, 0);
+        Map<Integer, ElementData> pool = new HashMap<>(elements);
+        pool.put(manager.id(), manager);
+        List<Integer> squadWithManager = new ArrayList<>(squad);
+        squadWithManager.add(manager.id());
+
+        List<TransferOptimizer.TransferPlan> expected = optimizer.optimize(squad, 15, 1, 2);
+        List<TransferOptimizer.TransferPlan> plans = new TransferOptimizer(pool, projections, HORIZON).optimize(squadWithManager, 15, 1, 2);
+        assertEquals(expected.size(), plans.size());
+        for (int i = 0; i < plans.size(); i++) {
+            assertEquals(expected.get(i).getNetGain(), plans.get(i).getNetGain(), 1e-9);
+            for (TransferOptimizer.Transfer transfer : plans.get(i).getTransfers()) {
+                assertTrue(transfer.getPlayerOut().id() != manager.id());
+            }
+        }
+    }
+
+    @Test
+    void testClubLimitAppliesToFinalSquad() {
+        TransferOptimizer.Transfer best = optimizer.optimize(squad, 200, 1, 1).get(0).getTransfers().get(0);
+        squad.remove((Integer) best.getPlayerOut().id());
+        squad.add(0, best.getPlayerOut().id());
+        int out = 0;
+        int club = 99;
+        Map<Integer, ElementData> pool = new HashMap<>(elements);
+        pool.put(best.getPlayerIn().id(), withTeam(best.getPlayerIn(), club));
+        for (int i = squad.size() - 1, moved = 0; moved < TransferOptimizer.MAX_PER_CLUB; i--) {
+            if (i != out) {
+                pool.put(squad.get(i), withTeam(elements.get(squad.get(i)), club));
+                moved++;
+            }
+        }
+        elements = pool;
+
+        TransferOptimizer clubOptimizer = new TransferOptimizer(pool, projections, HORIZON);
+        TransferOptimizer.TransferPlan plan = clubOptimizer.optimize(squad, 200, 2, 2).get(0);
+        assertEquals(exhaustiveBest(200, 2, 0, new ArrayList<>(), new ArrayList<>()), plan.getPointsGain(), 1e-9);
+        assertEquals(best.getPlayerIn().id(), plan.getTransfers().get(0).getPlayerIn().id());
+        assertEquals(club, plan.getTransfers().get(1).getPlayerOut().team());
+
+        for (int run = 0; run < 5; run++) {
+            List<TransferOptimizer.Transfer> again = clubOptimizer.optimize(squad, 200, 2, 2).get(0).getTransfers();
+            for (int i = 0; i < again.size(); i++) {
+                assertEquals(plan.getTransfers().get(i).getPlayerOut().id(), again.get(i).getPlayerOut().id());
+                assertEquals(plan.getTransfers().get(i).getPlayerIn().id(), again.get(i).getPlayerIn().id());
+            }
+        }
+    }
+
+    @Test
+    void testPlansRespectConstraints() {
+        List<TransferOptimizer.TransferPlan> plans = optimizer.optimize(squad, 15, 1, 3);
+
+        assertTrue(!plans.isEmpty());
+        for (int i = 1; i < plans.size(); i++) {
+            assertTrue(plans.get(i - 1).getNetGain() >= plans.get(i).getNetGain());
+        }
+        for (TransferOptimizer.TransferPlan plan : plans) {
+            List<Integer> ids = new ArrayList<>(squad);
+            for (TransferOptimizer.Transfer transfer : plan.getTransfers()) {
+                assertEquals(transfer.getPlayerOut().elementType(), transfer.getPlayerIn().elementType());
+                ids.remove((Integer) transfer.getPlayerOut().id());
+                ids.add(transfer.getPlayerIn().id());
+            }
+            assertEquals(15, ids.stream().distinct().count());
+            assertTrue(isValid(ids, 15 + squadCost(squad) - squadCost(ids)));
+            assertEquals(plan.getBank(), 15 + squadCost(squad) - squadCost(ids));
+            assertEquals(TransferOptimizer.HIT_COST * (plan.getTransfers().size() - 1), plan.getHitCost());
+        }
+        assertThrows(IllegalArgumentException.class, () -> optimizer.optimize(squad, 15, 1, 4));
+    }
+
+    /**
+     * Finds the best gain of any valid set of transfers by trying them all.
+     */
+    private double exhaustiveBest(int bank, int transfers, int firstOut, List<Integer> out, List<Integer> in) {
+        if (out.size() == transfers) {
+            List<Integer> ids = new ArrayList<>(squad);
+            ids.removeAll(out);
+            ids.addAll(in);
+            if (!isValid(ids, bank + squadCost(squad) - squadCost(ids))) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return ids.stream().mapToDouble(this::value).sum() - squad.stream().mapToDouble(this::value).sum();
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = firstOut; i < squad.size(); i++) {
+            ElementData playerOut = elements.get(squad.get(i));
+            for (ElementData playerIn : elements.values()) {
+                if (playerIn.elementType() != playerOut.elementType() || squad.contains(playerIn.id()) || in.contains(playerIn.id())) {
+                    continue;
+                }
+                out.add(playerOut.id());
+                in.add(playerIn.id());
+                best = Math.max(best, exhaustiveBest(bank, transfers, i + 1, out, in));
+                out.remove(out.size() - 1);
+                in.remove(in.size() - 1);
+            }
+        }
+        return best;
+    }
+
+    private boolean isValid(List<Integer> ids, int bank) {
+        Map<Integer, Integer> clubs = new HashMap<>();
+        for (int id : ids) {
+            clubs.merge(elements.get(id).team(), 1, Integer::sum);
+        }
+        return bank >= 0 && clubs.values().stream().allMatch(count -> count <= TransferOptimizer.MAX_PER_CLUB);
+    }
+
+    private static ElementData withTeam(ElementData element, int team) {
+        return new ElementData(element.id(), element.firstName(), element.secondName(), element.webName(), element.elementType(), team,
+                element.nowCost(), element.costChangeEvent(), element.eventPoints(), element.chanceOfPlayingNextRound(), element.pointsPerGame(),
+                element.selectedByPercent(), element.transfersInEvent(), element.transfersOutEvent(),
+                element.expectedGoalsPer90(), element.expectedAssistsPer90(), element.cleanSheetsPer90(), element.minutes());
+    }
+
+    private int squadCost(List<Integer> ids) {
+        return ids.stream().mapToInt(id -> elements.get(id).nowCost()).sum();
+    }
+
+    private double value(int id) {
+        return projections.getTotal(id, projections.getNextGW(), HORIZON);
+    }
+}
@@ -0,0 +1,78 @@
+package FPLManager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class UserStoreTest {
+    @TempDir
+    Path tempDir;
+
+    private Path logFile;
+
+    @BeforeEach
+    void setUp() {
+        logFile = tempDir.resolve("data").resolve(UserStore.LOG_FILE_NAME);
+    }
+
+    @Test
+    void testUsersSurviveReopen() throws IOException {
+        UserStore store = new UserStore(logFile);
+        store.add("Aibo FC", 3907402);
+        store.add("Ærlig Talt", 42);
+        store.add("Aibo FC", 3907403);
+
+        UserStore reopened = new UserStore(logFile);
+        assertEquals(3907403, reopened.find("Aibo FC"));
+        assertEquals(42, reopened.find("Ærlig Talt"));
+        assertEquals(-1, reopened.find("aibo fc"));
+        assertEquals(2, reopened.size());
+    }
+
+    @Test
+    void testSearchIgnoresCase() throws IOException {
+        UserStore store = new UserStore(logFile);
+        store.add("Klopp's Kids", 1);
+        store.add("kloppites", 2);
+        store.add("KLOPPED", 3);
+        store.add("Salah Days", 4);
+
+        assertEquals(List.of("Klopp's Kids", "KLOPPED", "kloppites"), store.search("klop", 10));
+        assertEquals(List.of("Klopp's Kids"), store.search("KLOP", 1));
+        assertEquals(List.of("Salah Days"), store.search("s", 10));
+        assertTrue(store.search("x", 10).isEmpty());
+    }
+
+    @Test
+    void testCompactionDropsReplacedLines() throws IOException {
+        UserStore store = new UserStore(logFile);
+        for (int i = 0; i < 10; i++) {
+            store.add("Team " + (i % 2), i);
+        }
+        assertEquals(10, store.getLogRecords());
+
+        UserStore reopened = new UserStore(logFile);
+        assertEquals(2, reopened.getLogRecords());
+        assertEquals(2, Files.readAllLines(logFile).size());
+        assertEquals(8, reopened.find("Team 0"));
+        assertEquals(9, reopened.find("Team 1"));
+    }
+
+    @Test
+    void testInvalidNamesAreRejected() throws IOException {
+        UserStore store = new UserStore(logFile);
+        assertThrows(IllegalArgumentException.class, () -> store.add("Comma, FC", 1));
+        assertThrows(IllegalArgumentException.class, () -> store.add("Line\nBreak", 1));
+        assertThrows(IllegalArgumentException.class, () -> store.add(" ", 1));
+        assertEquals(0, store.size());
+    }
+}